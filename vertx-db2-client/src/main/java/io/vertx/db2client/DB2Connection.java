@@ -25,6 +25,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.db2client.impl.DB2ConnectionImpl;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
@@ -104,6 +105,9 @@ public interface DB2Connection extends SqlConnection {
     @Override
     <R> DB2Connection preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+    @Override
+    DB2Connection preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
     /**
      * Send a PING command to check if the server is alive.
      *
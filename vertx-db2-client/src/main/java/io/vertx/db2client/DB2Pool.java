@@ -26,6 +26,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.db2client.impl.DB2PoolImpl;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
@@ -113,6 +114,9 @@ public interface DB2Pool extends Pool {
     @Override
     <R> DB2Pool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+    @Override
+    DB2Pool preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
     @Override
     DB2Pool preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler);
 
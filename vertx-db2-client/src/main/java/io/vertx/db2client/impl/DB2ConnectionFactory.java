@@ -29,6 +29,10 @@ import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 
 public class DB2ConnectionFactory implements ConnectionFactory {
     private final NetClient netClient;
@@ -67,12 +71,23 @@ public class DB2ConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  public void doConnect(Promise<Connection> promise) {
+  @Override
+  public CommandBase<?> createValidationCommand() {
+    // DB2 rejects an empty statement
+    return new SimpleQueryCommand<>("SELECT 1 FROM SYSIBM.SYSDUMMY1", false, true, QueryCommandBase.NULL_COLLECTOR, QueryResultHandler.NOOP_HANDLER);
+  }
+
+  public void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(port, host);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
@@ -24,16 +24,20 @@ import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.PoolBase;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
-import io.vertx.sqlclient.impl.pool.ConnectionPool;
+import io.vertx.sqlclient.impl.pool.ShardedConnectionPool;
 
 public class DB2PoolImpl extends PoolBase<DB2PoolImpl> implements DB2Pool {
     private final DB2ConnectionFactory factory;
-    private final ConnectionPool pool;
+    private final ShardedConnectionPool pool;
 
     public DB2PoolImpl(ContextInternal context, boolean closeVertx, DB2ConnectOptions connectOptions, PoolOptions poolOptions) {
-        super(context.owner(), closeVertx);
+        super(context.owner(), closeVertx, connectOptions, poolOptions);
+        if (poolOptions.getCachePreparedStatements() && !connectOptions.getCachePreparedStatements()) {
+            connectOptions = new DB2ConnectOptions(connectOptions);
+            connectOptions.setCachePreparedStatements(true);
+        }
         this.factory = new DB2ConnectionFactory(context.owner(), context, connectOptions);
-        this.pool = new ConnectionPool(factory, context, poolOptions.getMaxSize(), poolOptions.getMaxWaitQueueSize());
+        this.pool = new ShardedConnectionPool(factory, context, poolOptions, metrics());
     }
 
     @Override
@@ -46,6 +50,21 @@ public class DB2PoolImpl extends PoolBase<DB2PoolImpl> implements DB2Pool {
       pool.acquire(completionHandler);
     }
 
+    @Override
+    public void acquire(Handler<AsyncResult<Connection>> completionHandler, long timeout) {
+        pool.acquire(completionHandler, timeout);
+    }
+
+    @Override
+    public void acquire(Handler<AsyncResult<Connection>> completionHandler, String sql) {
+        pool.acquire(completionHandler, sql);
+    }
+
+    @Override
+    protected void doWarmUp(Handler<AsyncResult<Void>> completionHandler) {
+        pool.warmUp().onComplete(completionHandler);
+    }
+
   @SuppressWarnings("rawtypes")
     @Override
     protected SqlConnectionImpl wrap(ContextInternal context, Connection conn) {
@@ -42,6 +42,9 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "";
   public static final String DEFAULT_SCHEMA = "";
   public static final Map<String, String> DEFAULT_PROPERTIES;
+  public static final int MIN_PACKET_SIZE = 512;
+  public static final int MAX_PACKET_SIZE = 32767;
+  public static final int DEFAULT_PACKET_SIZE = 4096;
 
   static {
     Map<String, String> defaultProperties = new HashMap<>();
@@ -50,6 +53,8 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     DEFAULT_PROPERTIES = defaultProperties;
   }
 
+  private int packetSize;
+
   public MSSQLConnectOptions() {
     super();
   }
@@ -61,6 +66,29 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
 
   public MSSQLConnectOptions(MSSQLConnectOptions other) {
     super(other);
+    packetSize = other.packetSize;
+  }
+
+  /**
+   * @return the requested TDS packet size
+   */
+  public int getPacketSize() {
+    return packetSize;
+  }
+
+  /**
+   * Set the TDS packet size requested to the server when the connection is established, the server might
+   * choose another size. Larger packets reduce the number of packets of large requests and results.
+   *
+   * @param packetSize the packet size, between {@code 512} and {@code 32767} bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MSSQLConnectOptions setPacketSize(int packetSize) {
+    if (packetSize < MIN_PACKET_SIZE || packetSize > MAX_PACKET_SIZE) {
+      throw new IllegalArgumentException("Packet size must be between " + MIN_PACKET_SIZE + " and " + MAX_PACKET_SIZE);
+    }
+    this.packetSize = packetSize;
+    return this;
   }
 
   @Override
@@ -318,6 +346,7 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     this.setPassword(DEFAULT_PASSWORD);
     this.setDatabase(DEFAULT_SCHEMA);
     this.setProperties(new HashMap<>(DEFAULT_PROPERTIES));
+    this.packetSize = DEFAULT_PACKET_SIZE;
   }
 
   @Override
@@ -19,6 +19,7 @@ import io.vertx.mssqlclient.impl.MSSQLConnectionImpl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
@@ -122,6 +123,13 @@ public interface MSSQLConnection extends SqlConnection {
   @Override
   <R> MSSQLConnection preparedQuery(String s, Tuple tuple, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  /**
+   * {@inheritDoc}
+   */
+  @Fluent
+  @Override
+  MSSQLConnection preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
   /**
    * {@inheritDoc}
    */
@@ -98,6 +98,13 @@ public interface MSSQLPool extends Pool {
   @Override
   <R> MSSQLPool preparedQuery(String s, Tuple tuple, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  /**
+   * {@inheritDoc}
+   */
+  @Fluent
+  @Override
+  MSSQLPool preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
   /**
    * {@inheritDoc}
    */
@@ -34,6 +34,10 @@ class MSSQLConnectionFactory implements ConnectionFactory {
   private final String password;
   private final String database;
   private final Map<String, String> properties;
+  final boolean cachePreparedStatements;
+  private final int preparedStatementCacheSize;
+  private final int preparedStatementCacheSqlLimit;
+  private final int packetSize;
 
   MSSQLConnectionFactory(Vertx vertx, ContextInternal context, MSSQLConnectOptions options) {
     NetClientOptions netClientOptions = new NetClientOptions(options);
@@ -45,22 +49,31 @@ class MSSQLConnectionFactory implements ConnectionFactory {
     this.password = options.getPassword();
     this.database = options.getDatabase();
     this.properties = new HashMap<>(options.getProperties());
+    this.cachePreparedStatements = options.getCachePreparedStatements();
+    this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
+    this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
+    this.packetSize = options.getPacketSize();
     this.netClient = vertx.createNetClient(netClientOptions);
   }
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  public void doConnect(Promise<Connection> promise) {
+  public void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(port, host);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
-        MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, false, 0, 0, 1, context);
+        MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, 1, packetSize, context);
         conn.init();
         conn.sendPreLoginMessage(false, preLogin -> {
           if (preLogin.succeeded()) {
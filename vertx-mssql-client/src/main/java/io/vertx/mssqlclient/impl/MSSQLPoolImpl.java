@@ -22,16 +22,20 @@ import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.PoolBase;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
-import io.vertx.sqlclient.impl.pool.ConnectionPool;
+import io.vertx.sqlclient.impl.pool.ShardedConnectionPool;
 
 public class MSSQLPoolImpl extends PoolBase<MSSQLPoolImpl> implements MSSQLPool {
-  private final MSSQLConnectionFactory connectionFactory;
-  private final ConnectionPool pool;
+  final MSSQLConnectionFactory connectionFactory;
+  private final ShardedConnectionPool pool;
 
   public MSSQLPoolImpl(ContextInternal context, boolean closeVertx, MSSQLConnectOptions connectOptions, PoolOptions poolOptions) {
-    super(context.owner(), closeVertx);
+    super(context.owner(), closeVertx, connectOptions, poolOptions);
+    if (poolOptions.getCachePreparedStatements() && !connectOptions.getCachePreparedStatements()) {
+      connectOptions = new MSSQLConnectOptions(connectOptions);
+      connectOptions.setCachePreparedStatements(true);
+    }
     this.connectionFactory = new MSSQLConnectionFactory(context.owner(), context, connectOptions);
-    this.pool = new ConnectionPool(connectionFactory, context, poolOptions.getMaxSize(), poolOptions.getMaxWaitQueueSize());
+    this.pool = new ShardedConnectionPool(connectionFactory, context, poolOptions, metrics());
   }
 
   @Override
@@ -44,6 +48,21 @@ public class MSSQLPoolImpl extends PoolBase<MSSQLPoolImpl> implements MSSQLPool
     pool.acquire(completionHandler);
   }
 
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, long timeout) {
+    pool.acquire(completionHandler, timeout);
+  }
+
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, String sql) {
+    pool.acquire(completionHandler, sql);
+  }
+
+  @Override
+  protected void doWarmUp(Handler<AsyncResult<Void>> completionHandler) {
+    pool.warmUp().onComplete(completionHandler);
+  }
+
   @Override
   protected SqlConnectionImpl wrap(ContextInternal context, Connection connection) {
     return new MSSQLConnectionImpl(connectionFactory, context, connection);
@@ -28,13 +28,18 @@ import io.vertx.sqlclient.impl.command.InitCommand;
 import java.util.Map;
 
 class MSSQLSocketConnection extends SocketConnectionBase {
+
+  private final int packetSize;
+
   MSSQLSocketConnection(NetSocketInternal socket,
                         boolean cachePreparedStatements,
                         int preparedStatementCacheSize,
                         int preparedStatementCacheSqlLimit,
                         int pipeliningLimit,
+                        int packetSize,
                         ContextInternal context) {
     super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
+    this.packetSize = packetSize;
   }
 
   // command response should show what capabilities server provides
@@ -55,7 +60,7 @@ class MSSQLSocketConnection extends SocketConnectionBase {
   @Override
   public void init() {
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
-    MSSQLCodec.initPipeLine(pipeline);
+    MSSQLCodec.initPipeLine(pipeline, packetSize);
     super.init();
   }
 }
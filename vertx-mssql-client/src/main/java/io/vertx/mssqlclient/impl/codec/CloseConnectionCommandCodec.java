@@ -11,7 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.command.CloseConnectionCommand;
 
 class CloseConnectionCommandCodec extends MSSQLCommandCodec<Void, CloseConnectionCommand> {
@@ -26,7 +26,7 @@ class CloseConnectionCommandCodec extends MSSQLCommandCodec<Void, CloseConnectio
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+  void decodeToken(int tokenType, ByteBuf payload) {
     // connection has been closed
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.impl.command.CloseCursorCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+class CloseCursorCommandCodec extends MSSQLCommandCodec<Void, CloseCursorCommand> {
+
+  CloseCursorCommandCodec(CloseCursorCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    MSSQLPreparedStatement statement = (MSSQLPreparedStatement) cmd.statement();
+    MSSQLCursor cursor = statement.cursors.remove(cmd.id());
+    if (cursor == null) {
+      // the cursor has never been opened on the server
+      completionHandler.handle(CommandResponse.success(null));
+    } else {
+      sendCursorCloseRequest(cursor.handle);
+    }
+  }
+
+  @Override
+  void decodeToken(int tokenByte, ByteBuf messageBody) {
+    switch (tokenByte) {
+      case DataPacketStreamTokenType.DONE_TOKEN:
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+        messageBody.skipBytes(12);
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        messageBody.skipBytes(12);
+        break;
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        messageBody.skipBytes(4);
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        messageBody.skipBytes(messageBody.readUnsignedShortLE());
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
+    }
+  }
+
+  private void sendCursorCloseRequest(int handle) {
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0, payload -> {
+      encodeAllHeaders(payload);
+      encodeHandleProcedureCall(payload, ProcId.Sp_CursorClose, handle);
+    });
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+class CloseStatementCommandCodec extends MSSQLCommandCodec<Void, CloseStatementCommand> {
+
+  private static final int BATCH_FLAG = 0xFF;
+
+  // number of procedure calls whose response has not been decoded
+  private int calls;
+
+  CloseStatementCommandCodec(CloseStatementCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    MSSQLPreparedStatement statement = (MSSQLPreparedStatement) cmd.statement();
+    // the cursors left open are closed with the statement
+    int[] cursors = statement.cursors.values().stream().mapToInt(cursor -> cursor.handle).toArray();
+    statement.cursors.clear();
+    // the statement has been prepared once per set of parameter definitions it has been executed with
+    int[] handles = statement.handles.values().stream().mapToInt(Integer::intValue).toArray();
+    statement.handles.clear();
+    calls = cursors.length + handles.length;
+    if (calls == 0) {
+      // the statement has never been prepared on the server
+      completionHandler.handle(CommandResponse.success(null));
+    } else {
+      sendCloseRequest(handles, cursors);
+    }
+  }
+
+  @Override
+  void decodeToken(int tokenByte, ByteBuf messageBody) {
+    switch (tokenByte) {
+      case DataPacketStreamTokenType.DONE_TOKEN:
+        messageBody.skipBytes(12);
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+        messageBody.skipBytes(12);
+        if (--calls == 0) {
+          handleDoneToken();
+        }
+        break;
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        messageBody.skipBytes(12);
+        break;
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        messageBody.skipBytes(4);
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        messageBody.skipBytes(messageBody.readUnsignedShortLE());
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
+    }
+  }
+
+  private void sendCloseRequest(int[] handles, int[] cursors) {
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0, payload -> {
+      encodeAllHeaders(payload);
+      for (int i = 0; i < cursors.length; i++) {
+        if (i > 0) {
+          payload.writeByte(BATCH_FLAG);
+        }
+        encodeHandleProcedureCall(payload, ProcId.Sp_CursorClose, cursors[i]);
+      }
+      for (int i = 0; i < handles.length; i++) {
+        if (i > 0 || cursors.length > 0) {
+          payload.writeByte(BATCH_FLAG);
+        }
+        encodeHandleProcedureCall(payload, ProcId.Sp_Unprepare, handles[i]);
+      }
+    });
+  }
+}
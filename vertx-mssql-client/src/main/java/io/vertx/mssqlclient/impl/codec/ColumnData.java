@@ -40,6 +40,13 @@ public final class ColumnData {
     return flags;
   }
 
+  /**
+   * @return whether the column is only used by the server, e.g. the {@code ROWSTAT} column of a server cursor
+   */
+  public boolean isHidden() {
+    return (flags & 0x2000) != 0;
+  }
+
   public MSSQLDataType dataType() {
     return dataType;
   }
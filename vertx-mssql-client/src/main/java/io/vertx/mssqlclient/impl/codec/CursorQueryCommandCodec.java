@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+
+/**
+ * Execute a query with a server cursor: the first read opens a fast forward cursor with {@code sp_cursoropen} and
+ * the first rows are fetched with its response, the following reads fetch the next rows with {@code sp_cursorfetch}.
+ * <p>
+ * The cursor is suspended when a read returns as many rows as requested, the last read of a cursor whose row count
+ * is a multiple of the fetch size returns no rows.
+ */
+class CursorQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T, ExtendedQueryCommand<T>> {
+
+  // sp_cursoropen scroll options
+  private static final int SCROLLOPT_FAST_FORWARD = 0x0010;
+  private static final int SCROLLOPT_PARAMETERIZED_STMT = 0x1000;
+  private static final int SCROLLOPT_AUTO_FETCH = 0x2000;
+  // sp_cursoropen concurrency options
+  private static final int CCOPT_READ_ONLY = 0x0001;
+  // sp_cursorfetch fetch type
+  private static final int FETCHTYPE_NEXT = 0x0002;
+
+  private MSSQLCursor cursor;
+  // handle of the cursor opened by the request
+  private Integer handle;
+
+  CursorQueryCommandCodec(ExtendedQueryCommand<T> cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    cursor = ps.cursors.get(cmd.cursorId());
+    if (cursor == null) {
+      if (cmd.isSuspended()) {
+        completionHandler.handle(CommandResponse.failure("Cursor " + cmd.cursorId() + " is not open"));
+        return;
+      }
+      encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0, payload -> {
+        encodeAllHeaders(payload);
+        encodeCursorOpen(payload, cmd.params());
+      });
+    } else {
+      if (cursor.rowDesc != null) {
+        rowResultDecoder = new RowResultDecoder<>(cmd.collector(), cursor.rowDesc);
+      }
+      encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0, payload -> {
+        encodeAllHeaders(payload);
+        encodeCursorFetch(payload, cursor.handle);
+      });
+    }
+  }
+
+  @Override
+  void decodeToken(int tokenByte, ByteBuf messageBody) {
+    if (tokenByte == DataPacketStreamTokenType.COLMETADATA_TOKEN && rowResultDecoder != null) {
+      // the rows of the response are accumulated in the same result
+      if (messageBody.getUnsignedShortLE(messageBody.readerIndex()) == NO_METADATA) {
+        messageBody.skipBytes(2);
+      } else {
+        rowResultDecoder.desc = decodeColmetadataToken(messageBody);
+      }
+    } else {
+      super.decodeToken(tokenByte, messageBody);
+    }
+  }
+
+  @Override
+  protected void handleResultSetDone(int affectedRows) {
+    // the statements executed by the cursor procedures have no result, the rows are reported with the procedure
+  }
+
+  @Override
+  void handleOutputParameter(int value) {
+    if (cursor == null && handle == null) {
+      handle = value;
+    }
+  }
+
+  @Override
+  void handleDoneProc() {
+    int rows = rowResultDecoder != null ? rowResultDecoder.size() : 0;
+    // the cursor is not opened when sp_cursoropen fails or returns no handle
+    if (failure == null && handle != null && handle != 0) {
+      ps.cursors.put(cmd.cursorId(), new MSSQLCursor(handle, rowResultDecoder != null ? rowResultDecoder.desc : null));
+    }
+    super.handleResultSetDone(rows);
+    result = rows == cmd.fetch();
+    handleDoneToken();
+  }
+
+  private void encodeCursorOpen(ByteBuf payload, Tuple params) {
+    boolean parameterized = params.size() > 0;
+
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(ProcId.Sp_CursorOpen);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Parameter
+
+    // OUT Cursor
+    payload.writeByte(0x00);
+    payload.writeByte(0x01); // By reference
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04);
+    payload.writeByte(0x04);
+    payload.writeIntLE(0x00);
+
+    // SQL text
+    encodeNVarcharParameter(payload, cmd.sql());
+
+    // Scroll options
+    int scrollOptions = SCROLLOPT_FAST_FORWARD | SCROLLOPT_AUTO_FETCH;
+    if (parameterized) {
+      scrollOptions |= SCROLLOPT_PARAMETERIZED_STMT;
+    }
+    encodeIntNParameter(payload, 4, scrollOptions);
+
+    // Concurrency options
+    encodeIntNParameter(payload, 4, CCOPT_READ_ONLY);
+
+    // Row count fetched with the response
+    encodeIntNParameter(payload, 4, cmd.fetch());
+
+    if (parameterized) {
+      // Param definitions
+      encodeNVarcharParameter(payload, parseParamDefinitions(params));
+
+      // Param values
+      encodeParamValues(payload, params);
+    }
+  }
+
+  private void encodeCursorFetch(ByteBuf payload, int handle) {
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(ProcId.Sp_CursorFetch);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Parameter
+
+    // Cursor
+    encodeIntNParameter(payload, 4, handle);
+
+    // Fetch type
+    encodeIntNParameter(payload, 4, FETCHTYPE_NEXT);
+
+    // Row number, not used by FETCH_NEXT
+    encodeIntNParameter(payload, 4, 0);
+
+    // Row count
+    encodeIntNParameter(payload, 4, cmd.fetch());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedBatchQueryCommand;
+
+import java.util.List;
+
+/**
+ * Execute the batch with a single RPC request message carrying a call per set of parameters, the result of each
+ * call is added to the result chain.
+ */
+class ExtendedBatchQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T, ExtendedBatchQueryCommand<T>> {
+
+  private static final int BATCH_FLAG = 0xFF;
+
+  private final List<Tuple> params;
+  // number of calls whose response has been decoded
+  private int executed;
+
+  ExtendedBatchQueryCommandCodec(ExtendedBatchQueryCommand<T> cmd) {
+    super(cmd);
+    params = cmd.params();
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    if (params.isEmpty()) {
+      completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
+      return;
+    }
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0, payload -> {
+      encodeAllHeaders(payload);
+      for (int i = 0; i < params.size(); i++) {
+        if (i > 0) {
+          payload.writeByte(BATCH_FLAG);
+        }
+        Tuple param = params.get(i);
+        String paramDefinitions = parseParamDefinitions(param);
+        if (isPrepared(paramDefinitions)) {
+          encodeExecute(payload, paramDefinitions, param);
+        } else if (prepareDefinitions == null) {
+          encodePrepexec(payload, paramDefinitions, param);
+        } else {
+          // the handle of the statement prepared by this request is not known yet
+          encodeExecuteSql(payload, paramDefinitions, param);
+        }
+      }
+    });
+  }
+
+  @Override
+  void handleDoneProc() {
+    if (++executed == params.size()) {
+      handleDoneToken();
+    }
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataType;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommandBase;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+import static io.vertx.mssqlclient.impl.codec.MSSQLDataTypeCodec.inferenceParamDefinitionByValueType;
+
+abstract class ExtendedQueryCommandBaseCodec<T, C extends ExtendedQueryCommandBase<T>> extends QueryCommandBaseCodec<T, C> {
+
+  final MSSQLPreparedStatement ps;
+  // parameter definitions sent with sp_prepexec, the handle returned by the server is prepared with them
+  String prepareDefinitions;
+
+  ExtendedQueryCommandBaseCodec(C cmd) {
+    super(cmd);
+    ps = (MSSQLPreparedStatement) cmd.preparedStatement();
+  }
+
+  @Override
+  void decodeToken(int tokenByte, ByteBuf messageBody) {
+    switch (tokenByte) {
+      case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+        MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
+        rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
+        break;
+      case DataPacketStreamTokenType.ROW_TOKEN:
+        handleRow(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONE_TOKEN:
+        messageBody.skipBytes(12); // this should only be after ERROR_TOKEN?
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        int infoTokenLength = messageBody.readUnsignedShortLE();
+        //TODO not used for now
+        messageBody.skipBytes(infoTokenLength);
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+        handleEnvChangeToken(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        short status = messageBody.readShortLE();
+        short curCmd = messageBody.readShortLE();
+        long doneRowCount = messageBody.readLongLE();
+        handleResultSetDone((int) doneRowCount);
+        break;
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+        // the return value carrying the handle is sent after the result, the call completes with the procedure
+        messageBody.skipBytes(12);
+        handleDoneProc();
+        break;
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        messageBody.skipBytes(4);
+        break;
+      case DataPacketStreamTokenType.RETURNVALUE_TOKEN:
+        handleReturnValue(messageBody);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
+    }
+  }
+
+  @Override
+  int tokenEnd(int tokenType, ByteBuf payload, int index) {
+    if (tokenType == DataPacketStreamTokenType.RETURNVALUE_TOKEN) {
+      index = skip(payload, index, 2); // ParamOrdinal
+      index = skipByteLen(payload, index, 2); // ParamName
+      index = skip(payload, index, 1 + 4 + 2); // Status, UserType and Flags
+      int typeInfoIndex = index;
+      index = typeInfoEnd(payload, index);
+      if (index == -1) {
+        return -1;
+      }
+      return MSSQLDataTypeCodec.valueEnd(payload.getUnsignedByte(typeInfoIndex), payload, index);
+    }
+    return super.tokenEnd(tokenType, payload, index);
+  }
+
+  /**
+   * Handle the end of an RPC call of the request.
+   */
+  abstract void handleDoneProc();
+
+  /**
+   * @return whether the handle of the statement can execute the parameters with the given definitions
+   */
+  boolean isPrepared(String paramDefinitions) {
+    // the parameter types are inferred from the values, a handle can only be reused with the same definitions
+    return ps.handles.containsKey(paramDefinitions);
+  }
+
+  private void handleReturnValue(ByteBuf payload) {
+    payload.skipBytes(2); // ParamOrdinal
+    readByteLenVarchar(payload); // ParamName
+    payload.skipBytes(1 + 4 + 2); // Status, UserType and Flags
+    MSSQLDataType dataType = decodeDataTypeMetadata(payload);
+    Object value = MSSQLDataTypeCodec.decode(dataType, payload);
+    if (value instanceof Integer) {
+      handleOutputParameter((Integer) value);
+    }
+  }
+
+  /**
+   * Handle an {@code int} output parameter returned by the request.
+   */
+  void handleOutputParameter(int value) {
+    // the handle of the statement prepared by sp_prepexec, it is kept along the handles prepared with other
+    // definitions until the statement is closed
+    if (value != 0) {
+      ps.handles.put(prepareDefinitions, value);
+    }
+  }
+
+  /**
+   * Encode an {@code sp_prepexec} call preparing the statement with the given parameter definitions.
+   */
+  void encodePrepexec(ByteBuf payload, String paramDefinitions, Tuple params) {
+    prepareDefinitions = paramDefinitions;
+
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(ProcId.Sp_PrepExec);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Parameter
+
+    // OUT Parameter
+    payload.writeByte(0x00);
+    payload.writeByte(0x01); // By reference
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04);
+    payload.writeByte(0x04);
+    payload.writeIntLE(0x00);
+
+    // Param definitions
+    encodeNVarcharParameter(payload, paramDefinitions);
+
+    // SQL text
+    encodeNVarcharParameter(payload, cmd.sql());
+
+    // Param values
+    encodeParamValues(payload, params);
+  }
+
+  /**
+   * Encode an {@code sp_execute} call with the handle of the statement prepared with the given parameter definitions.
+   */
+  void encodeExecute(ByteBuf payload, String paramDefinitions, Tuple params) {
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(ProcId.Sp_Execute);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Parameter
+
+    // Handle
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04);
+    payload.writeByte(0x04);
+    payload.writeIntLE(ps.handles.get(paramDefinitions));
+
+    // Param values
+    encodeParamValues(payload, params);
+  }
+
+  /**
+   * Encode an {@code sp_executesql} call, the statement is not prepared.
+   */
+  void encodeExecuteSql(ByteBuf payload, String paramDefinitions, Tuple params) {
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(ProcId.Sp_ExecuteSql);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Parameter
+
+    // SQL text
+    encodeNVarcharParameter(payload, cmd.sql());
+
+    // Param definitions
+    encodeNVarcharParameter(payload, paramDefinitions);
+
+    // Param values
+    encodeParamValues(payload, params);
+  }
+
+  void encodeParamValues(ByteBuf payload, Tuple params) {
+    for (int i = 0; i < params.size(); i++) {
+      encodeParamValue(payload, params.getValue(i));
+    }
+  }
+
+  String parseParamDefinitions(Tuple params) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int i = 0; i < params.size(); i++) {
+      Object param = params.getValue(i);
+      stringBuilder.append("@P").append(i + 1).append(" ");
+      stringBuilder.append(inferenceParamDefinitionByValueType(param));
+      if (i != params.size() - 1) {
+        stringBuilder.append(",");
+      }
+    }
+    return stringBuilder.toString();
+  }
+
+  void encodeNVarcharParameter(ByteBuf payload, String value) {
+    payload.writeByte(0x00); // name length
+    payload.writeByte(0x00); // status flags
+    payload.writeByte(MSSQLDataTypeId.NVARCHARTYPE_ID);
+    payload.writeShortLE(8000); // maximal length
+    payload.writeByte(0x09);
+    payload.writeByte(0x04);
+    payload.writeByte(0xd0);
+    payload.writeByte(0x00);
+    payload.writeByte(0x34); // Collation for param definitions TODO always this value?
+    writeUnsignedShortLenVarChar(payload, value);
+  }
+
+  private void encodeParamValue(ByteBuf payload, Object value) {
+    if (value == null) {
+      encodeNullParameter(payload);
+    } else if (value instanceof Byte) {
+      encodeIntNParameter(payload, 1, value);
+    } else if (value instanceof Short) {
+      encodeIntNParameter(payload, 2, value);
+    } else if (value instanceof Integer) {
+      encodeIntNParameter(payload, 4, value);
+    } else if (value instanceof Long) {
+      encodeIntNParameter(payload, 8, value);
+    } else if (value instanceof Float) {
+      encodeFloat4Parameter(payload, (Float) value);
+    } else if (value instanceof Double) {
+      encodeFloat8Parameter(payload, (Double) value);
+    } else if (value instanceof String) {
+      encodeNVarcharParameter(payload, (String) value);
+    } else if (value instanceof Boolean) {
+      encodeBitNParameter(payload, (Boolean) value);
+    } else if (value instanceof LocalDate) {
+      encodeDateNParameter(payload, (LocalDate) value);
+    } else if (value instanceof LocalTime) {
+      encodeTimeNParameter(payload, (LocalTime) value, (byte) 6);
+    } else if (value instanceof Numeric) {
+      encodeNumericParameter(payload, (Numeric) value);
+    } else {
+      throw new UnsupportedOperationException("Unsupported type");
+    }
+  }
+
+  private void encodeNullParameter(ByteBuf payload) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.NVARCHARTYPE_ID);
+    payload.writeShortLE(8000); // maximal length
+    payload.writeByte(0x09);
+    payload.writeByte(0x04);
+    payload.writeByte(0xd0);
+    payload.writeByte(0x00);
+    payload.writeByte(0x34); // Collation for param definitions TODO always this value?
+    payload.writeShortLE(0xFFFF);
+  }
+
+  void encodeIntNParameter(ByteBuf payload, int n, Object value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(n);
+    payload.writeByte(n);
+    switch (n) {
+      case 1:
+        payload.writeByte((Byte) value);
+        break;
+      case 2:
+        payload.writeShortLE((Short) value);
+        break;
+      case 4:
+        payload.writeIntLE((Integer) value);
+        break;
+      case 8:
+        payload.writeLongLE((Long) value);
+        break;
+      default:
+        throw new UnsupportedOperationException();
+    }
+  }
+
+  private void encodeBitNParameter(ByteBuf payload, Boolean bit) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.BITNTYPE_ID);
+    payload.writeByte(1);
+    payload.writeByte(1);
+    payload.writeBoolean(bit);
+  }
+
+  private void encodeFloat4Parameter(ByteBuf payload, Float value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.FLTNTYPE_ID);
+    payload.writeByte(4);
+    payload.writeByte(4);
+    payload.writeFloatLE(value);
+  }
+
+  private void encodeFloat8Parameter(ByteBuf payload, Double value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.FLTNTYPE_ID);
+    payload.writeByte(8);
+    payload.writeByte(8);
+    payload.writeDoubleLE(value);
+  }
+
+  private void encodeDateNParameter(ByteBuf payload, LocalDate date) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.DATENTYPE_ID);
+    if (date == null) {
+      // null
+      payload.writeByte(0);
+    } else {
+      payload.writeByte(3);
+      long days = ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, date);
+      payload.writeMediumLE((int) days);
+    }
+  }
+
+  private void encodeTimeNParameter(ByteBuf payload, LocalTime time, byte scale) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.TIMENTYPE_ID);
+
+    payload.writeByte(scale); //FIXME scale?
+    if (time == null) {
+      payload.writeByte(0);
+    } else {
+      int length;
+      if (scale <= 2) {
+        length = 3;
+      } else if (scale <= 4) {
+        length = 4;
+      } else {
+        length = 5;
+      }
+      payload.writeByte(length);
+      long nanos = time.getNano();
+      int seconds = time.toSecondOfDay();
+      long value = (long) ((long) seconds * Math.pow(10, scale) + nanos);
+      encodeInt40(payload, value);
+    }
+  }
+
+  private void encodeInt40(ByteBuf buffer, long value) {
+    int index = buffer.writerIndex();
+    buffer.setByte(index, (byte) value);
+    buffer.setByte(index + 1, (byte) (value >>> 8));
+    buffer.setByte(index + 2, (byte) (value >>> 16));
+    buffer.setByte(index + 3, (byte) (value >>> 24));
+    buffer.setByte(index + 4, (byte) (value >>> 32));
+    buffer.writerIndex(index + 5);
+  }
+
+  private void encodeNumericParameter(ByteBuf buffer, Numeric value) {
+    //TODO we may need some changes in Numeric to make this work
+    throw new UnsupportedOperationException();
+  }
+}
@@ -15,7 +15,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
 import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
 import io.vertx.mssqlclient.impl.utils.Utils;
@@ -38,26 +37,26 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
-    ByteBuf messageBody = message.content();
-    while (messageBody.isReadable()) {
-      int tokenType = messageBody.readUnsignedByte();
-      switch (tokenType) {
-        //FIXME complete all the logic here
-        case DataPacketStreamTokenType.LOGINACK_TOKEN:
-          result = cmd.connection();
-          break;
-        case DataPacketStreamTokenType.ERROR_TOKEN:
-          handleErrorToken(messageBody);
-          break;
-        case DataPacketStreamTokenType.INFO_TOKEN:
-          break;
-        case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
-          break;
-        case DataPacketStreamTokenType.DONE_TOKEN:
-          handleDoneToken();
-          break;
-      }
+  void decodeToken(int tokenType, ByteBuf messageBody) {
+    switch (tokenType) {
+      //FIXME complete all the logic here
+      case DataPacketStreamTokenType.LOGINACK_TOKEN:
+        messageBody.skipBytes(messageBody.readUnsignedShortLE());
+        result = cmd.connection();
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        messageBody.skipBytes(messageBody.readUnsignedShortLE());
+        break;
+      case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+        handleEnvChangeToken(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONE_TOKEN:
+        messageBody.skipBytes(12);
+        handleDoneToken();
+        break;
     }
   }
 
@@ -78,7 +77,7 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
     int startIdx = packet.writerIndex(); // Length
     packet.writeInt(0x00); // set length later by calculating
     packet.writeInt(LoginPacket.SQL_SERVER_2017_VERSION); // TDSVersion
-    packet.writeIntLE(LoginPacket.DEFAULT_PACKET_SIZE); // PacketSize
+    packet.writeIntLE(encoder.requestedPacketSize); // PacketSize
     packet.writeIntLE(0x00); // ClientProgVer
     packet.writeIntLE(0x00); // ClientPID
     packet.writeIntLE(0x00); // ConnectionID
@@ -211,7 +210,7 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
     int packetLen = packet.writerIndex() - startIdx + 8;
     packet.setShort(packetLenIdx, packetLen);
 
-    chctx.writeAndFlush(packet);
+    chctx.write(packet);
 
   }
 
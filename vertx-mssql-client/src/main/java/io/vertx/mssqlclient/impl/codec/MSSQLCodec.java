@@ -16,11 +16,11 @@ import io.netty.channel.ChannelPipeline;
 import java.util.ArrayDeque;
 
 public class MSSQLCodec {
-  public static void initPipeLine(ChannelPipeline pipeline) {
+  public static void initPipeLine(ChannelPipeline pipeline, int packetSize) {
     final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-    TdsMessageEncoder encoder = new TdsMessageEncoder(inflight);
-    TdsMessageDecoder messageDecoder = new TdsMessageDecoder(inflight, encoder);
+    TdsMessageEncoder encoder = new TdsMessageEncoder(inflight, packetSize);
+    TdsMessageDecoder messageDecoder = new TdsMessageDecoder(inflight);
     TdsPacketDecoder packetDecoder = new TdsPacketDecoder();
     pipeline.addBefore("handler", "encoder", encoder);
     pipeline.addBefore("encoder", "messageDecoder", messageDecoder);
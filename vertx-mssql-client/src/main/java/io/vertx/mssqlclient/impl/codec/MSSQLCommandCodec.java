@@ -14,8 +14,13 @@ package io.vertx.mssqlclient.impl.codec;
 import io.vertx.mssqlclient.MSSQLException;
 import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.server.EnvChangeToken;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
 import io.vertx.core.Handler;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
@@ -39,11 +44,158 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
     this.encoder = encoder;
   }
 
+  /**
+   * Encode a message, the payload is split into packets of the size negotiated with the server.
+   */
   void encodeMessage(MessageType type, MessageStatus status, int processId, Consumer<ByteBuf> payloadEncoder) {
-    // FIXME split large message into packets
+    ChannelHandlerContext chctx = encoder.chctx;
+    ByteBuf payload = chctx.alloc().ioBuffer();
+    try {
+      payloadEncoder.accept(payload);
+      int maxPacketDataSize = encoder.packetSize - TdsPacket.PACKET_HEADER_SIZE;
+      int packetId = 1;
+      do {
+        int length = Math.min(payload.readableBytes(), maxPacketDataSize);
+        boolean last = length == payload.readableBytes();
+        ByteBuf header = chctx.alloc().ioBuffer(TdsPacket.PACKET_HEADER_SIZE);
+        header.writeByte(type.value());
+        header.writeByte(last ? status.value() | MessageStatus.END_OF_MESSAGE.value() : status.value());
+        header.writeShort(TdsPacket.PACKET_HEADER_SIZE + length);
+        header.writeShort(processId);
+        header.writeByte(packetId++);
+        header.writeByte(0x00); // window
+        chctx.write(header);
+        chctx.write(payload.readRetainedSlice(length));
+      } while (payload.isReadable());
+    } finally {
+      payload.release();
+    }
   }
 
-  abstract void decodeMessage(TdsMessage message, TdsMessageEncoder encoder);
+  /**
+   * Decode the tokens of the message payload received so far, a token continuing in the next packet of the message
+   * is left in the payload until the packet is received.
+   *
+   * @param payload the payload not yet decoded
+   * @param last whether the payload ends the message
+   */
+  void decodePayload(ByteBuf payload, boolean last) {
+    while (payload.isReadable()) {
+      int start = payload.readerIndex();
+      int tokenType = payload.getUnsignedByte(start);
+      if (tokenEnd(tokenType, payload, start + 1) == -1) {
+        if (last) {
+          throw new DecoderException("Truncated token " + tokenType + " at the end of the message");
+        }
+        return;
+      }
+      payload.skipBytes(1);
+      decodeToken(tokenType, payload);
+    }
+  }
+
+  /**
+   * Decode a token, all the bytes of the token are in the payload.
+   */
+  abstract void decodeToken(int tokenType, ByteBuf payload);
+
+  /**
+   * Find the end of a token from the lengths it carries without reading the payload.
+   *
+   * @param tokenType the token type
+   * @param payload the payload
+   * @param index the index of the token following its type
+   * @return the index following the token or {@code -1} when the payload does not contain all the token yet
+   */
+  int tokenEnd(int tokenType, ByteBuf payload, int index) {
+    switch (tokenType) {
+      case DataPacketStreamTokenType.DONE_TOKEN:
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        return skip(payload, index, 12);
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        return skip(payload, index, 4);
+      case DataPacketStreamTokenType.INFO_TOKEN:
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+      case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+      case DataPacketStreamTokenType.LOGINACK_TOKEN:
+        return skipUnsignedShortLen(payload, index, 1);
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+    }
+  }
+
+  /**
+   * @return the index following {@code length} bytes at {@code index} or {@code -1} when they are not all in the payload
+   */
+  static int skip(ByteBuf payload, int index, int length) {
+    if (index == -1 || index + length > payload.writerIndex()) {
+      return -1;
+    }
+    return index + length;
+  }
+
+  /**
+   * @return the index following the unsigned byte length prefixed value of {@code unit} bytes elements at {@code index}
+   *         or {@code -1} when it is not all in the payload
+   */
+  static int skipByteLen(ByteBuf payload, int index, int unit) {
+    if (skip(payload, index, 1) == -1) {
+      return -1;
+    }
+    return skip(payload, index + 1, payload.getUnsignedByte(index) * unit);
+  }
+
+  /**
+   * @return the index following the unsigned short length prefixed value of {@code unit} bytes elements at
+   *         {@code index} or {@code -1} when it is not all in the payload
+   */
+  static int skipUnsignedShortLen(ByteBuf payload, int index, int unit) {
+    if (skip(payload, index, 2) == -1) {
+      return -1;
+    }
+    return skip(payload, index + 2, payload.getUnsignedShortLE(index) * unit);
+  }
+
+  /**
+   * Encode the ALL_HEADERS of a request.
+   */
+  protected void encodeAllHeaders(ByteBuf payload) {
+    int start = payload.writerIndex();
+    payload.writeIntLE(0x00); // TotalLength for ALL_HEADERS
+    encodeTransactionDescriptor(payload, 0, 1);
+    // set TotalLength for ALL_HEADERS
+    payload.setIntLE(start, payload.writerIndex() - start);
+  }
+
+  protected void encodeTransactionDescriptor(ByteBuf payload, long transactionDescriptor, int outstandingRequestCount) {
+    payload.writeIntLE(18); // HeaderLength is always 18
+    payload.writeShortLE(0x0002); // HeaderType
+    payload.writeLongLE(transactionDescriptor);
+    payload.writeIntLE(outstandingRequestCount);
+  }
+
+  /**
+   * Encode the RPC call of a stored procedure whose only parameter is a prepared statement or cursor handle.
+   */
+  protected void encodeHandleProcedureCall(ByteBuf payload, int procId, int handle) {
+    /*
+      RPCReqBatch
+     */
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(procId);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Handle
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04);
+    payload.writeByte(0x04);
+    payload.writeIntLE(handle);
+  }
 
   void handleErrorToken(ByteBuf buffer) {
     // token value has been processed
@@ -60,6 +212,18 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
     failure = new MSSQLException(number, state, severity, message, serverName, procedureName, lineNumber);
   }
 
+  void handleEnvChangeToken(ByteBuf buffer) {
+    // only the packet size change is used, the other changes are skipped using the token length
+    int length = buffer.readUnsignedShortLE();
+    int end = buffer.readerIndex() + length;
+    int type = buffer.readUnsignedByte();
+    if (type == EnvChangeToken.TYPE_PACKET_SIZE) {
+      // the packet size chosen by the server is used for the following requests
+      encoder.packetSize = Integer.parseInt(readByteLenVarchar(buffer));
+    }
+    buffer.readerIndex(end);
+  }
+
   void handleDoneToken() {
     CommandResponse<R> resp;
     if (failure != null) {
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+/**
+ * A server cursor opened by {@code sp_cursoropen} for a cursor of a prepared statement.
+ */
+class MSSQLCursor {
+  // handle returned by sp_cursoropen
+  final int handle;
+  // description of the rows, the responses of sp_cursorfetch may not carry it
+  final MSSQLRowDesc rowDesc;
+
+  MSSQLCursor(int handle, MSSQLRowDesc rowDesc) {
+    this.handle = handle;
+    this.rowDesc = rowDesc;
+  }
+}
@@ -29,6 +29,8 @@ import java.util.Map;
 
 class MSSQLDataTypeCodec {
   static LocalDate START_DATE = LocalDate.of(1, 1, 1);
+  // length of a NULL unsigned short length prefixed value
+  private static final int NULL_LENGTH = 0xFFFF;
   private static Map<Class, String> parameterDefinitionsMapping = new HashMap<>();
 
   static {
@@ -70,6 +72,8 @@ class MSSQLDataTypeCodec {
         return decodeInt(in);
       case MSSQLDataTypeId.INT8TYPE_ID:
         return decodeBigInt(in);
+      case MSSQLDataTypeId.INTNTYPE_ID:
+        return decodeIntN(in);
       case MSSQLDataTypeId.NUMERICNTYPE_ID:
       case MSSQLDataTypeId.DECIMALNTYPE_ID:
         return decodeNumeric((NumericDataType) dataType, in);
@@ -90,6 +94,41 @@ class MSSQLDataTypeCodec {
     }
   }
 
+  /**
+   * Find the end of a value from its length without reading the buffer.
+   *
+   * @return the index following the value at {@code index} or {@code -1} when it is not all in the buffer
+   */
+  static int valueEnd(int typeId, ByteBuf in, int index) {
+    switch (typeId) {
+      case MSSQLDataTypeId.INT1TYPE_ID:
+      case MSSQLDataTypeId.BITTYPE_ID:
+        return MSSQLCommandCodec.skip(in, index, 1);
+      case MSSQLDataTypeId.INT2TYPE_ID:
+        return MSSQLCommandCodec.skip(in, index, 2);
+      case MSSQLDataTypeId.INT4TYPE_ID:
+      case MSSQLDataTypeId.FLT4TYPE_ID:
+        return MSSQLCommandCodec.skip(in, index, 4);
+      case MSSQLDataTypeId.INT8TYPE_ID:
+      case MSSQLDataTypeId.FLT8TYPE_ID:
+        return MSSQLCommandCodec.skip(in, index, 8);
+      case MSSQLDataTypeId.INTNTYPE_ID:
+      case MSSQLDataTypeId.NUMERICNTYPE_ID:
+      case MSSQLDataTypeId.DECIMALNTYPE_ID:
+      case MSSQLDataTypeId.DATENTYPE_ID:
+      case MSSQLDataTypeId.TIMENTYPE_ID:
+        return MSSQLCommandCodec.skipByteLen(in, index, 1);
+      case MSSQLDataTypeId.BIGCHARTYPE_ID:
+      case MSSQLDataTypeId.BIGVARCHRTYPE_ID:
+        if (MSSQLCommandCodec.skip(in, index, 2) != -1 && in.getUnsignedShortLE(index) == NULL_LENGTH) {
+          return index + 2;
+        }
+        return MSSQLCommandCodec.skipUnsignedShortLen(in, index, 1);
+      default:
+        throw new UnsupportedOperationException("Unsupported datatype: " + typeId);
+    }
+  }
+
   private static LocalTime decodeTimeN(TimeNDataType dataType, ByteBuf in) {
     int scale = dataType.scale();
     byte timeLength = in.readByte();
@@ -120,6 +159,9 @@ class MSSQLDataTypeCodec {
 
   private static CharSequence decodeVarchar(ByteBuf in) {
     int length = in.readUnsignedShortLE();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
     return in.readCharSequence(length, StandardCharsets.UTF_8);
   }
 
@@ -173,6 +215,24 @@ class MSSQLDataTypeCodec {
     }
   }
 
+  private static Number decodeIntN(ByteBuf in) {
+    int length = in.readUnsignedByte();
+    switch (length) {
+      case 0:
+        return null;
+      case 1:
+        return decodeTinyInt(in);
+      case 2:
+        return decodeSmallInt(in);
+      case 4:
+        return decodeInt(in);
+      case 8:
+        return decodeBigInt(in);
+      default:
+        throw new IllegalStateException("Unexpected intN length of [" + length + "]");
+    }
+  }
+
   private static long decodeBigInt(ByteBuf in) {
     return in.readLongLE();
   }
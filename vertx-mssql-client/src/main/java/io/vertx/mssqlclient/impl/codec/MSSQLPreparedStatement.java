@@ -11,18 +11,29 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
+import io.vertx.sqlclient.impl.ErrorMessageFactory;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.TupleInternal;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class MSSQLPreparedStatement implements PreparedStatement {
   final String sql;
   final MSSQLParamDesc paramDesc;
+  // number of parameters referenced by the SQL, the statement is prepared by its first execution
+  final int paramCount;
+  // handles returned by sp_prepexec keyed by the parameter definitions the statement has been prepared with
+  final Map<String, Integer> handles = new HashMap<>();
+  // server cursors opened by the cursors of the statement
+  final Map<String, MSSQLCursor> cursors = new HashMap<>();
 
   public MSSQLPreparedStatement(String sql, MSSQLParamDesc paramDesc) {
     this.sql = sql;
     this.paramDesc = paramDesc;
+    this.paramCount = parseParamCount(sql);
   }
 
   @Override
@@ -42,7 +53,78 @@ public class MSSQLPreparedStatement implements PreparedStatement {
 
   @Override
   public String prepare(TupleInternal values) {
-//    return paramDesc.prepare(values);
+    if (values.size() != paramCount) {
+      return ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(paramCount, values.size());
+    }
     return null;
   }
+
+  /**
+   * @return the highest index of the {@code @Pn} parameters referenced by the SQL, ignoring the literals, quoted
+   *         identifiers and comments
+   */
+  static int parseParamCount(String sql) {
+    int count = 0;
+    int len = sql.length();
+    int i = 0;
+    while (i < len) {
+      char c = sql.charAt(i++);
+      switch (c) {
+        case '\'':
+          i = skipQuoted(sql, i, '\'');
+          break;
+        case '"':
+          i = skipQuoted(sql, i, '"');
+          break;
+        case '[':
+          i = skipQuoted(sql, i, ']');
+          break;
+        case '-':
+          if (i < len && sql.charAt(i) == '-') {
+            int end = sql.indexOf('\n', i);
+            i = end == -1 ? len : end + 1;
+          }
+          break;
+        case '/':
+          if (i < len && sql.charAt(i) == '*') {
+            int end = sql.indexOf("*/", i + 1);
+            i = end == -1 ? len : end + 2;
+          }
+          break;
+        case '@':
+          if (i < len && (sql.charAt(i) == 'p' || sql.charAt(i) == 'P') && (i == 1 || !isIdentifierPart(sql.charAt(i - 2)))) {
+            int start = ++i;
+            int index = 0;
+            while (i < len && Character.isDigit(sql.charAt(i))) {
+              index = index * 10 + sql.charAt(i++) - '0';
+            }
+            if (i > start && (i == len || !isIdentifierPart(sql.charAt(i)))) {
+              count = Math.max(count, index);
+            }
+          }
+          break;
+      }
+    }
+    return count;
+  }
+
+  private static int skipQuoted(String sql, int from, char quote) {
+    // a doubled quote escapes the quote
+    int i = from;
+    while (true) {
+      int end = sql.indexOf(quote, i);
+      if (end == -1) {
+        return sql.length();
+      }
+      if (end + 1 < sql.length() && sql.charAt(end + 1) == quote) {
+        i = end + 2;
+      } else {
+        return end + 1;
+      }
+    }
+  }
+
+  private static boolean isIdentifierPart(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '@' || c == '#' || c == '$';
+  }
 }
@@ -20,7 +20,7 @@ class MSSQLRowDesc extends RowDesc {
   final ColumnData[] columnDatas;
 
   MSSQLRowDesc(ColumnData[] columnDatas) {
-    super(Stream.of(columnDatas).map(ColumnData::colName).collect(Collectors.toList()));
+    super(Stream.of(columnDatas).filter(columnData -> !columnData.isHidden()).map(ColumnData::colName).collect(Collectors.toList()));
     this.columnDatas = columnDatas;
   }
 }
@@ -14,7 +14,6 @@ package io.vertx.mssqlclient.impl.codec;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.client.prelogin.EncryptionOptionToken;
 import io.vertx.mssqlclient.impl.protocol.client.prelogin.OptionToken;
 import io.vertx.mssqlclient.impl.protocol.client.prelogin.VersionOptionToken;
@@ -37,9 +36,15 @@ class PreLoginCommandCodec extends MSSQLCommandCodec<Void, PreLoginCommand> {
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
-    // nothing to do for now?
-    completionHandler.handle(CommandResponse.success(null));
+  void decodePayload(ByteBuf payload, boolean last) {
+    // the response is not a token stream, nothing to do for now?
+    if (last) {
+      completionHandler.handle(CommandResponse.success(null));
+    }
+  }
+
+  @Override
+  void decodeToken(int tokenType, ByteBuf payload) {
   }
 
   private void sendPreLoginMessage() {
@@ -122,7 +127,7 @@ class PreLoginCommandCodec extends MSSQLCommandCodec<Void, PreLoginCommand> {
     int packetLen = packet.writerIndex() - packetDataStartIdx + 8;
     packet.setShort(packetLenIdx, packetLen);
 
-    chctx.writeAndFlush(packet);
+    chctx.write(packet);
   }
 
   private void encodeTokenData(OptionToken optionToken, ByteBuf payload) {
@@ -11,7 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
@@ -31,7 +31,7 @@ class PrepareStatementCodec extends MSSQLCommandCodec<PreparedStatement, Prepare
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+  void decodeToken(int tokenType, ByteBuf payload) {
 
   }
 }
@@ -13,6 +13,7 @@ package io.vertx.mssqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.mssqlclient.impl.protocol.datatype.*;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.RowDesc;
@@ -23,6 +24,10 @@ import java.util.stream.Collector;
 import static io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId.*;
 
 abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends MSSQLCommandCodec<Boolean, C> {
+
+  // COLMETADATA count when the rows are described by a previous response
+  static final int NO_METADATA = 0xFFFF;
+
   protected RowResultDecoder<?, T> rowResultDecoder;
 
   QueryCommandBaseCodec(C cmd) {
@@ -33,13 +38,6 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends M
     return collector.finisher().apply(collector.supplier().get());
   }
 
-  protected void encodeTransactionDescriptor(ByteBuf payload, long transactionDescriptor, int outstandingRequestCount) {
-    payload.writeIntLE(18); // HeaderLength is always 18
-    payload.writeShortLE(0x0002); // HeaderType
-    payload.writeLongLE(transactionDescriptor);
-    payload.writeIntLE(outstandingRequestCount);
-  }
-
   protected MSSQLRowDesc decodeColmetadataToken(ByteBuf payload) {
     int columnCount = payload.readUnsignedShortLE();
 
@@ -56,6 +54,75 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends M
     return new MSSQLRowDesc(columnDatas);
   }
 
+  @Override
+  int tokenEnd(int tokenType, ByteBuf payload, int index) {
+    switch (tokenType) {
+      case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+        return colmetadataTokenEnd(payload, index);
+      case DataPacketStreamTokenType.ROW_TOKEN:
+        return rowTokenEnd(payload, index);
+      default:
+        return super.tokenEnd(tokenType, payload, index);
+    }
+  }
+
+  private int colmetadataTokenEnd(ByteBuf payload, int index) {
+    if (skip(payload, index, 2) == -1) {
+      return -1;
+    }
+    int columnCount = payload.getUnsignedShortLE(index);
+    index += 2;
+    if (columnCount == NO_METADATA) {
+      return index;
+    }
+    for (int i = 0; i < columnCount && index != -1; i++) {
+      index = skip(payload, index, 4 + 2); // UserType and Flags
+      index = typeInfoEnd(payload, index);
+      index = skipByteLen(payload, index, 2); // ColName
+    }
+    return index;
+  }
+
+  private int rowTokenEnd(ByteBuf payload, int index) {
+    ColumnData[] columnDatas = rowResultDecoder.desc.columnDatas;
+    for (int i = 0; i < columnDatas.length && index != -1; i++) {
+      index = MSSQLDataTypeCodec.valueEnd(columnDatas[i].dataType().id(), payload, index);
+    }
+    return index;
+  }
+
+  /**
+   * @return the index following the TYPE_INFO at {@code index} or {@code -1} when it is not all in the payload
+   */
+  static int typeInfoEnd(ByteBuf payload, int index) {
+    if (skip(payload, index, 1) == -1) {
+      return -1;
+    }
+    int typeInfo = payload.getUnsignedByte(index++);
+    switch (typeInfo) {
+      case INT1TYPE_ID:
+      case INT2TYPE_ID:
+      case INT4TYPE_ID:
+      case INT8TYPE_ID:
+      case FLT4TYPE_ID:
+      case FLT8TYPE_ID:
+      case BITTYPE_ID:
+      case DATENTYPE_ID:
+        return index;
+      case INTNTYPE_ID:
+      case TIMENTYPE_ID:
+        return skip(payload, index, 1);
+      case NUMERICNTYPE_ID:
+      case DECIMALNTYPE_ID:
+        return skip(payload, index, 3);
+      case BIGCHARTYPE_ID:
+      case BIGVARCHRTYPE_ID:
+        return skip(payload, index, 2 + 5); // max length and collation
+      default:
+        throw new UnsupportedOperationException("Unsupported type with typeinfo: " + typeInfo);
+    }
+  }
+
   protected void handleRow(ByteBuf payload) {
     rowResultDecoder.handleRow(rowResultDecoder.desc.columnDatas.length, payload);
   }
@@ -81,7 +148,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends M
     cmd.resultHandler().handleResult(affectedRows, size, rowDesc, result, failure);
   }
 
-  private MSSQLDataType decodeDataTypeMetadata(ByteBuf payload) {
+  static MSSQLDataType decodeDataTypeMetadata(ByteBuf payload) {
     int typeInfo = payload.readUnsignedByte();
     switch (typeInfo) {
       /*
@@ -95,6 +162,9 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends M
         return FixedLenDataType.INT4TYPE;
       case INT8TYPE_ID:
         return FixedLenDataType.INT8TYPE;
+      case INTNTYPE_ID:
+        payload.skipBytes(1); // max length
+        return IntNDataType.INTNTYPE;
       case FLT4TYPE_ID:
         return FixedLenDataType.FLT4TYPE;
       case FLT8TYPE_ID:
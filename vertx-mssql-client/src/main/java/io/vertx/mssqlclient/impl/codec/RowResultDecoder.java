@@ -20,7 +20,7 @@ import java.util.stream.Collector;
 
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
-  final MSSQLRowDesc desc;
+  MSSQLRowDesc desc;
 
   RowResultDecoder(Collector<Row, C, R> collector, MSSQLRowDesc desc) {
     super(collector);
@@ -34,7 +34,9 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
       Object decoded = null;
       ColumnData columnData = desc.columnDatas[c];
       decoded = MSSQLDataTypeCodec.decode(columnData.dataType(), in);
-      row.addValue(decoded);
+      if (!columnData.isHidden()) {
+        row.addValue(decoded);
+      }
     }
     return row;
   }
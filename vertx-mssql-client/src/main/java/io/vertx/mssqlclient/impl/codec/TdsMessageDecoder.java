@@ -12,7 +12,6 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.vertx.mssqlclient.impl.protocol.MessageStatus;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.TdsPacket;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -21,45 +20,52 @@ import io.netty.handler.codec.MessageToMessageDecoder;
 import java.util.ArrayDeque;
 import java.util.List;
 
+/**
+ * Decode the tokens of a message as its packets are received, only the bytes of a token spanning several packets
+ * are kept until the next packet.
+ * <p>
+ * The reads of the channel are not suspended: the rows are handed to the collector of the command as they are
+ * decoded and there is no consumer demand to wait for, a large result is read with a cursor instead.
+ */
 class TdsMessageDecoder extends MessageToMessageDecoder<TdsPacket> {
   private final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight;
-  private final TdsMessageEncoder encoder;
 
-  private TdsMessage message;
+  // payload of the message not yet decoded
+  private CompositeByteBuf payload;
+  // codec of the message being received
+  private MSSQLCommandCodec<?, ?> codec;
 
-  TdsMessageDecoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight, TdsMessageEncoder encoder) {
+  TdsMessageDecoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight) {
     this.inflight = inflight;
-    this.encoder = encoder;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) {
+    payload = ctx.alloc().compositeBuffer();
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    payload.release();
   }
 
   @Override
   protected void decode(ChannelHandlerContext channelHandlerContext, TdsPacket tdsPacket, List<Object> list) throws Exception {
-    // assemble packets
-    if (tdsPacket.status() == MessageStatus.END_OF_MESSAGE) {
-      if (message == null) {
-        message = TdsMessage.newTdsMessageFromSinglePacket(tdsPacket);
-        decodeMessage();
-      } else {
-        // last packet of this message
-        CompositeByteBuf messageData = (CompositeByteBuf) message.content();
-        messageData.addComponent(true, tdsPacket.content());
-        decodeMessage();
-      }
-    } else {
-      if (message == null) {
-        // first packet of this message and there will be more packets
-        CompositeByteBuf messageData = channelHandlerContext.alloc().compositeBuffer();
-        messageData.addComponent(true, tdsPacket.content());
-        message = TdsMessage.newTdsMessage(tdsPacket.type(), tdsPacket.status(), tdsPacket.processId(), messageData);
-      } else {
-        CompositeByteBuf messageData = (CompositeByteBuf) message.content();
-        messageData.addComponent(true, tdsPacket.content());
+    if (codec == null) {
+      // first packet of this message
+      codec = inflight.peek();
+    }
+    boolean last = tdsPacket.status() == MessageStatus.END_OF_MESSAGE;
+    payload.addComponent(true, tdsPacket.content().retain());
+    try {
+      codec.decodePayload(payload, last);
+    } finally {
+      if (last) {
+        codec = null;
+        payload.skipBytes(payload.readableBytes());
       }
+      // release the packets whose tokens have been decoded
+      payload.discardReadComponents();
     }
   }
-
-  private void decodeMessage() {
-    inflight.peek().decodeMessage(message, encoder);
-    this.message = null;
-  }
 }
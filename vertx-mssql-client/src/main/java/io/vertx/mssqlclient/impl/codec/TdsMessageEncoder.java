@@ -12,6 +12,7 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
+import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
@@ -21,10 +22,15 @@ import java.util.ArrayDeque;
 
 class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   private final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight;
+  // packet size requested by the login
+  final int requestedPacketSize;
   ChannelHandlerContext chctx;
+  // packet size of the requests, until the server sets the size it has chosen
+  int packetSize = LoginPacket.DEFAULT_PACKET_SIZE;
 
-  TdsMessageEncoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight) {
+  TdsMessageEncoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight, int requestedPacketSize) {
     this.inflight = inflight;
+    this.requestedPacketSize = requestedPacketSize;
   }
 
   @Override
@@ -62,8 +68,18 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
       return new SQLBatchCommandCodec((SimpleQueryCommand) cmd);
     } else if (cmd instanceof PrepareStatementCommand) {
       return new PrepareStatementCodec((PrepareStatementCommand) cmd);
+    } else if (cmd instanceof ExtendedBatchQueryCommand) {
+      return new ExtendedBatchQueryCommandCodec<>((ExtendedBatchQueryCommand<?>) cmd);
     } else if (cmd instanceof ExtendedQueryCommand) {
-      return new ExtendedQueryCommandCodec((ExtendedQueryCommand) cmd);
+      ExtendedQueryCommand<?> queryCmd = (ExtendedQueryCommand<?>) cmd;
+      if (queryCmd.fetch() > 0) {
+        return new CursorQueryCommandCodec<>(queryCmd);
+      }
+      return new ExtendedQueryCommandCodec(queryCmd);
+    } else if (cmd instanceof CloseStatementCommand) {
+      return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CloseCursorCommand) {
+      return new CloseCursorCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd == CloseConnectionCommand.INSTANCE) {
       return new CloseConnectionCommandCodec((CloseConnectionCommand) cmd);
     } else {
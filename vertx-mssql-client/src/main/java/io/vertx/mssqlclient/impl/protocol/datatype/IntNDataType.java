@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.protocol.datatype;
+
+/*
+  INTNTYPE values are prefixed by their length, 0 for null.
+ */
+public class IntNDataType extends MSSQLDataType {
+  public static IntNDataType INTNTYPE = new IntNDataType();
+
+  private IntNDataType() {
+    super(MSSQLDataTypeId.INTNTYPE_ID, Number.class);
+  }
+}
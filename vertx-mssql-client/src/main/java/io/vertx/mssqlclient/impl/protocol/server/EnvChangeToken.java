@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.protocol.server;
+
+public final class EnvChangeToken {
+  public static final int TYPE_DATABASE = 1;
+  public static final int TYPE_LANGUAGE = 2;
+  public static final int TYPE_CHARACTER_SET = 3;
+  public static final int TYPE_PACKET_SIZE = 4;
+  public static final int TYPE_SQL_COLLATION = 7;
+  public static final int TYPE_BEGIN_TRANSACTION = 8;
+  public static final int TYPE_COMMIT_TRANSACTION = 9;
+  public static final int TYPE_ROLLBACK_TRANSACTION = 10;
+  public static final int TYPE_RESET_CONNECTION_ACK = 18;
+}
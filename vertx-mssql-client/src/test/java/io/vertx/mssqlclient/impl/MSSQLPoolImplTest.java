@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.sqlclient.PoolOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MSSQLPoolImplTest {
+
+  private Vertx vertx;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private boolean cachePreparedStatements(MSSQLConnectOptions connectOptions, PoolOptions poolOptions) {
+    MSSQLPoolImpl pool = new MSSQLPoolImpl((ContextInternal) vertx.getOrCreateContext(), false, connectOptions, poolOptions);
+    try {
+      return pool.connectionFactory.cachePreparedStatements;
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testPoolCachesPreparedStatements() {
+    MSSQLConnectOptions connectOptions = new MSSQLConnectOptions();
+    connectOptions.setCachePreparedStatements(false);
+    assertTrue(cachePreparedStatements(connectOptions, new PoolOptions().setCachePreparedStatements(true)));
+    // the connect options are not modified
+    assertFalse(connectOptions.getCachePreparedStatements());
+  }
+
+  @Test
+  public void testConnectOptionsCachePreparedStatements() {
+    MSSQLConnectOptions connectOptions = new MSSQLConnectOptions();
+    connectOptions.setCachePreparedStatements(true);
+    assertTrue(cachePreparedStatements(connectOptions, new PoolOptions().setCachePreparedStatements(false)));
+  }
+
+  @Test
+  public void testNoPreparedStatementCache() {
+    MSSQLConnectOptions connectOptions = new MSSQLConnectOptions();
+    connectOptions.setCachePreparedStatements(false);
+    assertFalse(cachePreparedStatements(connectOptions, new PoolOptions().setCachePreparedStatements(false)));
+  }
+}
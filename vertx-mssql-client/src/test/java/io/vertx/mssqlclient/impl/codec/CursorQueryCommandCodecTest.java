@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CloseCursorCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CursorQueryCommandCodecTest extends TdsCodecTestBase {
+
+  private static final int CURSOR_HANDLE = 180150003;
+
+  private MSSQLPreparedStatement ps;
+  private List<Integer> ids;
+  private List<String> columnNames;
+
+  @Override
+  public void setUp() {
+    super.setUp();
+    ps = new MSSQLPreparedStatement("SELECT id FROM immutable", null);
+    ids = new ArrayList<>();
+    columnNames = new ArrayList<>();
+  }
+
+  private ExtendedQueryCommand<List<Integer>> query(boolean suspended) {
+    return new ExtendedQueryCommand<>(ps, Tuple.tuple(), 2, "cursor", suspended, true,
+      Collectors.mapping(row -> row.getInteger(0), Collectors.toList()), resultHandler((desc, result) -> {
+      if (desc != null) {
+        columnNames.addAll(desc.columnNames());
+      }
+      ids.addAll(result);
+    }));
+  }
+
+  private Object execute(CommandBase<?> cmd, ByteBuf response) {
+    CommandResponse<?> resp = send(cmd, response);
+    assertTrue(resp.toAsyncResult().succeeded());
+    return resp.toAsyncResult().result();
+  }
+
+  private CommandResponse<?> send(CommandBase<?> cmd, ByteBuf response) {
+    write(cmd);
+    Object request;
+    while ((request = channel.readOutbound()) != null) {
+      ReferenceCountUtil.release(request);
+    }
+    return reply(response);
+  }
+
+  private static void writeRow(ByteBuf buf, int id) {
+    buf.writeByte(DataPacketStreamTokenType.ROW_TOKEN);
+    buf.writeIntLE(id);
+    // ROWSTAT
+    buf.writeByte(4);
+    buf.writeIntLE(1);
+  }
+
+  private static void writeError(ByteBuf buf, String message) {
+    ByteBuf error = Unpooled.buffer();
+    error.writeIntLE(208); // Number
+    error.writeByte(1); // State
+    error.writeByte(16); // Class
+    error.writeShortLE(message.length());
+    error.writeCharSequence(message, StandardCharsets.UTF_16LE);
+    error.writeByte(0); // ServerName
+    error.writeByte(0); // ProcName
+    error.writeIntLE(1); // LineNumber
+    buf.writeByte(DataPacketStreamTokenType.ERROR_TOKEN);
+    buf.writeShortLE(error.readableBytes());
+    buf.writeBytes(error);
+    error.release();
+  }
+
+  @Test
+  public void testReadCursor() {
+    ByteBuf open = Unpooled.buffer();
+    open.writeByte(DataPacketStreamTokenType.COLMETADATA_TOKEN);
+    open.writeShortLE(2);
+    open.writeIntLE(0); // UserType
+    open.writeShortLE(0); // Flags
+    open.writeByte(MSSQLDataTypeId.INT4TYPE_ID);
+    open.writeByte(2);
+    open.writeCharSequence("id", StandardCharsets.UTF_16LE);
+    open.writeIntLE(0); // UserType
+    open.writeShortLE(0x2000); // Flags, hidden
+    open.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    open.writeByte(4);
+    open.writeByte(7);
+    open.writeCharSequence("ROWSTAT", StandardCharsets.UTF_16LE);
+    writeRow(open, 1);
+    writeRow(open, 2);
+    writeProcedureEnd(open, 2);
+    writeReturnValue(open, CURSOR_HANDLE);
+    writeDone(open, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    assertEquals(true, execute(query(false), open));
+    assertEquals(Arrays.asList(1, 2), ids);
+    assertEquals(Collections.singletonList("id"), columnNames);
+    assertEquals(CURSOR_HANDLE, ps.cursors.get("cursor").handle);
+
+    ids.clear();
+    ByteBuf fetch = Unpooled.buffer();
+    writeRow(fetch, 3);
+    writeProcedureEnd(fetch, 1);
+    writeDone(fetch, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    assertEquals(false, execute(query(true), fetch));
+    assertEquals(Collections.singletonList(3), ids);
+
+    ByteBuf close = Unpooled.buffer();
+    writeDone(close, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    execute(new CloseCursorCommand("cursor", ps), close);
+    assertTrue(ps.cursors.isEmpty());
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  public void testOpenCursorFailure() {
+    ByteBuf open = Unpooled.buffer();
+    writeError(open, "Invalid object name 'immutable'.");
+    writeProcedureEnd(open, 0);
+    writeReturnValue(open, 0);
+    writeDone(open, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    assertTrue(send(query(false), open).toAsyncResult().failed());
+    assertTrue(ps.cursors.isEmpty());
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  public void testOpenCursorWithoutHandle() {
+    ByteBuf open = Unpooled.buffer();
+    writeProcedureEnd(open, 0);
+    writeReturnValue(open, 0);
+    writeDone(open, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    assertEquals(false, execute(query(false), open));
+    assertTrue(ps.cursors.isEmpty());
+    assertFalse(channel.finish());
+  }
+}
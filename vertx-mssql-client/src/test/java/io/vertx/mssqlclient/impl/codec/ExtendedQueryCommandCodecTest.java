@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class ExtendedQueryCommandCodecTest extends TdsCodecTestBase {
+
+  private MSSQLPreparedStatement ps;
+
+  @Override
+  public void setUp() {
+    super.setUp();
+    ps = new MSSQLPreparedStatement("SELECT @P1", null);
+  }
+
+  private ExtendedQueryCommand<Long> query(Tuple params) {
+    return new ExtendedQueryCommand<>(ps, params, true, Collectors.counting(), resultHandler((desc, result) -> {}));
+  }
+
+  /**
+   * Execute the command and reply with the given response.
+   *
+   * @return the id of the first procedure called by the request
+   */
+  private int execute(CommandBase<?> cmd, ByteBuf response) {
+    write(cmd);
+    ReferenceCountUtil.release(channel.readOutbound()); // packet header
+    ByteBuf request = channel.readOutbound();
+    assertNotNull(request);
+    int procId;
+    try {
+      request.skipBytes(request.getIntLE(request.readerIndex())); // ALL_HEADERS
+      assertEquals(0xFFFF, request.readUnsignedShortLE());
+      procId = request.readUnsignedShortLE();
+    } finally {
+      ReferenceCountUtil.release(request);
+    }
+    assertNull(channel.readOutbound());
+    assertTrue(reply(response).toAsyncResult().succeeded());
+    return procId;
+  }
+
+  private static ByteBuf executeResponse(int handle) {
+    ByteBuf buf = Unpooled.buffer();
+    writeProcedureEnd(buf, 0);
+    if (handle != 0) {
+      writeReturnValue(buf, handle);
+    }
+    writeDone(buf, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    return buf;
+  }
+
+  @Test
+  public void testPrepareOncePerParameterDefinitions() {
+    assertEquals(ProcId.Sp_PrepExec, execute(query(Tuple.of(1)), executeResponse(1)));
+    assertEquals(ProcId.Sp_PrepExec, execute(query(Tuple.of("one")), executeResponse(2)));
+    assertEquals(ProcId.Sp_Execute, execute(query(Tuple.of(2)), executeResponse(0)));
+    assertEquals(ProcId.Sp_Execute, execute(query(Tuple.of("two")), executeResponse(0)));
+    assertEquals(2, ps.handles.size());
+
+    // both handles are unprepared by the same request
+    ByteBuf close = Unpooled.buffer();
+    writeDone(close, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    writeDone(close, DataPacketStreamTokenType.DONEPROC_TOKEN, 0);
+    assertEquals(ProcId.Sp_Unprepare, execute(new CloseStatementCommand(ps), close));
+    assertTrue(ps.handles.isEmpty());
+    assertFalse(channel.finish());
+  }
+}
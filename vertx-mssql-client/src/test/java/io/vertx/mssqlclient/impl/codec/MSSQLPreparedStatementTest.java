@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.TupleInternal;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MSSQLPreparedStatementTest {
+
+  @Test
+  public void testParseParamCount() {
+    assertEquals(0, MSSQLPreparedStatement.parseParamCount("SELECT * FROM immutable"));
+    assertEquals(1, MSSQLPreparedStatement.parseParamCount("SELECT * FROM immutable WHERE id=@p1"));
+    assertEquals(2, MSSQLPreparedStatement.parseParamCount("INSERT INTO mutable (id, val) VALUES (@P1, @P2)"));
+    assertEquals(2, MSSQLPreparedStatement.parseParamCount("SELECT @p2 WHERE @p1 = @p2"));
+    assertEquals(12, MSSQLPreparedStatement.parseParamCount("SELECT @p12"));
+  }
+
+  @Test
+  public void testParseParamCountIgnoresNonParameters() {
+    assertEquals(1, MSSQLPreparedStatement.parseParamCount("SELECT 'it''s @p2', @p1"));
+    assertEquals(1, MSSQLPreparedStatement.parseParamCount("SELECT [@p2], \"@p3\" FROM t WHERE id=@p1"));
+    assertEquals(1, MSSQLPreparedStatement.parseParamCount("SELECT @p1 -- @p2\n/* @p3 */"));
+    assertEquals(0, MSSQLPreparedStatement.parseParamCount("SELECT @@pack_received, @param, @p, a@p1"));
+  }
+
+  @Test
+  public void testPrepare() {
+    MSSQLPreparedStatement ps = new MSSQLPreparedStatement("SELECT * FROM immutable WHERE id=@p1", null);
+    assertNull(ps.prepare((TupleInternal) Tuple.of(1)));
+    assertEquals("The number of parameters to execute should be consistent with the expected number of parameters = [1] but the actual number is [2].",
+      ps.prepare((TupleInternal) Tuple.of(1, 2)));
+  }
+}
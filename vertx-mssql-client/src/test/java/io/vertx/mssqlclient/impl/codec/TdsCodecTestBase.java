@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import org.junit.Before;
+
+import java.util.ArrayDeque;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the command codecs in an embedded channel, the server responses are written as TDS token streams.
+ */
+public abstract class TdsCodecTestBase {
+
+  protected EmbeddedChannel channel;
+  protected TdsMessageEncoder encoder;
+
+  @Before
+  public void setUp() {
+    ArrayDeque<MSSQLCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    encoder = new TdsMessageEncoder(inflight, 4096);
+    channel = new EmbeddedChannel(new TdsMessageDecoder(inflight), encoder);
+  }
+
+  /**
+   * @return a result handler passing the successful results to the {@code consumer}
+   */
+  protected static <T> QueryResultHandler<T> resultHandler(BiConsumer<RowDesc, T> consumer) {
+    return new QueryResultHandler<T>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, T result, Throwable failure) {
+        assertNull(failure);
+        consumer.accept(desc, result);
+      }
+    };
+  }
+
+  /**
+   * Encode the command, the request is left in the outbound buffer of the channel.
+   */
+  protected void write(CommandBase<?> cmd) {
+    encoder.write(cmd);
+    channel.flush();
+  }
+
+  /**
+   * Reply to the inflight command with the given response.
+   *
+   * @return the response of the command
+   */
+  protected CommandResponse<?> reply(ByteBuf response) {
+    channel.writeInbound(TdsPacket.newTdsPacket(MessageType.TABULAR_RESULT, MessageStatus.END_OF_MESSAGE, response.readableBytes() + TdsPacket.PACKET_HEADER_SIZE, 0, (short) 1, response));
+    CommandResponse<?> resp = channel.readInbound();
+    assertNotNull(resp);
+    return resp;
+  }
+
+  protected static void writeDone(ByteBuf buf, int token, int count) {
+    buf.writeByte(token);
+    buf.writeShortLE(0x10); // Status
+    buf.writeShortLE(0); // CurCmd
+    buf.writeLongLE(count);
+  }
+
+  /**
+   * Write the tokens ending the execution of a procedure before its output parameters.
+   */
+  protected static void writeProcedureEnd(ByteBuf buf, int count) {
+    writeDone(buf, DataPacketStreamTokenType.DONEINPROC_TOKEN, count);
+    buf.writeByte(DataPacketStreamTokenType.RETURNSTATUS_TOKEN);
+    buf.writeIntLE(0);
+  }
+
+  /**
+   * Write an {@code int} output parameter, e.g. a statement or cursor handle.
+   */
+  protected static void writeReturnValue(ByteBuf buf, int value) {
+    buf.writeByte(DataPacketStreamTokenType.RETURNVALUE_TOKEN);
+    buf.writeShortLE(0); // ParamOrdinal
+    buf.writeByte(0); // ParamName
+    buf.writeByte(1); // Status
+    buf.writeIntLE(0); // UserType
+    buf.writeShortLE(0); // Flags
+    buf.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    buf.writeByte(4);
+    buf.writeByte(4);
+    buf.writeIntLE(value);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TdsMessageDecoderTest {
+
+  private static final int ROWS = 10;
+
+  private static ByteBuf response() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(DataPacketStreamTokenType.COLMETADATA_TOKEN);
+    buf.writeShortLE(3);
+    buf.writeIntLE(0); // UserType
+    buf.writeShortLE(0); // Flags
+    buf.writeByte(MSSQLDataTypeId.INT4TYPE_ID);
+    buf.writeByte(2);
+    buf.writeCharSequence("id", StandardCharsets.UTF_16LE);
+    buf.writeIntLE(0); // UserType
+    buf.writeShortLE(0); // Flags
+    buf.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    buf.writeByte(8);
+    buf.writeByte(5);
+    buf.writeCharSequence("count", StandardCharsets.UTF_16LE);
+    buf.writeIntLE(0); // UserType
+    buf.writeShortLE(0); // Flags
+    buf.writeByte(MSSQLDataTypeId.BIGVARCHRTYPE_ID);
+    buf.writeShortLE(100);
+    buf.writeZero(5); // Collation
+    buf.writeByte(3);
+    buf.writeCharSequence("val", StandardCharsets.UTF_16LE);
+    for (int i = 0;i < ROWS;i++) {
+      buf.writeByte(DataPacketStreamTokenType.ROW_TOKEN);
+      buf.writeIntLE(i);
+      if (i % 2 == 0) {
+        buf.writeByte(8);
+        buf.writeLongLE(i);
+        buf.writeShortLE(5);
+        buf.writeCharSequence("val-" + i, StandardCharsets.UTF_8);
+      } else {
+        // NULL values
+        buf.writeByte(0);
+        buf.writeShortLE(0xFFFF);
+      }
+    }
+    buf.writeByte(DataPacketStreamTokenType.DONE_TOKEN);
+    buf.writeShortLE(0x10); // Status
+    buf.writeShortLE(0xC1); // CurCmd
+    buf.writeLongLE(ROWS);
+    return buf;
+  }
+
+  @Test
+  public void testDecodeTokensSplitAcrossPackets() {
+    ByteBuf response = response();
+    for (int packetLength = 1;packetLength <= response.readableBytes();packetLength++) {
+      List<Integer> ids = new ArrayList<>();
+      List<CommandResponse<?>> responses = new ArrayList<>();
+      List<String> vals = new ArrayList<>();
+      SimpleQueryCommand<List<Integer>> cmd = new SimpleQueryCommand<>("SELECT id, count, val", false, true,
+        Collectors.mapping(row -> {
+          vals.add(row.getString(2));
+          return row.getInteger(0);
+        }, Collectors.toList()), new QueryResultHandler<List<Integer>>() {
+        @Override
+        public <V> void addProperty(PropertyKind<V> property, V value) {
+        }
+        @Override
+        public void handleResult(int updatedCount, int size, RowDesc desc, List<Integer> result, Throwable failure) {
+          assertEquals(ROWS, updatedCount);
+          assertNull(failure);
+          ids.addAll(result);
+        }
+      });
+      ArrayDeque<MSSQLCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+      SQLBatchCommandCodec<List<Integer>> codec = new SQLBatchCommandCodec<>(cmd);
+      codec.completionHandler = responses::add;
+      inflight.add(codec);
+      EmbeddedChannel channel = new EmbeddedChannel(new TdsMessageDecoder(inflight));
+      List<ByteBuf> packets = new ArrayList<>();
+      ByteBuf in = response.duplicate();
+      while (in.isReadable()) {
+        ByteBuf data = Unpooled.copiedBuffer(in.readSlice(Math.min(packetLength, in.readableBytes())));
+        packets.add(data);
+        MessageStatus status = in.isReadable() ? MessageStatus.NORMAL : MessageStatus.END_OF_MESSAGE;
+        channel.writeInbound(TdsPacket.newTdsPacket(MessageType.TABULAR_RESULT, status, data.readableBytes() + TdsPacket.PACKET_HEADER_SIZE, 0, (short) packets.size(), data));
+        if (in.isReadable()) {
+          assertEquals(0, responses.size());
+        }
+      }
+      assertEquals(1, responses.size());
+      assertTrue(responses.get(0).toAsyncResult().succeeded());
+      assertEquals(ROWS, ids.size());
+      for (int i = 0;i < ROWS;i++) {
+        assertEquals(i, (int) ids.get(i));
+        assertEquals(i % 2 == 0 ? "val-" + i : null, vals.get(i));
+      }
+      for (ByteBuf packet : packets) {
+        assertEquals(0, packet.refCnt());
+      }
+      assertFalse(channel.finish());
+    }
+  }
+
+  @Test
+  public void testTruncatedMessage() {
+    ByteBuf response = response();
+    ByteBuf data = response.readRetainedSlice(response.readableBytes() - 1);
+    response.release();
+    SimpleQueryCommand<Void> cmd = new SimpleQueryCommand<>("SELECT id, count, val", false, true,
+      QueryCommandBase.NULL_COLLECTOR, QueryResultHandler.NOOP_HANDLER);
+    ArrayDeque<MSSQLCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    SQLBatchCommandCodec<Void> codec = new SQLBatchCommandCodec<>(cmd);
+    codec.completionHandler = resp -> fail();
+    inflight.add(codec);
+    EmbeddedChannel channel = new EmbeddedChannel(new TdsMessageDecoder(inflight));
+    try {
+      channel.writeInbound(TdsPacket.newTdsPacket(MessageType.TABULAR_RESULT, MessageStatus.END_OF_MESSAGE, data.readableBytes() + TdsPacket.PACKET_HEADER_SIZE, 0, (short) 1, data));
+      fail();
+    } catch (DecoderException expected) {
+    }
+    assertEquals(0, data.refCnt());
+    assertFalse(channel.finish());
+  }
+}
@@ -11,15 +11,20 @@
 
 package io.vertx.mssqlclient.tck;
 
+import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.mssqlclient.MSSQLConnection;
 import io.vertx.mssqlclient.junit.MSSQLRule;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.tck.ConnectionTestBase;
 import org.junit.ClassRule;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
+
 @RunWith(VertxUnitRunner.class)
 public class MSSQLConnectionTest extends ConnectionTestBase {
   @ClassRule
@@ -53,4 +58,18 @@ public class MSSQLConnectionTest extends ConnectionTestBase {
   public void testCloseWithQueryInProgress(TestContext ctx) {
     super.testCloseWithQueryInProgress(ctx);
   }
+
+  @Test
+  public void testPacketSize(TestContext ctx) {
+    char[] chars = new char[3000];
+    Arrays.fill(chars, 'a');
+    String value = new String(chars);
+    MSSQLConnection.connect(vertx, rule.options().setPacketSize(MSSQLConnectOptions.MIN_PACKET_SIZE), ctx.asyncAssertSuccess(conn -> {
+      // the request is split into several packets
+      conn.preparedQuery("SELECT LEN(@p1)", Tuple.of(value), ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(value.length(), rows.iterator().next().getInteger(0));
+        conn.close();
+      }));
+    }));
+  }
 }
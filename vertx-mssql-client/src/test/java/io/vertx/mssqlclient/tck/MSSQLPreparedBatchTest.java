@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.tck;
+
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.mssqlclient.junit.MSSQLRule;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.tck.PreparedBatchTestBase;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class MSSQLPreparedBatchTest extends PreparedBatchTestBase {
+  @ClassRule
+  public static MSSQLRule rule = MSSQLRule.SHARED_INSTANCE;
+
+  @Override
+  protected void initConnector() {
+    connector = ClientConfig.CONNECT.connect(vertx, rule.options());
+  }
+
+  @Override
+  protected String statement(String... parts) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        sb.append("@p").append((i));
+      }
+      sb.append(parts[i]);
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testLargeBatch(TestContext ctx) {
+    // the request is split into several packets
+    int num = 1000;
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      List<Tuple> batch = new ArrayList<>();
+      for (int i = 0; i < num; i++) {
+        batch.add(Tuple.of(i, "batch " + i));
+      }
+      conn.preparedBatch(statement("INSERT INTO mutable (id, val) VALUES (", ", ", ")"), batch, ctx.asyncAssertSuccess(result -> {
+        int count = 0;
+        for (RowSet<?> rs = result; rs != null; rs = rs.next()) {
+          ctx.assertEquals(1, rs.rowCount());
+          count++;
+        }
+        ctx.assertEquals(num, count);
+        conn.query("SELECT COUNT(*) FROM mutable", ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(num, rows.iterator().next().getInteger(0));
+        }));
+      }));
+    }));
+  }
+}
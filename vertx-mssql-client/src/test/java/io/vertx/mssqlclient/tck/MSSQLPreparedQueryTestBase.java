@@ -13,6 +13,7 @@ package io.vertx.mssqlclient.tck;
 
 import io.vertx.mssqlclient.junit.MSSQLRule;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.tck.PreparedQueryTestBase;
 import org.junit.ClassRule;
 import org.junit.Ignore;
@@ -42,54 +43,6 @@ public abstract class MSSQLPreparedQueryTestBase extends PreparedQueryTestBase {
     return sb.toString();
   }
 
-  @Override
-  @Test
-  @Ignore
-  public void testQueryCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testQueryCloseCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryCloseCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testQueryStreamCloseCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryStreamCloseCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQueryPauseInBatch(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQueryPauseInBatch(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQueryPauseInBatchFromAnotherThread(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQueryPauseInBatchFromAnotherThread(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQuery(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQuery(ctx);
-  }
-
   @Override
   @Test
   @Ignore
@@ -101,17 +54,28 @@ public abstract class MSSQLPreparedQueryTestBase extends PreparedQueryTestBase {
   @Override
   @Test
   @Ignore
-  public void testPreparedQueryParamCoercionQuantityError(TestContext ctx) {
+  public void testPreparedQueryParamCoercionTypeError(TestContext ctx) {
     // can't check this for now due to prepexec cmd
-    super.testPreparedQueryParamCoercionQuantityError(ctx);
+    super.testPreparedQueryParamCoercionTypeError(ctx);
   }
 
-  @Override
   @Test
-  @Ignore
-  public void testPreparedQueryParamCoercionTypeError(TestContext ctx) {
-    // can't check this for now due to prepexec cmd
-    super.testPreparedQueryParamCoercionTypeError(ctx);
+  public void testPreparedQueryReuseHandle(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.prepare(statement("SELECT id, message FROM immutable WHERE id=", ""), ctx.asyncAssertSuccess(ps -> {
+        ps.execute(Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+          ctx.assertEquals(1, rows1.size());
+          ctx.assertEquals(1, rows1.iterator().next().getInteger(0));
+          // executed with the handle returned by sp_prepexec
+          ps.execute(Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+            ctx.assertEquals(1, rows2.size());
+            ctx.assertEquals(2, rows2.iterator().next().getInteger(0));
+            ps.close(ctx.asyncAssertSuccess(v -> {
+              conn.close();
+            }));
+          }));
+        }));
+      }));
+    }));
   }
 }
-
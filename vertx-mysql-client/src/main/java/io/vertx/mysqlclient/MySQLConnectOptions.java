@@ -52,6 +52,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final SslMode DEFAULT_SSL_MODE = SslMode.DISABLED;
   public static final String DEFAULT_CHARACTER_ENCODING = "UTF-8";
+  public static final int DEFAULT_PIPELINING_LIMIT = 1;
 
   static {
     Map<String, String> defaultAttributes = new HashMap<>();
@@ -66,6 +67,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private String serverRsaPublicKeyPath;
   private Buffer serverRsaPublicKeyValue;
   private String characterEncoding;
+  private int pipeliningLimit;
 
   public MySQLConnectOptions() {
     super();
@@ -73,6 +75,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.sslMode = DEFAULT_SSL_MODE;
     this.useAffectedRows = DEFAULT_USE_AFFECTED_ROWS;
     this.characterEncoding = DEFAULT_CHARACTER_ENCODING;
+    this.pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
   }
 
   public MySQLConnectOptions(JsonObject json) {
@@ -81,6 +84,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.sslMode = DEFAULT_SSL_MODE;
     this.useAffectedRows = DEFAULT_USE_AFFECTED_ROWS;
     this.characterEncoding = DEFAULT_CHARACTER_ENCODING;
+    this.pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
     MySQLConnectOptionsConverter.fromJson(json, this);
   }
 
@@ -93,6 +97,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.serverRsaPublicKeyPath = other.serverRsaPublicKeyPath;
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
     this.characterEncoding = other.characterEncoding;
+    this.pipeliningLimit = other.pipeliningLimit;
   }
 
   /**
@@ -258,6 +263,31 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return serverRsaPublicKeyValue;
   }
 
+  /**
+   * Get the pipelining limit count.
+   *
+   * @return the pipelining count
+   */
+  public int getPipeliningLimit() {
+    return pipeliningLimit;
+  }
+
+  /**
+   * Set the pipelining limit count, the maximum number of commands written to the server before their responses
+   * are received. Commands which need several round trips with the server (cursor opening, {@code LOAD DATA LOCAL INFILE}
+   * and authentication) are never pipelined with other commands.
+   *
+   * @param pipeliningLimit the count to configure
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipeliningLimit(int pipeliningLimit) {
+    if (pipeliningLimit < 1) {
+      throw new IllegalArgumentException("pipelining limit can not be less than 1");
+    }
+    this.pipeliningLimit = pipeliningLimit;
+    return this;
+  }
+
   @Override
   public MySQLConnectOptions setHost(String host) {
     return (MySQLConnectOptions) super.setHost(host);
@@ -19,6 +19,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.mysqlclient.impl.MySQLConnectionImpl;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
@@ -155,10 +156,25 @@ public interface MySQLConnection extends SqlConnection {
    */
   @Fluent
   @Override
+  MySQLConnection preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The executions of the batch are pipelined in a single round trip, when an execution fails the following executions
+   * have already been sent and are still executed by the server, with auto-commit their changes are committed although
+   * the batch is notified with the failure. Run the batch in a transaction to apply it entirely or not at all.
+   */
+  @Fluent
+  @Override
   MySQLConnection preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler);
 
   /**
    * {@inheritDoc}
+   * <p>
+   * The executions of the batch are pipelined in a single round trip, when an execution fails the following executions
+   * have already been sent and are still executed by the server, with auto-commit their changes are committed although
+   * the batch is notified with the failure. Run the batch in a transaction to apply it entirely or not at all.
    */
   @Fluent
   @GenIgnore
@@ -20,6 +20,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.mysqlclient.impl.MySQLPoolImpl;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.Row;
@@ -139,10 +140,25 @@ public interface MySQLPool extends Pool {
    */
   @Fluent
   @Override
+  MySQLPool preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The executions of the batch are pipelined in a single round trip, when an execution fails the following executions
+   * have already been sent and are still executed by the server, with auto-commit their changes are committed although
+   * the batch is notified with the failure. Run the batch in a transaction to apply it entirely or not at all.
+   */
+  @Fluent
+  @Override
   MySQLPool preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler);
 
   /**
    * {@inheritDoc}
+   * <p>
+   * The executions of the batch are pipelined in a single round trip, when an execution fails the following executions
+   * have already been sent and are still executed by the server, with auto-commit their changes are committed although
+   * the batch is notified with the failure. Run the batch in a transaction to apply it entirely or not at all.
    */
   @Fluent
   @GenIgnore
@@ -21,8 +21,10 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.TrustOptions;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.SslMode;
+import io.vertx.mysqlclient.impl.command.PingCommand;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
+import io.vertx.sqlclient.impl.command.CommandBase;
 
 import java.nio.charset.Charset;
 import java.util.Collections;
@@ -47,6 +49,7 @@ public class MySQLConnectionFactory implements ConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
+  private final int pipeliningLimit;
   private final int initialCapabilitiesFlags;
 
   public MySQLConnectionFactory(Vertx vertx, ContextInternal context, MySQLConnectOptions options) {
@@ -90,6 +93,7 @@ public class MySQLConnectionFactory implements ConnectionFactory {
     }
     this.serverRsaPublicKey = serverRsaPublicKey;
     this.initialCapabilitiesFlags = initCapabilitiesFlags();
+    this.pipeliningLimit = options.getPipeliningLimit();
 
     // check the SSLMode here
     switch (sslMode) {
@@ -125,17 +129,22 @@ public class MySQLConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  private void doConnect(Promise<Connection> promise) {
+  private void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(port, host);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
-        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, context);
+        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, collation, serverRsaPublicKey, connectionAttributes, sslMode, initialCapabilitiesFlags, charsetEncoding, promise);
       } else {
@@ -144,6 +153,11 @@ public class MySQLConnectionFactory implements ConnectionFactory {
     });
   }
 
+  @Override
+  public CommandBase<?> createValidationCommand() {
+    return new PingCommand();
+  }
+
   private int initCapabilitiesFlags() {
     int capabilitiesFlags = CLIENT_SUPPORTED_CAPABILITIES_FLAGS;
     if (database != null && !database.isEmpty()) {
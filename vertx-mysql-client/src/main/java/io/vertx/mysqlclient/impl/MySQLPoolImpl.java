@@ -20,16 +20,19 @@ import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.PoolBase;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
-import io.vertx.sqlclient.impl.pool.ConnectionPool;
+import io.vertx.sqlclient.impl.pool.ShardedConnectionPool;
 
 public class MySQLPoolImpl extends PoolBase<MySQLPoolImpl> implements MySQLPool {
   private final MySQLConnectionFactory factory;
-  private final ConnectionPool pool;
+  private final ShardedConnectionPool pool;
 
   public MySQLPoolImpl(ContextInternal context, boolean closeVertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
-    super(context.owner(), closeVertx);
+    super(context.owner(), closeVertx, connectOptions, poolOptions);
+    if (poolOptions.getCachePreparedStatements() && !connectOptions.getCachePreparedStatements()) {
+      connectOptions = new MySQLConnectOptions(connectOptions).setCachePreparedStatements(true);
+    }
     this.factory = new MySQLConnectionFactory(context.owner(), context, connectOptions);
-    this.pool = new ConnectionPool(factory, context, poolOptions.getMaxSize(), poolOptions.getMaxWaitQueueSize());
+    this.pool = new ShardedConnectionPool(factory, context, poolOptions, metrics());
   }
 
   @Override
@@ -42,6 +45,21 @@ public class MySQLPoolImpl extends PoolBase<MySQLPoolImpl> implements MySQLPool
     pool.acquire(completionHandler);
   }
 
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, long timeout) {
+    pool.acquire(completionHandler, timeout);
+  }
+
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, String sql) {
+    pool.acquire(completionHandler, sql);
+  }
+
+  @Override
+  protected void doWarmUp(Handler<AsyncResult<Void>> completionHandler) {
+    pool.warmUp().onComplete(completionHandler);
+  }
+
   @Override
   protected SqlConnectionImpl wrap(ContextInternal context, Connection conn) {
     return new MySQLConnectionImpl(factory, context, conn);
@@ -18,6 +18,7 @@ package io.vertx.mysqlclient.impl;
 
 import io.vertx.mysqlclient.impl.datatype.DataFormat;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDesc;
 
 import java.util.Collections;
@@ -28,6 +29,7 @@ public class MySQLRowDesc extends RowDesc {
 
   private final ColumnDefinition[] columnDefinitions;
   private final DataFormat dataFormat;
+  private final byte[] kinds;
 
   public MySQLRowDesc(ColumnDefinition[] columnDefinitions, DataFormat dataFormat) {
     super(Collections.unmodifiableList(Stream.of(columnDefinitions)
@@ -35,6 +37,53 @@ public class MySQLRowDesc extends RowDesc {
       .collect(Collectors.toList())));
     this.columnDefinitions = columnDefinitions;
     this.dataFormat = dataFormat;
+    this.kinds = dataFormat == DataFormat.BINARY ? kinds(columnDefinitions) : null;
+  }
+
+  /**
+   * Map the fixed-width columns of the binary protocol to the kinds of values stored unboxed by {@link RowBase}.
+   */
+  private static byte[] kinds(ColumnDefinition[] columnDefinitions) {
+    byte[] kinds = new byte[columnDefinitions.length];
+    boolean primitive = false;
+    for (int i = 0;i < columnDefinitions.length;i++) {
+      ColumnDefinition columnDefinition = columnDefinitions[i];
+      boolean unsigned = (columnDefinition.flags() & ColumnDefinition.ColumnDefinitionFlags.UNSIGNED_FLAG) != 0;
+      byte kind;
+      switch (columnDefinition.getType()) {
+        case INT1:
+          kind = unsigned ? RowBase.SHORT : RowBase.BYTE;
+          break;
+        case INT2:
+          kind = unsigned ? RowBase.INTEGER : RowBase.SHORT;
+          break;
+        case YEAR:
+          kind = RowBase.SHORT;
+          break;
+        case INT3:
+          kind = RowBase.INTEGER;
+          break;
+        case INT4:
+          kind = unsigned ? RowBase.LONG : RowBase.INTEGER;
+          break;
+        case INT8:
+          // unsigned values are decoded as Numeric
+          kind = unsigned ? RowBase.BOXED : RowBase.LONG;
+          break;
+        case FLOAT:
+          kind = RowBase.FLOAT;
+          break;
+        case DOUBLE:
+          kind = RowBase.DOUBLE;
+          break;
+        default:
+          kind = RowBase.BOXED;
+          break;
+      }
+      kinds[i] = kind;
+      primitive |= kind != RowBase.BOXED;
+    }
+    return primitive ? kinds : null;
   }
 
   public ColumnDefinition[] columnDefinitions() {
@@ -44,4 +93,11 @@ public class MySQLRowDesc extends RowDesc {
   public DataFormat dataFormat() {
     return dataFormat;
   }
+
+  /**
+   * @return the kinds of the columns stored unboxed in the rows or {@code null} when all the values are boxed
+   */
+  public byte[] kinds() {
+    return kinds;
+  }
 }
@@ -18,7 +18,7 @@ import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
-import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.core.buffer.Buffer;
 
 import java.time.Duration;
@@ -31,12 +31,12 @@ import java.time.temporal.Temporal;
 import java.util.List;
 import java.util.UUID;
 
-public class MySQLRowImpl extends ArrayTuple implements Row {
+public class MySQLRowImpl extends RowBase implements Row {
 
   private final MySQLRowDesc rowDesc;
 
   public MySQLRowImpl(MySQLRowDesc rowDesc) {
-    super(rowDesc.columnNames().size());
+    super(rowDesc.columnNames().size(), rowDesc.kinds());
     this.rowDesc = rowDesc;
   }
 
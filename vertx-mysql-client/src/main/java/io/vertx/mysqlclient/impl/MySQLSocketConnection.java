@@ -24,11 +24,13 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.mysqlclient.SslMode;
 import io.vertx.mysqlclient.impl.codec.MySQLCodec;
+import io.vertx.mysqlclient.impl.command.AuthenticationCommandBase;
 import io.vertx.mysqlclient.impl.command.InitialHandshakeCommand;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.sqlclient.impl.command.TxCommand;
@@ -47,8 +49,9 @@ public class MySQLSocketConnection extends SocketConnectionBase {
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
                                int preparedStatementCacheSqlLimit,
+                               int pipeliningLimit,
                                ContextInternal context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
   }
 
   void sendStartupMessage(String username,
@@ -73,6 +76,32 @@ public class MySQLSocketConnection extends SocketConnectionBase {
     super.init();
   }
 
+  @Override
+  protected boolean isPipelinable(CommandBase<?> cmd) {
+    // the responses are matched in order with the commands, the commands sending packets after
+    // receiving a response can't be pipelined
+    if (cmd instanceof ExtendedQueryCommand) {
+      return ((ExtendedQueryCommand<?>) cmd).fetch() == 0;
+    } else if (cmd instanceof SimpleQueryCommand) {
+      return !isLocalInfile(((SimpleQueryCommand<?>) cmd).sql());
+    } else {
+      return !(cmd instanceof AuthenticationCommandBase);
+    }
+  }
+
+  /**
+   * A {@code LOAD DATA LOCAL INFILE} query makes the server request the content of the file.
+   */
+  private static boolean isLocalInfile(String sql) {
+    int len = sql.length() - 6;
+    for (int i = 0;i <= len;i++) {
+      if (sql.regionMatches(true, i, "INFILE", 0, 6)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Handler<AsyncResult<R>> handler) {
     if (cmd instanceof TxCommand) {
@@ -86,12 +86,23 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
     packetHeader.writeMediumLE(payload.readableBytes());
     packetHeader.writeByte(sequenceId++);
     encoder.chctx.write(packetHeader);
-    encoder.chctx.writeAndFlush(payload);
+    encoder.chctx.write(payload);
   }
 
+  /**
+   * Write the packet without flushing, the packets written when the command is encoded are flushed by the connection
+   * and the packets written when decoding a response are flushed by the decoder when the read completes.
+   */
   void sendNonSplitPacket(ByteBuf packet) {
     sequenceId++;
-    encoder.chctx.writeAndFlush(packet);
+    encoder.chctx.write(packet);
+  }
+
+  /**
+   * Flush the written packets, only needed by the packets written outside of the encoding or the decoding.
+   */
+  void flush() {
+    encoder.chctx.flush();
   }
 
   final void sendBytesAsPacket(byte[] payload) {
@@ -121,6 +132,10 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void handleErrorPacketPayload(ByteBuf payload) {
+    completionHandler.handle(CommandResponse.failure(decodeErrorPacketPayload(payload)));
+  }
+
+  MySQLException decodeErrorPacketPayload(ByteBuf payload) {
     payload.skipBytes(1); // skip ERR packet header
     int errorCode = payload.readUnsignedShortLE();
     String sqlState = null;
@@ -129,7 +144,7 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
       sqlState = BufferUtils.readFixedLengthString(payload, 5, StandardCharsets.UTF_8);
     }
     String errorMessage = readRestOfPacketString(payload, StandardCharsets.UTF_8);
-    completionHandler.handle(CommandResponse.failure(new MySQLException(errorMessage, errorCode, sqlState)));
+    return new MySQLException(errorMessage, errorCode, sqlState);
   }
 
   OkPacket decodeOkPacketPayload(ByteBuf payload, Charset charset) {
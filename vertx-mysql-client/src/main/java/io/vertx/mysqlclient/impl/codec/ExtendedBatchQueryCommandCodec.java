@@ -12,22 +12,30 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.MySQLException;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
-import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
 import io.vertx.mysqlclient.impl.protocol.CommandType;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.ExtendedBatchQueryCommand;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_TYPE_NO_CURSOR;
+import static io.vertx.mysqlclient.impl.protocol.Packets.*;
 
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedBatchQueryCommand<R>> {
 
   private List<Tuple> params;
-  private int batchIdx = 0;
+  // number of executions whose response has been decoded
+  private int executed = 0;
+  // parameter types bound by the last execution and the classes of the values they were inferred from
+  private DataType[] paramTypes;
+  private Class<?>[] paramClasses;
+  // scratch null bitmap reused by the executions
+  private byte[] nullBitmap;
 
   ExtendedBatchQueryCommandCodec(ExtendedBatchQueryCommand<R> cmd) {
     super(cmd);
@@ -41,27 +49,68 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
       completionHandler.handle(CommandResponse.failure("Statement parameter is not set because of the empty batch param list"));
       return;
     }
-    doExecuteBatch();
+    // the executions are sent back to back and their responses are decoded in order
+    for (Tuple param : params) {
+      this.sequenceId = 0;
+      sendBatchStatementExecuteCommand(statement, param);
+    }
   }
 
   @Override
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, long affectedRows, long lastInsertId) {
+    if ((serverStatusFlags & ServerStatusFlags.SERVER_MORE_RESULTS_EXISTS) == 0) {
+      executed++;
+    }
     super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    doExecuteBatch();
   }
 
   @Override
   protected boolean isDecodingCompleted(int serverStatusFlags) {
-    return super.isDecodingCompleted(serverStatusFlags) && batchIdx == params.size();
+    return super.isDecodingCompleted(serverStatusFlags) && executed == params.size();
   }
 
-  private void doExecuteBatch() {
-    if (batchIdx < params.size()) {
-      this.sequenceId = 0;
-      Tuple param = params.get(batchIdx);
-      sendBatchStatementExecuteCommand(statement, param);
-      batchIdx++;
+  @Override
+  void handleErrorPacketPayload(ByteBuf payload) {
+    // the following executions have been sent already, their responses must be decoded before completing
+    // the command with the first failure
+    MySQLException err = decodeErrorPacketPayload(payload);
+    if (failure == null) {
+      failure = err;
+    }
+    resetIntermediaryResult();
+    decoder = null;
+    if (++executed == params.size()) {
+      completionHandler.handle(CommandResponse.failure(failure));
+    }
+  }
+
+  /**
+   * Infer the types of the parameters of an execution, the type of a parameter is only inferred again when the class
+   * of its value changes.
+   *
+   * @return whether the types must be bound again, i.e the first execution or when a type changed
+   */
+  private boolean inferParamTypes(Tuple params, int numOfParams) {
+    boolean changed = false;
+    if (paramTypes == null) {
+      paramTypes = new DataType[numOfParams];
+      paramClasses = new Class<?>[numOfParams];
+      nullBitmap = new byte[(numOfParams + 7) / 8];
+      changed = true;
+    }
+    for (int i = 0; i < numOfParams; i++) {
+      Object value = params.getValue(i);
+      Class<?> paramClass = value == null ? null : value.getClass();
+      if (paramTypes[i] == null || paramClass != paramClasses[i]) {
+        paramClasses[i] = paramClass;
+        DataType paramType = DataTypeCodec.inferDataTypeByEncodingValue(value);
+        if (paramType != paramTypes[i]) {
+          paramTypes[i] = paramType;
+          changed = true;
+        }
+      }
     }
+    return changed;
   }
 
   private void sendBatchStatementExecuteCommand(MySQLPreparedStatement statement, Tuple params) {
@@ -78,28 +127,26 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
     // iteration count, always 1
     packet.writeIntLE(1);
 
-    ColumnDefinition[] paramsColumnDefinitions = statement.paramDesc.paramDefinitions();
-    int numOfParams = paramsColumnDefinitions.length;
-    int bitmapLength = (numOfParams + 7) / 8;
-    byte[] nullBitmap = new byte[bitmapLength];
-
-    int pos = packet.writerIndex();
-
+    int numOfParams = statement.paramDesc.paramDefinitions().length;
     if (numOfParams > 0) {
+      boolean sendTypesToServer = inferParamTypes(params, numOfParams);
+      Arrays.fill(nullBitmap, (byte) 0);
+      int pos = packet.writerIndex();
+
       // write a dummy bitmap first
-      packet.writeBytes(nullBitmap);
-      packet.writeByte(1);
-      for (int i = 0; i < params.size(); i++) {
-        Object param = params.getValue(i);
-        DataType dataType = DataTypeCodec.inferDataTypeByEncodingValue(param);
-        packet.writeByte(dataType.id);
-        packet.writeByte(0); // parameter flag: signed
+      packet.writeZero(nullBitmap.length);
+      packet.writeBoolean(sendTypesToServer);
+      if (sendTypesToServer) {
+        for (DataType paramType : paramTypes) {
+          packet.writeByte(paramType.id);
+          packet.writeByte(0); // parameter flag: signed
+        }
       }
 
       for (int i = 0; i < numOfParams; i++) {
         Object value = params.getValue(i);
         if (value != null) {
-          DataTypeCodec.encodeBinary(DataTypeCodec.inferDataTypeByEncodingValue(value), value, encoder.encodingCharset, packet);
+          DataTypeCodec.encodeBinary(paramTypes[i], value, encoder.encodingCharset, packet);
         } else {
           nullBitmap[i / 8] |= (1 << (i & 7));
         }
@@ -171,6 +171,6 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     int lenOfPayload = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, lenOfPayload);
 
-    encoder.chctx.writeAndFlush(packet);
+    sendNonSplitPacket(packet);
   }
 }
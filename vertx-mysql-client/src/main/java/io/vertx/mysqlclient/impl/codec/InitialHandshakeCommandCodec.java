@@ -152,10 +152,13 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     if (upgradeToSsl) {
       encoder.clientCapabilitiesFlag |= CLIENT_SSL;
       sendSslRequest();
+      // the request must be sent in clear before the upgrade
+      flush();
 
       encoder.socketConnection.socket().upgradeToSsl(upgrade -> {
         if (upgrade.succeeded()) {
           doSendHandshakeResponseMessage(authPluginName, authPluginData, serverCapabilitiesFlags);
+          flush();
         } else {
           completionHandler.handle(CommandResponse.failure(upgrade.cause()));
         }
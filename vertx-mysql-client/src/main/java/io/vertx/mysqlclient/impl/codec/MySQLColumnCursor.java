@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.datatype.DataType;
+import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
+import io.vertx.sqlclient.ColumnCursor;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
+
+/**
+ * A {@link ColumnCursor} over a text or binary resultset row, the offsets of the values are indexed when the cursor
+ * is positioned on a row and the integer, floating point and boolean values are read without boxing.
+ */
+class MySQLColumnCursor implements ColumnCursor {
+
+  private static final int NULL = 0xFB;
+
+  private final ColumnDefinition[] columns;
+  private final boolean binary;
+  // index of the value including its length header, -1 for NULL
+  private final int[] starts;
+  // index and length of the value bytes
+  private final int[] offsets;
+  private final int[] lengths;
+  private ByteBuf in;
+  private int size;
+
+  MySQLColumnCursor(MySQLRowDesc rowDesc) {
+    this.columns = rowDesc.columnDefinitions();
+    this.binary = rowDesc.dataFormat() == DataFormat.BINARY;
+    this.starts = new int[columns.length];
+    this.offsets = new int[columns.length];
+    this.lengths = new int[columns.length];
+  }
+
+  /**
+   * Position the cursor on the row at the reader index of the buffer, the row is consumed.
+   */
+  MySQLColumnCursor reset(int len, ByteBuf in) {
+    if (binary) {
+      // 0x00 packet header
+      // null_bitmap
+      int nullBitmapLength = (len + 7 + 2) >>  3;
+      int nullBitmapIdx = 1 + in.readerIndex();
+      in.skipBytes(1 + nullBitmapLength);
+      for (int c = 0; c < len; c++) {
+        int val = c + 2;
+        int bytePos = val >> 3;
+        int bitPos = val & 7;
+        byte mask = (byte) (1 << bitPos);
+        if ((in.getByte(nullBitmapIdx + bytePos) & mask) != 0) {
+          starts[c] = -1;
+        } else {
+          starts[c] = in.readerIndex();
+          int length;
+          switch (columns[c].getType()) {
+            case INT1:
+              length = 1;
+              break;
+            case INT2:
+            case YEAR:
+              length = 2;
+              break;
+            case INT3:
+            case INT4:
+            case FLOAT:
+              length = 4;
+              break;
+            case INT8:
+            case DOUBLE:
+              length = 8;
+              break;
+            case DATE:
+            case TIME:
+            case DATETIME:
+            case TIMESTAMP:
+              length = in.readUnsignedByte();
+              break;
+            default:
+              length = (int) BufferUtils.readLengthEncodedInteger(in);
+              break;
+          }
+          offsets[c] = in.readerIndex();
+          lengths[c] = length;
+          in.skipBytes(length);
+        }
+      }
+    } else {
+      for (int c = 0; c < len; c++) {
+        if (in.getUnsignedByte(in.readerIndex()) == NULL) {
+          starts[c] = -1;
+          in.skipBytes(1);
+        } else {
+          starts[c] = in.readerIndex();
+          int length = (int) BufferUtils.readLengthEncodedInteger(in);
+          offsets[c] = in.readerIndex();
+          lengths[c] = length;
+          in.skipBytes(length);
+        }
+      }
+    }
+    this.in = in;
+    this.size = len;
+    return this;
+  }
+
+  private int checkPos(int pos) {
+    if (pos < 0 || pos >= size) {
+      throw new IndexOutOfBoundsException("Invalid column index " + pos);
+    }
+    return pos;
+  }
+
+  private static boolean isInteger(DataType dataType) {
+    switch (dataType) {
+      case INT1:
+      case INT2:
+      case INT3:
+      case INT4:
+      case INT8:
+      case YEAR:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String getColumnName(int pos) {
+    return columns[checkPos(pos)].name();
+  }
+
+  @Override
+  public boolean isNull(int pos) {
+    return starts[checkPos(pos)] == -1;
+  }
+
+  @Override
+  public boolean getBoolean(int pos) {
+    if (isNull(pos)) {
+      return false;
+    }
+    // in MySQL BOOLEAN type is mapped to TINYINT
+    if (isInteger(columns[pos].getType())) {
+      return (byte) decodeLong(pos) != 0;
+    }
+    Object val = getValue(pos);
+    if (val instanceof Boolean) {
+      return (Boolean) val;
+    }
+    throw cannotConvert(pos, "boolean");
+  }
+
+  @Override
+  public int getInt(int pos) {
+    if (isNull(pos)) {
+      return 0;
+    }
+    if (isInteger(columns[pos].getType())) {
+      long value = decodeLong(pos);
+      if (value != (int) value) {
+        throw new ClassCastException(columns[pos].getType() + " value " + value + " at column " + pos + " does not fit in an int");
+      }
+      return (int) value;
+    }
+    return numberValue(pos, "int").intValue();
+  }
+
+  @Override
+  public long getLong(int pos) {
+    if (isNull(pos)) {
+      return 0L;
+    }
+    if (isInteger(columns[pos].getType())) {
+      return decodeLong(pos);
+    }
+    return numberValue(pos, "long").longValue();
+  }
+
+  private long decodeLong(int pos) {
+    int index = offsets[pos];
+    if (!binary) {
+      return CommonCodec.decodeDecStringToLong(index, lengths[pos], in);
+    }
+    ColumnDefinition column = columns[pos];
+    boolean unsigned = (column.flags() & ColumnDefinition.ColumnDefinitionFlags.UNSIGNED_FLAG) != 0;
+    switch (column.getType()) {
+      case INT1:
+        return unsigned ? in.getUnsignedByte(index) : in.getByte(index);
+      case INT2:
+        return unsigned ? in.getUnsignedShortLE(index) : in.getShortLE(index);
+      case YEAR:
+        return in.getShortLE(index);
+      case INT3:
+        return unsigned ? in.getIntLE(index) & 0xFFFFFF : in.getIntLE(index);
+      case INT4:
+        return unsigned ? in.getUnsignedIntLE(index) : in.getIntLE(index);
+      default:
+        return in.getLongLE(index);
+    }
+  }
+
+  @Override
+  public double getDouble(int pos) {
+    if (isNull(pos)) {
+      return 0D;
+    }
+    DataType dataType = columns[pos].getType();
+    if (isInteger(dataType)) {
+      return decodeLong(pos);
+    }
+    if (binary) {
+      if (dataType == DataType.FLOAT) {
+        return in.getFloatLE(offsets[pos]);
+      } else if (dataType == DataType.DOUBLE) {
+        return in.getDoubleLE(offsets[pos]);
+      }
+    }
+    return numberValue(pos, "double").doubleValue();
+  }
+
+  @Override
+  public String getString(int pos) {
+    Object val = getValue(pos);
+    if (val == null || val instanceof String) {
+      return (String) val;
+    }
+    throw cannotConvert(pos, "String");
+  }
+
+  private Number numberValue(int pos, String type) {
+    Object val = getValue(pos);
+    if (val instanceof Number) {
+      return (Number) val;
+    }
+    throw cannotConvert(pos, type);
+  }
+
+  private ClassCastException cannotConvert(int pos, String type) {
+    return new ClassCastException("Cannot convert " + columns[pos].getType() + " value at column " + pos + " to " + type);
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    if (isNull(pos)) {
+      return null;
+    }
+    ColumnDefinition column = columns[pos];
+    int readerIndex = in.readerIndex();
+    in.readerIndex(starts[pos]);
+    try {
+      if (binary) {
+        return DataTypeCodec.decodeBinary(column.getType(), column.characterSet(), column.flags(), in);
+      } else {
+        return DataTypeCodec.decodeText(column.getType(), column.characterSet(), column.flags(), in);
+      }
+    } finally {
+      in.readerIndex(readerIndex);
+    }
+  }
+}
@@ -67,6 +67,13 @@ class MySQLDecoder extends ByteToMessageDecoder {
     }
   }
 
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+    // flush the packets written by the codecs when decoding the responses
+    encoder.chctx.flush();
+    super.channelReadComplete(ctx);
+  }
+
   private void decodePayload(ByteBuf payload, int payloadLength, int sequenceId) {
     CommandCodec ctx = inflight.peek();
     ctx.sequenceId = sequenceId + 1;
@@ -56,8 +56,13 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
   void write(CommandBase<?> cmd) {
     CommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
-      CommandCodec c = inflight.poll();
-      resp.cmd = (CommandBase) c.cmd;
+      // a codec completed when it is encoded (e.g. COM_STMT_CLOSE) is not the head of the pipelined codecs
+      if (inflight.peek() == codec) {
+        inflight.poll();
+      } else {
+        inflight.removeLastOccurrence(codec);
+      }
+      resp.cmd = (CommandBase) codec.cmd;
       chctx.fireChannelRead(resp);
     };
     inflight.add(codec);
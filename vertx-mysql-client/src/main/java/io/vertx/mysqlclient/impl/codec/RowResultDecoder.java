@@ -18,7 +18,9 @@ import io.vertx.mysqlclient.impl.datatype.DataFormat;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDecoder;
 
 import java.util.stream.Collector;
@@ -27,15 +29,24 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   private static final int NULL = 0xFB;
 
   MySQLRowDesc rowDesc;
+  private MySQLColumnCursor cursor;
 
   RowResultDecoder(Collector<Row, C, R> collector, MySQLRowDesc rowDesc) {
     super(collector);
     this.rowDesc = rowDesc;
   }
 
+  @Override
+  protected ColumnCursor decodeCursor(int len, ByteBuf in) {
+    if (cursor == null) {
+      cursor = new MySQLColumnCursor(rowDesc);
+    }
+    return cursor.reset(len, in);
+  }
+
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new MySQLRowImpl(rowDesc);
+    MySQLRowImpl row = new MySQLRowImpl(rowDesc);
     if (rowDesc.dataFormat() == DataFormat.BINARY) {
       // BINARY row decoding
       // 0x00 packet header
@@ -45,22 +56,25 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
       in.skipBytes(1 + nullBitmapLength);
 
       // values
+      byte[] kinds = rowDesc.kinds();
       for (int c = 0; c < len; c++) {
         int val = c + 2;
         int bytePos = val >> 3;
         int bitPos = val & 7;
         byte mask = (byte) (1 << bitPos);
         byte nullByte = (byte) (in.getByte(nullBitmapIdx + bytePos) & mask);
-        Object decoded = null;
-        if (nullByte == 0) {
-          // non-null
+        if (nullByte != 0) {
+          row.addValue(null);
+        } else if (kinds != null && kinds[c] != RowBase.BOXED) {
+          // fixed-width values are stored unboxed
+          decodePrimitive(rowDesc.columnDefinitions()[c], in, row);
+        } else {
           ColumnDefinition columnDef = rowDesc.columnDefinitions()[c];
           DataType dataType = columnDef.getType();
           int collationId = rowDesc.columnDefinitions()[c].characterSet();
           int columnDefinitionFlags = columnDef.flags();
-          decoded = DataTypeCodec.decodeBinary(dataType, collationId, columnDefinitionFlags, in);
+          row.addValue(DataTypeCodec.decodeBinary(dataType, collationId, columnDefinitionFlags, in));
         }
-        row.addValue(decoded);
       }
     } else {
       // TEXT row decoding
@@ -79,5 +93,37 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return row;
   }
+
+  private static void decodePrimitive(ColumnDefinition columnDef, ByteBuf in, MySQLRowImpl row) {
+    boolean unsigned = (columnDef.flags() & ColumnDefinition.ColumnDefinitionFlags.UNSIGNED_FLAG) != 0;
+    switch (columnDef.getType()) {
+      case INT1:
+        row.addLongValue(unsigned ? in.readUnsignedByte() : in.readByte());
+        break;
+      case INT2:
+        row.addLongValue(unsigned ? in.readUnsignedShortLE() : in.readShortLE());
+        break;
+      case YEAR:
+        row.addLongValue(in.readShortLE());
+        break;
+      case INT3:
+        row.addLongValue(unsigned ? in.readIntLE() & 0xFFFFFF : in.readIntLE());
+        break;
+      case INT4:
+        row.addLongValue(unsigned ? in.readUnsignedIntLE() : in.readIntLE());
+        break;
+      case INT8:
+        row.addLongValue(in.readLongLE());
+        break;
+      case FLOAT:
+        row.addDoubleValue(in.readFloatLE());
+        break;
+      case DOUBLE:
+        row.addDoubleValue(in.readDoubleLE());
+        break;
+      default:
+        throw new IllegalStateException("Unexpected fixed-width column type " + columnDef.getType());
+    }
+  }
 }
 
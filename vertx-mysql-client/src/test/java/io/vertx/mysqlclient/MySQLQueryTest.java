@@ -14,6 +14,7 @@ package io.vertx.mysqlclient;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
@@ -31,6 +32,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -226,4 +228,37 @@ public class MySQLQueryTest extends MySQLTestBase {
       }));
     }));
   }
+
+  @Test
+  public void testPipelinedQueries(TestContext ctx) {
+    int num = 16;
+    Async async = ctx.async(num + 1);
+    MySQLConnection.connect(vertx, options.setPipeliningLimit(8), ctx.asyncAssertSuccess(conn -> {
+      AtomicInteger order = new AtomicInteger();
+      for (int i = 0; i < num; i++) {
+        int idx = i;
+        if (i % 2 == 0) {
+          conn.preparedQuery("SELECT ?", Tuple.of(idx), ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(idx, order.getAndIncrement());
+            ctx.assertEquals((long) idx, res.iterator().next().getLong(0));
+            async.countDown();
+          }));
+        } else {
+          conn.query("SELECT " + idx, ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(idx, order.getAndIncrement());
+            ctx.assertEquals((long) idx, res.iterator().next().getLong(0));
+            async.countDown();
+          }));
+        }
+      }
+      conn.prepare("SELECT 1", ctx.asyncAssertSuccess(ps -> {
+        ctx.assertEquals(num, order.get());
+        // closing the statement does not wait for a response
+        ps.close(ctx.asyncAssertSuccess(v -> {
+          conn.close();
+          async.countDown();
+        }));
+      }));
+    }));
+  }
 }
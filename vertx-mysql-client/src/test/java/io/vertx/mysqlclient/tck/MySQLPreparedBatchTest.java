@@ -11,12 +11,20 @@
 
 package io.vertx.mysqlclient.tck;
 
+import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.mysqlclient.MySQLException;
 import io.vertx.mysqlclient.junit.MySQLRule;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.tck.PreparedBatchTestBase;
 import org.junit.ClassRule;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RunWith(VertxUnitRunner.class)
 public class MySQLPreparedBatchTest extends PreparedBatchTestBase {
   @ClassRule
@@ -31,4 +39,60 @@ public class MySQLPreparedBatchTest extends PreparedBatchTestBase {
   protected String statement(String... parts) {
     return String.join("?", parts);
   }
+
+  @Test
+  public void testLargeBatch(TestContext ctx) {
+    int num = 1000;
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      List<Tuple> batch = new ArrayList<>();
+      for (int i = 0; i < num; i++) {
+        batch.add(Tuple.of(i, "batch " + i));
+      }
+      conn.preparedBatch(statement("INSERT INTO mutable (id, val) VALUES (", ", ", ")"), batch, ctx.asyncAssertSuccess(result -> {
+        int count = 0;
+        for (RowSet<?> rs = result; rs != null; rs = rs.next()) {
+          ctx.assertEquals(1, rs.rowCount());
+          count++;
+        }
+        ctx.assertEquals(num, count);
+        conn.query("SELECT COUNT(*) FROM mutable", ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals((long) num, rows.iterator().next().getLong(0));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchFailure(TestContext ctx) {
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      List<Tuple> batch = new ArrayList<>();
+      batch.add(Tuple.of(1, "one"));
+      batch.add(Tuple.of(1, "duplicate"));
+      batch.add(Tuple.of(2, "two"));
+      conn.preparedBatch(statement("INSERT INTO mutable (id, val) VALUES (", ", ", ")"), batch, ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err instanceof MySQLException);
+        // the executions are pipelined, the one following the failure has been executed
+        conn.query("SELECT id FROM mutable ORDER BY id", ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(2, rows.size());
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchWithChangingParamTypes(TestContext ctx) {
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      List<Tuple> batch = new ArrayList<>();
+      batch.add(Tuple.of(1, "one"));
+      batch.add(Tuple.of(2, "two"));
+      batch.add(Tuple.of(3L, "three"));
+      batch.add(Tuple.of((short) 4, "four"));
+      batch.add(Tuple.of(5, "five"));
+      conn.preparedBatch(statement("INSERT INTO mutable (id, val) VALUES (", ", ", ")"), batch, ctx.asyncAssertSuccess(result -> {
+        conn.preparedQuery(statement("SELECT SUM(id) FROM mutable WHERE id <> ", ""), Tuple.of("0"), ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(15, rows.iterator().next().getInteger(0));
+        }));
+      }));
+    }));
+  }
 }
@@ -15,6 +15,11 @@ public class PgConnectOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PgConnectOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "lazyJsonDecoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLazyJsonDecoding((Boolean)member.getValue());
+          }
+          break;
         case "pipeliningLimit":
           if (member.getValue() instanceof Number) {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
@@ -36,6 +41,7 @@ public class PgConnectOptionsConverter {
   }
 
   public static void toJson(PgConnectOptions obj, java.util.Map<String, Object> json) {
+    json.put("lazyJsonDecoding", obj.isLazyJsonDecoding());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
     if (obj.getSslMode() != null) {
       json.put("sslMode", obj.getSslMode().name());
@@ -29,11 +29,15 @@ import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -578,6 +582,44 @@ public class PgClientExamples {
     });
   }
 
+  public void copyFrom(Vertx vertx, PgConnection connection) {
+    AsyncFile file = vertx.fileSystem().openBlocking("users.csv", new OpenOptions().setRead(true));
+    connection.copyFrom("COPY users FROM STDIN (FORMAT csv)", file, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows");
+      } else {
+        System.out.println("Failed to copy due to " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void copyFromBinary(Vertx vertx, PgConnection connection) {
+    PgCopyBinaryEncoder encoder = PgCopyBinaryEncoder.create(Arrays.asList("int4", "varchar"));
+    Buffer data = Buffer.buffer()
+      .appendBuffer(encoder.header())
+      .appendBuffer(encoder.encode(Tuple.of(1, "julien")))
+      .appendBuffer(encoder.encode(Tuple.of(2, "emad")))
+      .appendBuffer(encoder.trailer());
+    vertx.fileSystem().writeFileBlocking("users.bin", data);
+    AsyncFile file = vertx.fileSystem().openBlocking("users.bin", new OpenOptions().setRead(true));
+    connection.copyFrom("COPY users (id, name) FROM STDIN (FORMAT binary)", file, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows");
+      }
+    });
+  }
+
+  public void copyTo(Vertx vertx, PgConnection connection) {
+    AsyncFile file = vertx.fileSystem().openBlocking("users.csv", new OpenOptions().setWrite(true));
+    connection
+      .copyTo("COPY users TO STDOUT (FORMAT csv)")
+      .pipeTo(file, ar -> {
+        if (ar.failed()) {
+          System.out.println("Failed to copy due to " + ar.cause().getMessage());
+        }
+      });
+  }
+
   public void returning(SqlClient client) {
     client.preparedQuery("INSERT INTO color (color_name) VALUES ($1), ($2), ($3) RETURNING color_id", Tuple.of("white", "red", "blue"), ar -> {
       if (ar.succeeded()) {
@@ -97,6 +97,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_USER = "user";
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
+  public static final boolean DEFAULT_LAZY_JSON_DECODING = false;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
@@ -111,6 +112,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   }
 
   private int pipeliningLimit;
+  private boolean lazyJsonDecoding;
   private SslMode sslMode;
 
   public PgConnectOptions() {
@@ -125,6 +127,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public PgConnectOptions(PgConnectOptions other) {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
+    lazyJsonDecoding = other.lazyJsonDecoding;
     sslMode = other.sslMode;
   }
 
@@ -165,6 +168,25 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether the {@code JSON} and {@code JSONB} values of the rows are parsed when they are accessed
+   */
+  public boolean isLazyJsonDecoding() {
+    return lazyJsonDecoding;
+  }
+
+  /**
+   * Set whether the {@code JSON} and {@code JSONB} values of the rows are parsed when they are accessed rather than
+   * when the rows are decoded, the bytes of the values are kept until then.
+   *
+   * @param lazyJsonDecoding the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setLazyJsonDecoding(boolean lazyJsonDecoding) {
+    this.lazyJsonDecoding = lazyJsonDecoding;
+    return this;
+  }
+
   public PgConnectOptions setCachePreparedStatements(boolean cachePreparedStatements) {
     return (PgConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
@@ -433,6 +455,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     this.setPassword(DEFAULT_PASSWORD);
     this.setDatabase(DEFAULT_DATABASE);
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+    lazyJsonDecoding = DEFAULT_LAZY_JSON_DECODING;
     sslMode = DEFAULT_SSLMODE;
     this.setProperties(new HashMap<>(DEFAULT_PROPERTIES));
   }
@@ -453,6 +476,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     PgConnectOptions that = (PgConnectOptions) o;
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
+    if (lazyJsonDecoding != that.lazyJsonDecoding) return false;
     if (sslMode != that.sslMode) return false;
 
     return true;
@@ -462,6 +486,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
+    result = 31 * result + (lazyJsonDecoding ? 1 : 0);
     result = 31 * result + sslMode.hashCode();
     return result;
   }
@@ -19,6 +19,7 @@ package io.vertx.pgclient;
 
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.pgclient.impl.PgConnectionImpl;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
@@ -29,6 +30,8 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 import java.util.stream.Collector;
@@ -41,6 +44,7 @@ import java.util.stream.Collector;
  *   <ul>
  *     <li>Notification</li>
  *     <li>Request Cancellation</li>
+ *     <li>Copy</li>
  *   </ul>
  * </P>
  *
@@ -123,6 +127,36 @@ public interface PgConnection extends SqlConnection {
    */
   PgConnection cancelRequest(Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement, the content of the {@code source} stream is sent to the server
+   * as the data of the copy.
+   * <p/>
+   * The stream is paused until the server is ready to receive the data and then it is paused whenever the connection
+   * cannot write more data. When the stream fails, the copy is aborted and the handler is called with the failure
+   * of the stream.
+   * <p/>
+   * The {@link PgCopyBinaryEncoder} encodes rows in the binary copy format.
+   *
+   * @param sql the {@code COPY} statement
+   * @param source the data to copy
+   * @param handler the handler called with the number of copied rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyFrom(String sql, ReadStream<Buffer> source, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Create a stream of the data of a {@code COPY ... TO STDOUT} statement, the statement is executed when the
+   * stream handler is set.
+   * <p/>
+   * The connection stops reading from the server while the stream is paused, the stream ends when the statement
+   * completes.
+   *
+   * @param sql the {@code COPY} statement
+   * @return the stream of the copy data
+   */
+  ReadStream<Buffer> copyTo(String sql);
+
   /**
    * @return The process ID of the target backend
    */
@@ -199,6 +233,13 @@ public interface PgConnection extends SqlConnection {
   @GenIgnore
   <R> PgConnection preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  /**
+   * {@inheritDoc}
+   */
+  @Fluent
+  @Override
+  PgConnection preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.codec.PgCopyBinaryEncoderImpl;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
+
+/**
+ * Encode rows in the binary format of the {@code COPY ... FROM STDIN (FORMAT binary)} statement, the values are
+ * encoded with the same binary codecs than the parameters of a prepared query.
+ * <p>
+ * The data of a copy is the {@link #header()}, the encoded rows and the {@link #trailer()}.
+ */
+@VertxGen
+public interface PgCopyBinaryEncoder {
+
+  /**
+   * Create an encoder for the columns of the given types.
+   *
+   * @param types the Postgres type names of the copied columns, e.g {@code int4}, {@code varchar} or {@code text[]}
+   * @return the encoder
+   * @throws IllegalArgumentException when a type is unknown or has no binary encoding
+   */
+  static PgCopyBinaryEncoder create(List<String> types) {
+    return new PgCopyBinaryEncoderImpl(types);
+  }
+
+  /**
+   * @return the header of the binary copy format
+   */
+  Buffer header();
+
+  /**
+   * Encode a row, the values must be of the Java types accepted for the columns.
+   *
+   * @param row the row values
+   * @return the encoded row
+   */
+  Buffer encode(Tuple row);
+
+  /**
+   * @return the trailer of the binary copy format
+   */
+  Buffer trailer();
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.netty.channel.Channel;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+import java.util.ArrayDeque;
+
+/**
+ * The data of a {@code COPY ... TO STDOUT} statement, the statement is executed when the handler is set.
+ * <p>
+ * The reads of the connection channel are suspended when the data is not consumed and resumed when the pending data
+ * has been delivered.
+ */
+class CopyOutStreamImpl implements ReadStream<Buffer> {
+
+  private final PgConnectionImpl conn;
+  private final String sql;
+  private final ArrayDeque<Buffer> pending = new ArrayDeque<>();
+
+  private Handler<Buffer> dataHandler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private long demand = Long.MAX_VALUE;
+  private boolean emitting;
+  private CopyOutCommand cmd;
+  private AsyncResult<Integer> result;
+  private boolean suspended;
+
+  CopyOutStreamImpl(PgConnectionImpl conn, String sql) {
+    this.conn = conn;
+    this.sql = sql;
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+    CopyOutCommand c;
+    synchronized (this) {
+      dataHandler = handler;
+      if (handler == null || cmd != null) {
+        return this;
+      }
+      c = cmd = new CopyOutCommand(sql, this::handleData);
+    }
+    conn.copyOut(c, this::handleResult);
+    return this;
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> pause() {
+    demand = 0L;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    synchronized (this) {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+    }
+    checkPending();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  private void handleData(Buffer data) {
+    synchronized (this) {
+      pending.add(data);
+    }
+    checkPending();
+  }
+
+  private void handleResult(AsyncResult<Integer> ar) {
+    synchronized (this) {
+      result = ar;
+    }
+    checkPending();
+  }
+
+  private void checkPending() {
+    synchronized (this) {
+      if (emitting) {
+        return;
+      }
+      emitting = true;
+    }
+    while (true) {
+      Handler<Buffer> handler = null;
+      Buffer data = null;
+      AsyncResult<Integer> ar = null;
+      synchronized (this) {
+        if (pending.isEmpty()) {
+          emitting = false;
+          // the data has been delivered, read more data or the end of the command
+          setAutoRead(true);
+          if (result == null) {
+            break;
+          }
+          ar = result;
+          result = null;
+        } else if (demand == 0L) {
+          emitting = false;
+          setAutoRead(false);
+          break;
+        } else {
+          handler = dataHandler;
+          data = pending.poll();
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+        }
+      }
+      if (ar != null) {
+        handleEnd(ar);
+        break;
+      }
+      if (handler != null) {
+        handler.handle(data);
+      }
+    }
+  }
+
+  private void handleEnd(AsyncResult<Integer> ar) {
+    if (ar.succeeded()) {
+      Handler<Void> handler;
+      synchronized (this) {
+        handler = endHandler;
+      }
+      if (handler != null) {
+        handler.handle(null);
+      }
+    } else {
+      Handler<Throwable> handler;
+      synchronized (this) {
+        handler = exceptionHandler;
+      }
+      if (handler != null) {
+        handler.handle(ar.cause());
+      }
+    }
+  }
+
+  private void setAutoRead(boolean autoRead) {
+    if (cmd == null) {
+      // the statement is executed when the handler is set
+      return;
+    }
+    Channel channel = cmd.channel;
+    if (channel != null && suspended == autoRead) {
+      suspended = !autoRead;
+      channel.config().setAutoRead(autoRead);
+    }
+  }
+}
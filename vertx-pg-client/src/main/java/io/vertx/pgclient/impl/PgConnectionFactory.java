@@ -26,6 +26,7 @@ import io.vertx.core.*;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.net.*;
 import io.vertx.sqlclient.impl.ConnectionFactory;
+import io.vertx.sqlclient.impl.PreparedStatementMetadataCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -50,7 +51,9 @@ class PgConnectionFactory implements ConnectionFactory {
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
   private final int pipeliningLimit;
+  private final boolean lazyJsonDecoding;
   private final boolean isUsingDomainSocket;
+  private PreparedStatementMetadataCache psMetadataCache;
 
   PgConnectionFactory(VertxInternal vertx, ContextInternal context, PgConnectOptions options) {
 
@@ -71,18 +74,26 @@ class PgConnectionFactory implements ConnectionFactory {
     this.properties = new HashMap<>(options.getProperties());
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.lazyJsonDecoding = options.isLazyJsonDecoding();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
     this.isUsingDomainSocket = options.isUsingDomainSocket();
     this.client = vertx.createNetClient(netClientOptions);
   }
 
+  /**
+   * Share the metadata of the prepared statements between the connections created by this factory.
+   */
+  void setPreparedStatementMetadataCache(PreparedStatementMetadataCache psMetadataCache) {
+    this.psMetadataCache = psMetadataCache;
+  }
+
   void close() {
     client.close();
   }
 
   public void cancelRequest(int processId, int secretKey, Handler<AsyncResult<Void>> handler) {
-    doConnect().onComplete(ar -> {
+    doConnect(context).onComplete(ar -> {
       if (ar.succeeded()) {
         PgSocketConnection conn = (PgSocketConnection) ar.result();
         conn.sendCancelRequestMessage(processId, secretKey, handler);
@@ -94,7 +105,12 @@ class PgConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
-    return doConnect()
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
+    return doConnect(context)
       .flatMap(conn -> {
         PgSocketConnection socket = (PgSocketConnection) conn;
         socket.init();
@@ -103,14 +119,14 @@ class PgConnectionFactory implements ConnectionFactory {
       });
   }
 
-  private Future<Connection> doConnect() {
+  private Future<Connection> doConnect(ContextInternal context) {
     switch (sslMode) {
       case DISABLE:
-        return doConnect( false);
+        return doConnect(context, false);
       case ALLOW:
-        return doConnect( false).recover(err -> doConnect( true));
+        return doConnect(context, false).recover(err -> doConnect(context, true));
       case PREFER:
-        return doConnect( true).recover(err -> doConnect( false));
+        return doConnect(context, true).recover(err -> doConnect(context, false));
       case VERIFY_FULL:
         if (hostnameVerificationAlgorithm == null || hostnameVerificationAlgorithm.isEmpty()) {
           return context.failedFuture(new IllegalArgumentException("Host verification algorithm must be specified under verify-full sslmode"));
@@ -120,19 +136,19 @@ class PgConnectionFactory implements ConnectionFactory {
           return context.failedFuture(new IllegalArgumentException("Trust options must be specified under verify-full or verify-ca sslmode"));
         }
       case REQUIRE:
-        return doConnect(true);
+        return doConnect(context, true);
       default:
         return context.failedFuture(new IllegalArgumentException("Unsupported SSL mode"));
     }
   }
 
-  private Future<Connection> doConnect(boolean ssl) {
+  private Future<Connection> doConnect(ContextInternal context, boolean ssl) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(ssl, promise));
+    context.dispatch(null, v -> doConnect(context, ssl, promise));
     return promise.future();
   }
 
-  private void doConnect(boolean ssl, Promise<Connection> promise) {
+  private void doConnect(ContextInternal context, boolean ssl, Promise<Connection> promise) {
     SocketAddress socketAddress;
     if (!isUsingDomainSocket) {
       socketAddress = SocketAddress.inetSocketAddress(port, host);
@@ -148,7 +164,7 @@ class PgConnectionFactory implements ConnectionFactory {
       promise.fail(e);
       return;
     }
-    Future<Connection> connFut = soFut.map(so -> newSocketConnection((NetSocketInternal) so));
+    Future<Connection> connFut = soFut.map(so -> newSocketConnection(context, (NetSocketInternal) so));
     if (ssl && !isUsingDomainSocket) {
       // upgrade connection to SSL if needed
       connFut = connFut.flatMap(conn -> Future.future(p -> {
@@ -165,7 +181,9 @@ class PgConnectionFactory implements ConnectionFactory {
     connFut.onComplete(promise);
   }
 
-  private PgSocketConnection newSocketConnection(NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
+  private PgSocketConnection newSocketConnection(ContextInternal context, NetSocketInternal socket) {
+    PgSocketConnection conn = new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, lazyJsonDecoding, context);
+    conn.setPreparedStatementMetadataCache(psMetadataCache);
+    return conn;
   }
 }
@@ -16,7 +16,11 @@
  */
 package io.vertx.pgclient.impl;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgNotification;
@@ -72,6 +76,23 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
     }
   }
 
+  @Override
+  public PgConnection copyFrom(String sql, ReadStream<Buffer> source, Handler<AsyncResult<Integer>> handler) {
+    // the source is resumed when the server is ready to receive the data
+    source.pause();
+    schedule(new CopyInCommand(sql, source), promise(handler));
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> copyTo(String sql) {
+    return new CopyOutStreamImpl(this, sql);
+  }
+
+  void copyOut(CopyOutCommand cmd, Handler<AsyncResult<Integer>> handler) {
+    schedule(cmd, promise(handler));
+  }
+
   @Override
   public int processId() {
     return conn.getProcessId();
@@ -24,7 +24,7 @@ import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.PoolBase;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
 import io.vertx.core.*;
-import io.vertx.sqlclient.impl.pool.ConnectionPool;
+import io.vertx.sqlclient.impl.pool.ShardedConnectionPool;
 
 /**
  * Todo :
@@ -38,14 +38,18 @@ import io.vertx.sqlclient.impl.pool.ConnectionPool;
 public class PgPoolImpl extends PoolBase<PgPoolImpl> implements PgPool {
 
   private final PgConnectionFactory factory;
-  private final ConnectionPool pool;
+  private final ShardedConnectionPool pool;
   private final ContextInternal contextHook;
   private final Closeable hook;
 
   public PgPoolImpl(ContextInternal context, boolean closeVertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
-    super(context.owner(), closeVertx);
+    super(context.owner(), closeVertx, connectOptions, poolOptions);
+    if (poolOptions.getCachePreparedStatements() && !connectOptions.getCachePreparedStatements()) {
+      connectOptions = new PgConnectOptions(connectOptions).setCachePreparedStatements(true);
+    }
     this.factory = new PgConnectionFactory(context.owner(), context, connectOptions);
-    this.pool = new ConnectionPool(factory, context, poolOptions.getMaxSize(), poolOptions.getMaxWaitQueueSize());
+    this.factory.setPreparedStatementMetadataCache(preparedStatementMetadataCache());
+    this.pool = new ShardedConnectionPool(factory, context, poolOptions, metrics());
 
     if (context.deploymentID() != null) {
       contextHook = context;
@@ -70,6 +74,21 @@ public class PgPoolImpl extends PoolBase<PgPoolImpl> implements PgPool {
     pool.acquire(completionHandler);
   }
 
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, long timeout) {
+    pool.acquire(completionHandler, timeout);
+  }
+
+  @Override
+  public void acquire(Handler<AsyncResult<Connection>> completionHandler, String sql) {
+    pool.acquire(completionHandler, sql);
+  }
+
+  @Override
+  protected void doWarmUp(Handler<AsyncResult<Void>> completionHandler) {
+    pool.warmUp().onComplete(completionHandler);
+  }
+
   @Override
   protected SqlConnectionImpl wrap(ContextInternal context, Connection conn) {
     return new PgConnectionImpl(factory, context, conn);
@@ -21,10 +21,15 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.pgclient.impl.codec.PgCodec;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.Notice;
 import io.vertx.sqlclient.impl.Notification;
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.impl.PreparedStatementMetadataCache;
 import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.InitCommand;
@@ -43,6 +48,7 @@ import java.util.Map;
 public class PgSocketConnection extends SocketConnectionBase {
 
   private PgCodec codec;
+  private final boolean lazyJsonDecoding;
   public int processId;
   public int secretKey;
 
@@ -51,13 +57,15 @@ public class PgSocketConnection extends SocketConnectionBase {
                             int preparedStatementCacheSize,
                             int preparedStatementCacheSqlLimit,
                             int pipeliningLimit,
+                            boolean lazyJsonDecoding,
                             ContextInternal context) {
     super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
+    this.lazyJsonDecoding = lazyJsonDecoding;
   }
 
   @Override
   public void init() {
-    codec = new PgCodec();
+    codec = new PgCodec(lazyJsonDecoding);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -132,6 +140,84 @@ public class PgSocketConnection extends SocketConnectionBase {
     pipeline.addBefore("handler", "initiate-ssl-handler", new InitiateSslHandler(this, upgradePromise));
   }
 
+  @Override
+  protected PreparedStatement adoptPreparedStatement(PreparedStatement template, PreparedStatementMetadataCache cache, long statement) {
+    return PgCodec.adoptPreparedStatement(template, cache, statement);
+  }
+
+  @Override
+  protected boolean isPipelinable(CommandBase<?> cmd) {
+    // the server reads the copy data until the end of the copy, no other message can be interleaved
+    return !(cmd instanceof CopyInCommand);
+  }
+
+  @Override
+  public <R> boolean scheduleWithBegin(CommandBase<R> cmd, Promise<Void> begin, Promise<R> handler, Handler<AsyncResult<Void>> commit) {
+    if (commit != null && cmd instanceof SimpleQueryCommand<?>) {
+      // a single statement transaction is sent as a single query, the server does not execute the COMMIT
+      // when the statement fails and the transaction remains aborted until it is rolled back
+      SimpleQueryCommand<?> query = (SimpleQueryCommand<?>) cmd;
+      // the statement is completed with the response of the query wrapping it
+      cmd.handler = handler;
+      Promise<Boolean> promise = Promise.promise();
+      promise.future().onComplete(ar -> {
+        begin.complete();
+        query.complete(ar);
+        commit.handle(ar.mapEmpty());
+      });
+      schedule(wrapInTransaction(query), promise);
+      return true;
+    }
+    return super.scheduleWithBegin(cmd, begin, handler, commit);
+  }
+
+  private static <T> SimpleQueryCommand<T> wrapInTransaction(SimpleQueryCommand<T> cmd) {
+    // line breaks terminate a trailing comment of the statement
+    return new SimpleQueryCommand<>(
+      TxCommand.BEGIN.sql + ";\n" + cmd.sql() + "\n;" + TxCommand.COMMIT.sql,
+      cmd.isSingleton(),
+      cmd.autoCommit(),
+      cmd.collector(),
+      new TransactionResultHandler<>(cmd.resultHandler()));
+  }
+
+  /**
+   * Forward the results of the statement wrapped in a transaction, the results of the {@code BEGIN} and
+   * {@code COMMIT} are dropped.
+   */
+  private static class TransactionResultHandler<T> implements QueryResultHandler<T> {
+
+    private final QueryResultHandler<T> handler;
+    private int count;
+    private int updatedCount;
+    private int size;
+    private RowDesc desc;
+    private T result;
+    private Throwable failure;
+
+    TransactionResultHandler(QueryResultHandler<T> handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public <V> void addProperty(PropertyKind<V> property, V value) {
+      handler.addProperty(property, value);
+    }
+
+    @Override
+    public void handleResult(int updatedCount, int size, RowDesc desc, T result, Throwable failure) {
+      // the last result is only known at the next one
+      if (count++ > 1) {
+        handler.handleResult(this.updatedCount, this.size, this.desc, this.result, this.failure);
+      }
+      this.updatedCount = updatedCount;
+      this.size = size;
+      this.desc = desc;
+      this.result = result;
+      this.failure = failure;
+    }
+  }
+
   @Override
   protected <R> void doSchedule(CommandBase<R> cmd, Handler<AsyncResult<R>> handler) {
     if (cmd instanceof TxCommand) {
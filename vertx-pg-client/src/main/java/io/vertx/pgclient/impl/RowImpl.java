@@ -29,7 +29,7 @@ import io.vertx.pgclient.data.Path;
 import io.vertx.pgclient.data.Polygon;
 import io.vertx.pgclient.data.Interval;
 import io.vertx.pgclient.data.Point;
-import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.core.buffer.Buffer;
 
@@ -37,12 +37,16 @@ import java.time.*;
 import java.util.List;
 import java.util.UUID;
 
-public class RowImpl extends ArrayTuple implements Row {
+public class RowImpl extends RowBase implements Row {
 
   private final RowDesc desc;
 
   public RowImpl(RowDesc desc) {
-    super(desc.columnNames().size());
+    this(desc, null);
+  }
+
+  public RowImpl(RowDesc desc, byte[] kinds) {
+    super(desc.columnNames().size(), kinds);
     this.desc = desc;
   }
 
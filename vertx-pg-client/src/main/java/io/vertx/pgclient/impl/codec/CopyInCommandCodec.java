@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+/**
+ * Pump the source stream of a {@code COPY ... FROM STDIN} statement to the channel, the source is paused while
+ * the channel is not writable.
+ * <p>
+ * The source handlers can be called from any thread, the messages are encoded on the event loop of the channel.
+ */
+class CopyInCommandCodec extends PgCommandCodec<Integer, CopyInCommand> {
+
+  private PgEncoder encoder;
+  private boolean started;
+  private boolean copying;
+  private Throwable sourceFailure;
+
+  CopyInCommandCodec(CopyInCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  private void execute(Runnable task) {
+    EventExecutor executor = encoder.channelHandlerContext().executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    ReadStream<Buffer> source = cmd.source();
+    started = true;
+    copying = true;
+    source.exceptionHandler(err -> execute(() -> {
+      if (copying) {
+        stop();
+        sourceFailure = err;
+        encoder.writeCopyFail(err.getMessage() != null ? err.getMessage() : err.getClass().getName());
+        encoder.flush();
+      }
+    }));
+    source.endHandler(v -> execute(() -> {
+      if (copying) {
+        stop();
+        encoder.writeCopyDone();
+        encoder.flush();
+      }
+    }));
+    source.handler(data -> execute(() -> {
+      if (copying) {
+        encoder.writeCopyData(data.getByteBuf());
+        encoder.flush();
+        if (!encoder.channelHandlerContext().channel().isWritable()) {
+          source.pause();
+        }
+      }
+    }));
+    source.resume();
+  }
+
+  @Override
+  void handleCopyOutResponse() {
+    // the data of a COPY TO STDOUT statement is discarded, the command fails when the statement completes
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+  }
+
+  @Override
+  void handleCopyDone() {
+  }
+
+  @Override
+  void handleRowDescription(PgRowDesc rowDescription) {
+    // the rows of a statement that is not a COPY are discarded, the command fails when the statement completes
+  }
+
+  @Override
+  void handleDataRow(int len, ByteBuf in) {
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (copying && writable) {
+      cmd.source().resume();
+    }
+  }
+
+  private void stop() {
+    if (copying) {
+      copying = false;
+      ReadStream<Buffer> source = cmd.source();
+      source.handler(null);
+      source.endHandler(null);
+      source.exceptionHandler(null);
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    if (!started) {
+      failure = new PgException("Not a COPY FROM STDIN statement: " + cmd.sql(), "ERROR", null, null);
+    }
+    result = updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    // the server does not expect more data, the messages already sent are discarded
+    stop();
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    stop();
+    if (sourceFailure != null) {
+      completionHandler.handle(CommandResponse.failure(sourceFailure));
+    } else {
+      super.handleReadyForQuery();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+/**
+ * Deliver the data of a {@code COPY ... TO STDOUT} statement, each {@code CopyData} message is copied to a
+ * buffer.
+ */
+class CopyOutCommandCodec extends PgCommandCodec<Integer, CopyOutCommand> {
+
+  private PgEncoder encoder;
+
+  CopyOutCommandCodec(CopyOutCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyOutResponse() {
+    cmd.channel = encoder.channelHandlerContext().channel();
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    // the server waits for the data of a COPY FROM STDIN statement
+    encoder.writeCopyFail("Not a COPY TO STDOUT statement");
+    encoder.flush();
+  }
+
+  @Override
+  void handleRowDescription(PgRowDesc rowDescription) {
+    // the rows of a statement that is not a COPY are discarded, the command fails when the statement completes
+  }
+
+  @Override
+  void handleDataRow(int len, ByteBuf in) {
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+    cmd.dataHandler().handle(Buffer.buffer(Unpooled.copiedBuffer(in)));
+  }
+
+  @Override
+  void handleCopyDone() {
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    if (cmd.channel == null) {
+      failure = new PgException("Not a COPY TO STDOUT statement: " + cmd.sql(), "ERROR", null, null);
+    }
+    result = updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+}
@@ -54,8 +54,8 @@ enum DataType {
   FLOAT4_ARRAY(1021, true, Float[].class, Number[].class),
   FLOAT8(701, true, Double.class, Number.class),
   FLOAT8_ARRAY(1022, true, Double[].class, Number[].class),
-  NUMERIC(1700, false, Numeric.class, Number.class),
-  NUMERIC_ARRAY(1231, false, Numeric[].class, Number[].class),
+  NUMERIC(1700, true, Numeric.class, Number.class),
+  NUMERIC_ARRAY(1231, true, Numeric[].class, Number[].class),
   MONEY(790, true, Object.class),
   MONEY_ARRAY(791, true, Object[].class),
   BIT(1560, true, Object.class),
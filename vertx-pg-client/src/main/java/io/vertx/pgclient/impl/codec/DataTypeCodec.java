@@ -32,6 +32,9 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.sqlclient.impl.codec.CommonCodec;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatterBuilder;
@@ -194,6 +197,12 @@ class DataTypeCodec {
       case FLOAT8_ARRAY:
         binaryEncodeArray((Number[]) value, DataType.FLOAT8, buff);
         break;
+      case NUMERIC:
+        binaryEncodeNUMERIC((Number) value, buff);
+        break;
+      case NUMERIC_ARRAY:
+        binaryEncodeArray((Number[]) value, DataType.NUMERIC, buff);
+        break;
       case CHAR:
         binaryEncodeCHAR((String) value, buff);
         break;
@@ -371,6 +380,10 @@ class DataTypeCodec {
         return binaryDecodeFLOAT8(index, len, buff);
       case FLOAT8_ARRAY:
         return binaryDecodeArray(DOUBLE_ARRAY_FACTORY, DataType.FLOAT8, index, len, buff);
+      case NUMERIC:
+        return binaryDecodeNUMERIC(index, len, buff);
+      case NUMERIC_ARRAY:
+        return binaryDecodeArray(NUMERIC_ARRAY_FACTORY, DataType.NUMERIC, index, len, buff);
       case CHAR:
         return binaryDecodeCHAR(index, len, buff);
       case CHAR_ARRAY:
@@ -732,6 +745,127 @@ class DataTypeCodec {
     return Double.parseDouble(cs.toString());
   }
 
+  private static final int NUMERIC_POS = 0x0000;
+  private static final int NUMERIC_NEG = 0x4000;
+  private static final int NUMERIC_NAN = 0xC000;
+  private static final BigInteger NBASE_4 = BigInteger.valueOf(10000L * 10000L * 10000L * 10000L);
+
+  /**
+   * Encode the number as base 10000 digits with the weight of the first digit, the sign and the display scale.
+   */
+  private static void binaryEncodeNUMERIC(Number value, ByteBuf buff) {
+    BigDecimal decimal = toBigDecimal(value);
+    if (decimal == null) {
+      buff.writeShort(0);
+      buff.writeShort(0);
+      buff.writeShort(NUMERIC_NAN);
+      buff.writeShort(0);
+      return;
+    }
+    int scale = decimal.scale();
+    BigInteger unscaled = decimal.unscaledValue().abs();
+    if (scale < 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(-scale));
+      scale = 0;
+    }
+    // align the fractional digits on base 10000 digits
+    int pad = (4 - scale % 4) % 4;
+    if (pad > 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(pad));
+    }
+    int fractionalDigits = (scale + pad) / 4;
+    // the digits from the least significant, log10(2) / 4 < 1 / 13
+    short[] digits = new short[unscaled.bitLength() / 13 + 2];
+    int ndigits = 0;
+    if (unscaled.bitLength() < 63) {
+      ndigits = toBase10000(unscaled.longValue(), digits, ndigits, false);
+    } else {
+      while (unscaled.signum() != 0) {
+        BigInteger[] qr = unscaled.divideAndRemainder(NBASE_4);
+        unscaled = qr[0];
+        ndigits = toBase10000(qr[1].longValue(), digits, ndigits, unscaled.signum() != 0);
+      }
+    }
+    int weight = ndigits - fractionalDigits - 1;
+    int first = 0;
+    while (first < ndigits && digits[first] == 0) {
+      first++;
+    }
+    buff.writeShort(ndigits - first);
+    buff.writeShort(ndigits == first ? 0 : weight);
+    buff.writeShort(decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+    buff.writeShort(scale);
+    for (int i = ndigits - 1;i >= first;i--) {
+      buff.writeShort(digits[i]);
+    }
+  }
+
+  private static int toBase10000(long value, short[] digits, int ndigits, boolean pad) {
+    int to = ndigits + 4;
+    while (value != 0L || (pad && ndigits < to)) {
+      digits[ndigits++] = (short) (value % 10000);
+      value /= 10000;
+    }
+    return ndigits;
+  }
+
+  private static BigDecimal toBigDecimal(Number value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    } else if (value instanceof Numeric) {
+      return ((Numeric) value).bigDecimalValue();
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return BigDecimal.valueOf(value.longValue());
+    } else if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      double d = value.doubleValue();
+      if (Double.isNaN(d)) {
+        return null;
+      }
+      // keep the text representation of the value
+      return value instanceof Double ? BigDecimal.valueOf(d) : new BigDecimal(value.toString());
+    } else {
+      return new BigDecimal(value.toString());
+    }
+  }
+
+  private static Numeric binaryDecodeNUMERIC(int index, int len, ByteBuf buff) {
+    int ndigits = buff.getUnsignedShort(index);
+    int weight = buff.getShort(index + 2);
+    int sign = buff.getUnsignedShort(index + 4);
+    int dscale = buff.getUnsignedShort(index + 6);
+    if (sign == NUMERIC_NAN) {
+      return Numeric.NaN;
+    }
+    int idx = index + 8;
+    BigInteger unscaled = null;
+    long acc = 0L;
+    int accDigits = 0;
+    for (int i = 0;i < ndigits;i++) {
+      acc = acc * 10000 + buff.getShort(idx);
+      idx += 2;
+      if (++accDigits == 4 && i + 1 < ndigits) {
+        unscaled = unscaled == null ? BigInteger.valueOf(acc) : unscaled.multiply(NBASE_4).add(BigInteger.valueOf(acc));
+        acc = 0L;
+        accDigits = 0;
+      }
+    }
+    BigDecimal decimal;
+    if (unscaled == null) {
+      decimal = BigDecimal.valueOf(acc, (ndigits - 1 - weight) * 4);
+    } else {
+      unscaled = unscaled.multiply(BigInteger.valueOf(10000).pow(accDigits)).add(BigInteger.valueOf(acc));
+      decimal = new BigDecimal(unscaled, (ndigits - 1 - weight) * 4);
+    }
+    if (ndigits == 0) {
+      decimal = BigDecimal.ZERO;
+    }
+    // the digits after the display scale are zeros
+    decimal = decimal.setScale(dscale, RoundingMode.DOWN);
+    return Numeric.create(sign == NUMERIC_NEG ? decimal.negate() : decimal);
+  }
+
   private static Number textDecodeNUMERIC(int index, int len, ByteBuf buff) {
     // Todo optimize that
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
@@ -1260,32 +1394,40 @@ class DataTypeCodec {
   }
 
   private static Object textDecodeJSONB(int index, int len, ByteBuf buff) {
+    return decodeJson(index, len, buff);
+  }
 
-    // Try to do without the intermediary String (?)
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    Object value = null;
-    String s = cs.toString();
-    int pos = 0;
-    while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
-      pos++;
+  /**
+   * Parse a JSON value directly from the bytes of the buffer.
+   */
+  static Object decodeJson(int index, int len, ByteBuf buff) {
+    int end = index + len;
+    while (index < end && isJsonWhitespace(buff.getByte(index))) {
+      index++;
     }
-    if (pos == s.length()) {
-      return null;
-    } else if (s.charAt(pos) == '{') {
-      value = new JsonObject(s);
-    } else if (s.charAt(pos) == '[') {
-      value = new JsonArray(s);
-    } else {
-      Object o = Json.decodeValue(s);
-      if (o == null) {
-        return Tuple.JSON_NULL;
-      }
-      if (o instanceof Number || o instanceof Boolean || o instanceof String) {
-        return o;
-      }
+    if (index == end) {
       return null;
     }
-    return value;
+    Buffer json = Buffer.buffer(buff.slice(index, end - index));
+    switch (buff.getByte(index)) {
+      case '{':
+        return new JsonObject(json);
+      case '[':
+        return new JsonArray(json);
+      default:
+        Object o = Json.decodeValue(json);
+        if (o == null) {
+          return Tuple.JSON_NULL;
+        }
+        if (o instanceof Number || o instanceof Boolean || o instanceof String) {
+          return o;
+        }
+        return null;
+    }
+  }
+
+  private static boolean isJsonWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r';
   }
 
   private static Object binaryDecodeJSONB(int index, int len, ByteBuf buff) {
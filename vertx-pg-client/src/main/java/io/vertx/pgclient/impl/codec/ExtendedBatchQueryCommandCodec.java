@@ -35,16 +35,19 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
       encoder.writeSync();
     } else {
       PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
-      if (ps.bind.statement == 0) {
-        encoder.writeParse(new Parse(ps.sql()));
-      }
       if (cmd.params().isEmpty()) {
         // We set suspended to false as we won't get a command complete command back from Postgres
         this.result = false;
         completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
       } else {
+        writeParse(encoder, ps);
+        boolean first = true;
         for (Tuple param : cmd.params()) {
           encoder.writeBind(ps.bind, cmd.cursorId(), param);
+          if (first) {
+            writeDescribe(encoder, ps);
+            first = false;
+          }
           encoder.writeExecute(cmd.cursorId(), cmd.fetch());
         }
         encoder.writeSync();
@@ -17,23 +17,92 @@
 package io.vertx.pgclient.impl.codec;
 
 import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.StalePreparedStatement;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommandBase;
 
 abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommandBase<R>> extends QueryCommandBaseCodec<R, C> {
 
+  private PgEncoder encoder;
+  private boolean parsing;
+  private boolean describing;
+
   ExtendedQueryCommandBaseCodec(C cmd) {
     super(cmd);
     decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
   }
 
+  /**
+   * Write the Parse of the statement unless the named statement is already parsed on the server.
+   */
+  void writeParse(PgEncoder encoder, PgPreparedStatement ps) {
+    if (ps.bind.statement == 0) {
+      encoder.writeParse(new Parse(ps.sql()));
+    } else if (!ps.parsed && !ps.parsing) {
+      encoder.writeParse(new Parse(ps.sql(), ps.bind.statement));
+      ps.parsing = true;
+      parsing = true;
+    }
+  }
+
+  /**
+   * Write the Describe of the portal when the row description of the statement has not been verified yet.
+   */
+  void writeDescribe(PgEncoder encoder, PgPreparedStatement ps) {
+    if (!ps.described) {
+      this.encoder = encoder;
+      encoder.writeDescribe(new Describe(0, cmd.cursorId() != null ? cmd.cursorId() : ""));
+      describing = true;
+    }
+  }
+
   @Override
   void handleRowDescription(PgRowDesc rowDescription) {
+    if (describing) {
+      // Response to Describe
+      describing = false;
+      verify(rowDescription);
+    }
     decoder = new RowResultDecoder<>(cmd.collector(), rowDescription);
   }
 
+  @Override
+  void handleNoData() {
+    if (describing) {
+      // Response to Describe
+      describing = false;
+      verify(null);
+    } else {
+      super.handleNoData();
+    }
+  }
+
+  private void verify(PgRowDesc portalDesc) {
+    PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+    if (!ps.verify(portalDesc)) {
+      // the next prepare of the statement describes it again with the current schema
+      encoder.channelHandlerContext().fireChannelRead(new StalePreparedStatement(ps));
+    }
+  }
+
   @Override
   void handleParseComplete() {
     // Response to Parse
+    if (parsing) {
+      parsing = false;
+      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      ps.parsing = false;
+      ps.parsed = true;
+    }
+  }
+
+  @Override
+  public void handleErrorResponse(ErrorResponse errorResponse) {
+    if (parsing) {
+      // The Parse failed, the next command executing the statement parses it again
+      parsing = false;
+      ((PgPreparedStatement)cmd.preparedStatement()).parsing = false;
+    }
+    super.handleErrorResponse(errorResponse);
   }
 
   @Override
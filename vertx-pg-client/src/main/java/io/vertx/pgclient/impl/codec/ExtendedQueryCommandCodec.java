@@ -33,10 +33,9 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
       encoder.writeSync();
     } else {
       PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
-      if (ps.bind.statement == 0) {
-        encoder.writeParse(new Parse(ps.sql()));
-      }
+      writeParse(encoder, ps);
       encoder.writeBind(ps.bind, cmd.cursorId(), cmd.params());
+      writeDescribe(encoder, ps);
       encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       encoder.writeSync();
     }
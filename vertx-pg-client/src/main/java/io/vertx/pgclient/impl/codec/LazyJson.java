@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.impl.LazyValue;
+
+/**
+ * The bytes of a {@code JSON} or {@code JSONB} value parsed when the value is accessed.
+ */
+class LazyJson implements LazyValue {
+
+  private final byte[] bytes;
+
+  private LazyJson(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Copy the value of a column, the version byte of a binary {@code JSONB} value is skipped.
+   */
+  static LazyJson create(DataType dataType, DataFormat dataFormat, int index, int len, ByteBuf buff) {
+    if (dataType == DataType.JSONB && dataFormat == DataFormat.BINARY) {
+      index++;
+      len--;
+    }
+    byte[] bytes = new byte[len];
+    buff.getBytes(index, bytes);
+    return new LazyJson(bytes);
+  }
+
+  @Override
+  public Object decode() {
+    return DataTypeCodec.decodeJson(0, bytes.length, Unpooled.wrappedBuffer(bytes));
+  }
+}
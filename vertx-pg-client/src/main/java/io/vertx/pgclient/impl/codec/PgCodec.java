@@ -18,6 +18,8 @@ package io.vertx.pgclient.impl.codec;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.impl.PreparedStatementMetadataCache;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.core.VertxException;
@@ -29,12 +31,25 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-  public PgCodec() {
-    PgDecoder decoder = new PgDecoder(inflight);
+  public PgCodec(boolean lazyJsonDecoding) {
+    PgDecoder decoder = new PgDecoder(inflight, lazyJsonDecoding);
     PgEncoder encoder = new PgEncoder(decoder, inflight);
     init(decoder, encoder);
   }
 
+  /**
+   * Create a statement from the metadata of a statement prepared by another connection, see
+   * {@link io.vertx.sqlclient.impl.SocketConnectionBase#adoptPreparedStatement}.
+   *
+   * @param template the statement prepared by another connection
+   * @param cache the cache the {@code template} comes from, the template is removed from it when it is stale
+   * @param statement the statement id allocated by this connection, {@code 0} for an unnamed statement
+   * @return the statement
+   */
+  public static PreparedStatement adoptPreparedStatement(PreparedStatement template, PreparedStatementMetadataCache cache, long statement) {
+    return new PgPreparedStatement((PgPreparedStatement) template, cache, statement);
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
     fail(ctx, cause);
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.ColumnCursor;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
+
+/**
+ * A {@link ColumnCursor} over a {@code DataRow} message, the offsets of the values are indexed when the cursor
+ * is positioned on a row and the integer, floating point and boolean values are read without boxing.
+ */
+class PgColumnCursor implements ColumnCursor {
+
+  private final PgRowDesc desc;
+  private final int[] offsets;
+  private final int[] lengths;
+  private ByteBuf in;
+  private int size;
+
+  PgColumnCursor(PgRowDesc desc) {
+    this.desc = desc;
+    this.offsets = new int[desc.columns.length];
+    this.lengths = new int[desc.columns.length];
+  }
+
+  /**
+   * Position the cursor on the row at the reader index of the buffer, the row is consumed.
+   */
+  PgColumnCursor reset(int len, ByteBuf in) {
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      offsets[c] = in.readerIndex();
+      lengths[c] = length;
+      if (length != -1) {
+        in.skipBytes(length);
+      }
+    }
+    this.in = in;
+    this.size = len;
+    return this;
+  }
+
+  private int checkPos(int pos) {
+    if (pos < 0 || pos >= size) {
+      throw new IndexOutOfBoundsException("Invalid column index " + pos);
+    }
+    return pos;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String getColumnName(int pos) {
+    return desc.columns[checkPos(pos)].name;
+  }
+
+  @Override
+  public boolean isNull(int pos) {
+    return lengths[checkPos(pos)] == -1;
+  }
+
+  @Override
+  public boolean getBoolean(int pos) {
+    if (isNull(pos)) {
+      return false;
+    }
+    PgColumnDesc column = desc.columns[pos];
+    if (column.dataType == DataType.BOOL) {
+      int index = offsets[pos];
+      if (column.dataFormat == DataFormat.BINARY) {
+        return in.getBoolean(index);
+      } else {
+        return in.getByte(index) == 't';
+      }
+    }
+    Object val = getValue(pos);
+    if (val instanceof Boolean) {
+      return (Boolean) val;
+    }
+    throw cannotConvert(pos, "boolean");
+  }
+
+  @Override
+  public int getInt(int pos) {
+    if (isNull(pos)) {
+      return 0;
+    }
+    switch (desc.columns[pos].dataType) {
+      case INT2:
+      case INT4:
+        return (int) decodeLong(pos);
+      case INT8:
+        long value = decodeLong(pos);
+        if (value != (int) value) {
+          throw new ClassCastException("INT8 value " + value + " at column " + pos + " does not fit in an int");
+        }
+        return (int) value;
+      default:
+        return numberValue(pos, "int").intValue();
+    }
+  }
+
+  @Override
+  public long getLong(int pos) {
+    if (isNull(pos)) {
+      return 0L;
+    }
+    switch (desc.columns[pos].dataType) {
+      case INT2:
+      case INT4:
+      case INT8:
+        return decodeLong(pos);
+      default:
+        return numberValue(pos, "long").longValue();
+    }
+  }
+
+  private long decodeLong(int pos) {
+    PgColumnDesc column = desc.columns[pos];
+    int index = offsets[pos];
+    if (column.dataFormat == DataFormat.BINARY) {
+      switch (column.dataType) {
+        case INT2:
+          return in.getShort(index);
+        case INT4:
+          return in.getInt(index);
+        default:
+          return in.getLong(index);
+      }
+    } else {
+      return CommonCodec.decodeDecStringToLong(index, lengths[pos], in);
+    }
+  }
+
+  @Override
+  public double getDouble(int pos) {
+    if (isNull(pos)) {
+      return 0D;
+    }
+    PgColumnDesc column = desc.columns[pos];
+    switch (column.dataType) {
+      case INT2:
+      case INT4:
+      case INT8:
+        return decodeLong(pos);
+      case FLOAT4:
+        if (column.dataFormat == DataFormat.BINARY) {
+          return in.getFloat(offsets[pos]);
+        }
+        break;
+      case FLOAT8:
+        if (column.dataFormat == DataFormat.BINARY) {
+          return in.getDouble(offsets[pos]);
+        }
+        break;
+    }
+    return numberValue(pos, "double").doubleValue();
+  }
+
+  @Override
+  public String getString(int pos) {
+    Object val = getValue(pos);
+    if (val == null || val instanceof String) {
+      return (String) val;
+    }
+    throw cannotConvert(pos, "String");
+  }
+
+  private Number numberValue(int pos, String type) {
+    Object val = getValue(pos);
+    if (val instanceof Number) {
+      return (Number) val;
+    }
+    throw cannotConvert(pos, type);
+  }
+
+  private ClassCastException cannotConvert(int pos, String type) {
+    return new ClassCastException("Cannot convert " + desc.columns[pos].dataType + " value at column " + pos + " to " + type);
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    if (isNull(pos)) {
+      return null;
+    }
+    PgColumnDesc column = desc.columns[pos];
+    if (column.dataFormat == DataFormat.BINARY) {
+      return DataTypeCodec.decodeBinary(column.dataType, offsets[pos], lengths[pos], in);
+    } else {
+      return DataTypeCodec.decodeText(column.dataType, offsets[pos], lengths[pos], in);
+    }
+  }
+}
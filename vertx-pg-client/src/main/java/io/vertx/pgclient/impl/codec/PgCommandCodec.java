@@ -64,6 +64,10 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message " + rowDescription);
   }
 
+  void handleDataRow(int len, ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message DataRow");
+  }
+
   void handleNoData() {
     logger.warn(getClass().getSimpleName() + " should handle message NoData");
   }
@@ -112,6 +116,28 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message AuthenticationOk");
   }
 
+  void handleCopyInResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyInResponse");
+  }
+
+  void handleCopyOutResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyOutResponse");
+  }
+
+  void handleCopyData(ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
+  /**
+   * Called when the writability of the channel changes while this command is the first in flight.
+   */
+  void handleWritabilityChanged(boolean writable) {
+  }
+
   void handleParameterStatus(String key, String value) {
     logger.warn(getClass().getSimpleName() + " should handle message ParameterStatus");
   }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.PgCopyBinaryEncoder;
+import io.vertx.sqlclient.Tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class PgCopyBinaryEncoderImpl implements PgCopyBinaryEncoder {
+
+  // PGCOPY\n\377\r\n\0 followed by the flags and the header extension length
+  private static final byte[] SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+  private static final Map<String, DataType> ALIASES = new HashMap<>();
+
+  static {
+    ALIASES.put("boolean", DataType.BOOL);
+    ALIASES.put("smallint", DataType.INT2);
+    ALIASES.put("integer", DataType.INT4);
+    ALIASES.put("int", DataType.INT4);
+    ALIASES.put("bigint", DataType.INT8);
+    ALIASES.put("real", DataType.FLOAT4);
+    ALIASES.put("double precision", DataType.FLOAT8);
+    ALIASES.put("character varying", DataType.VARCHAR);
+    ALIASES.put("character", DataType.BPCHAR);
+    ALIASES.put("timestamp with time zone", DataType.TIMESTAMPTZ);
+    ALIASES.put("timestamp without time zone", DataType.TIMESTAMP);
+    ALIASES.put("time with time zone", DataType.TIMETZ);
+    ALIASES.put("time without time zone", DataType.TIME);
+  }
+
+  private final DataType[] types;
+
+  public PgCopyBinaryEncoderImpl(List<String> types) {
+    this.types = new DataType[types.size()];
+    for (int i = 0;i < this.types.length;i++) {
+      this.types[i] = dataType(types.get(i));
+    }
+  }
+
+  private static DataType dataType(String name) {
+    String s = name.trim().toLowerCase(Locale.ROOT);
+    boolean array = s.endsWith("[]");
+    if (array) {
+      s = s.substring(0, s.length() - 2).trim();
+    }
+    DataType type = ALIASES.get(s);
+    try {
+      if (type == null) {
+        type = DataType.valueOf(s.toUpperCase(Locale.ROOT));
+      }
+      if (array) {
+        type = DataType.valueOf(type.name() + "_ARRAY");
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown type " + name);
+    }
+    if (!type.supportsBinary) {
+      throw new IllegalArgumentException("Type " + name + " does not support binary encoding");
+    }
+    return type;
+  }
+
+  @Override
+  public Buffer header() {
+    ByteBuf buff = Unpooled.buffer(SIGNATURE.length + 8);
+    buff.writeBytes(SIGNATURE);
+    buff.writeInt(0);
+    buff.writeInt(0);
+    return Buffer.buffer(buff);
+  }
+
+  @Override
+  public Buffer encode(Tuple row) {
+    int size = row.size();
+    if (size != types.length) {
+      throw new IllegalArgumentException("Invalid number of values " + size + ", expected " + types.length);
+    }
+    ByteBuf buff = Unpooled.buffer();
+    buff.writeShort(size);
+    for (int i = 0;i < size;i++) {
+      Object value = row.getValue(i);
+      if (value == null) {
+        buff.writeInt(-1);
+      } else {
+        int idx = buff.writerIndex();
+        buff.writeInt(0);
+        DataTypeCodec.encodeBinary(types[i], value, buff);
+        buff.setInt(idx, buff.writerIndex() - idx - 4);
+      }
+    }
+    return Buffer.buffer(buff);
+  }
+
+  @Override
+  public Buffer trailer() {
+    return Buffer.buffer(Unpooled.buffer(2).writeShort(-1));
+  }
+}
@@ -38,11 +38,13 @@ import java.util.ArrayDeque;
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
+  private final boolean lazyJsonDecoding;
   private ByteBufAllocator alloc;
   private ByteBuf in;
 
-  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, boolean lazyJsonDecoding) {
     this.inflight = inflight;
+    this.lazyJsonDecoding = lazyJsonDecoding;
   }
 
   @Override
@@ -166,12 +168,54 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         decodeNotificationResponse(ctx, in);
         break;
       }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        decodeCopyInResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        decodeCopyOutResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+        decodeCopyData(in);
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        decodeCopyDone();
+        break;
+      }
       default: {
         throw new UnsupportedOperationException();
       }
     }
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    PgCommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
+  private void decodeCopyInResponse() {
+    // the overall format and the column formats are not used, the data is sent as provided by the application
+    inflight.peek().handleCopyInResponse();
+  }
+
+  private void decodeCopyOutResponse() {
+    inflight.peek().handleCopyOutResponse();
+  }
+
+  private void decodeCopyData(ByteBuf in) {
+    inflight.peek().handleCopyData(in);
+  }
+
+  private void decodeCopyDone() {
+    inflight.peek().handleCopyDone();
+  }
+
   private void decodePortalSuspended() {
     inflight.peek().handlePortalSuspended();
   }
@@ -182,10 +226,8 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
   }
 
   private void decodeDataRow(ByteBuf in) {
-    PgCommandCodec<?, ?> codec = inflight.peek();
-    QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) codec;
     int len = in.readUnsignedShort();
-    cmd.decoder.handleRow(len, in);
+    inflight.peek().handleDataRow(len, in);
   }
 
   private void  decodeRowDescription(ByteBuf in) {
@@ -209,7 +251,7 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
       );
       columns[c] = column;
     }
-    PgRowDesc rowDesc = new PgRowDesc(columns);
+    PgRowDesc rowDesc = new PgRowDesc(columns, lazyJsonDecoding);
     inflight.peek().handleRowDescription(rowDesc);
   }
 
@@ -21,6 +21,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
 import io.vertx.pgclient.impl.util.Util;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.sqlclient.impl.RowDesc;
@@ -57,6 +59,9 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
   private ChannelHandlerContext ctx;
@@ -97,6 +102,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       return new ClosePortalCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyInCommand) {
+      return new CopyInCommandCodec((CopyInCommand) cmd);
+    } else if (cmd instanceof CopyOutCommand) {
+      return new CopyOutCommandCodec((CopyOutCommand) cmd);
     }
     throw new AssertionError();
   }
@@ -131,6 +140,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     }
   }
 
+  ChannelHandlerContext channelHandlerContext() {
+    return ctx;
+  }
+
   /**
    * This message immediately closes the connection. On receipt of this message,
    * the backend closes the connection and terminates.
@@ -238,6 +251,40 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     out.setInt(totalLengthPosition, out.writerIndex() - totalLengthPosition);
   }
 
+  /**
+   * Send the data of a {@code COPY ... FROM STDIN} command, the data is not required to be aligned on rows.
+   */
+  void writeCopyData(ByteBuf data) {
+    ensureBuffer();
+    int len = data.readableBytes();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + len);
+    out.writeBytes(data, data.readerIndex(), len);
+  }
+
+  /**
+   * Terminate successfully a {@code COPY ... FROM STDIN} command, the response is {@link CommandComplete}
+   * followed by {@link ReadyForQuery}.
+   */
+  void writeCopyDone() {
+    ensureBuffer();
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  /**
+   * Abort a {@code COPY ... FROM STDIN} command, the response is {@link ErrorResponse} followed by
+   * {@link ReadyForQuery}.
+   */
+  void writeCopyFail(String message) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
   /**
    * <p>
    * This message includes an SQL command (or commands) expressed as a text string.
@@ -19,6 +19,7 @@ package io.vertx.pgclient.impl.codec;
 
 import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.ParamDesc;
+import io.vertx.sqlclient.impl.PreparedStatementMetadataCache;
 import io.vertx.sqlclient.impl.TupleInternal;
 
 import java.util.Arrays;
@@ -32,7 +33,26 @@ class PgPreparedStatement implements PreparedStatement {
   final PgParamDesc paramDesc;
   final PgRowDesc rowDesc;
 
+  // A statement adopted from the metadata of another connection is parsed by the first command executing it and
+  // its row description is verified against a description of the portal until it matches
+  final PgPreparedStatement template;
+  final PreparedStatementMetadataCache cache;
+  boolean parsed;
+  boolean parsing;
+  boolean described;
+
   PgPreparedStatement(String sql, long statement, PgParamDesc paramDesc, PgRowDesc rowDesc) {
+    this(sql, statement, paramDesc, rowDesc, null, null);
+  }
+
+  /**
+   * Create a statement from the metadata of a statement prepared by another connection.
+   */
+  PgPreparedStatement(PgPreparedStatement template, PreparedStatementMetadataCache cache, long statement) {
+    this(template.sql, statement, template.paramDesc, template.rowDesc, template, cache);
+  }
+
+  private PgPreparedStatement(String sql, long statement, PgParamDesc paramDesc, PgRowDesc rowDesc, PgPreparedStatement template, PreparedStatementMetadataCache cache) {
 
     // Fix to use binary when possible
     if (rowDesc != null) {
@@ -45,13 +65,50 @@ class PgPreparedStatement implements PreparedStatement {
           c.length,
           c.typeModifier,
           c.dataType.supportsBinary ? DataFormat.BINARY : DataFormat.TEXT))
-        .toArray(PgColumnDesc[]::new));
+        .toArray(PgColumnDesc[]::new), rowDesc.lazyJsonDecoding);
     }
 
     this.paramDesc = paramDesc;
     this.rowDesc = rowDesc;
     this.sql = sql;
     this.bind = new Bind(statement, paramDesc != null ? paramDesc.paramDataTypes() : null, rowDesc != null ? rowDesc.columns : EMPTY_COLUMNS);
+    this.template = template;
+    this.cache = cache;
+    this.parsed = template == null;
+    this.described = template == null;
+  }
+
+  /**
+   * Verify the row description of an adopted statement against the description of a portal.
+   *
+   * @return {@code false} when the statement is stale, it must not be executed again
+   */
+  boolean verify(PgRowDesc portalDesc) {
+    if (matches(rowDesc, portalDesc)) {
+      described = true;
+      return true;
+    } else {
+      // The schema changed since the template was prepared
+      cache.remove(template);
+      return false;
+    }
+  }
+
+  private static boolean matches(PgRowDesc expected, PgRowDesc actual) {
+    if (expected == null || actual == null) {
+      return expected == actual;
+    }
+    if (expected.columns.length != actual.columns.length) {
+      return false;
+    }
+    for (int i = 0;i < expected.columns.length;i++) {
+      PgColumnDesc c1 = expected.columns[i];
+      PgColumnDesc c2 = actual.columns[i];
+      if (c1.dataType != c2.dataType || !c1.name.equals(c2.name)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
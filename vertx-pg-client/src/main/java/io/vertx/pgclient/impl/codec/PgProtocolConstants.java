@@ -69,6 +69,10 @@ public class PgProtocolConstants {
   public static final byte MESSAGE_TYPE_BIND_COMPLETE = '2';
   public static final byte MESSAGE_TYPE_CLOSE_COMPLETE = '3';
   public static final byte MESSAGE_TYPE_FUNCTION_RESULT = 'V';
+  public static final byte MESSAGE_TYPE_COPY_IN_RESPONSE = 'G';
+  public static final byte MESSAGE_TYPE_COPY_OUT_RESPONSE = 'H';
+  public static final byte MESSAGE_TYPE_COPY_DATA = 'd';
+  public static final byte MESSAGE_TYPE_COPY_DONE = 'c';
   public static final byte MESSAGE_TYPE_SSL_YES = 'S';
   public static final byte MESSAGE_TYPE_SSL_NO = 'N';
 }
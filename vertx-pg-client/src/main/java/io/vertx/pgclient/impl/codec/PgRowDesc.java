@@ -16,6 +16,7 @@
  */
 package io.vertx.pgclient.impl.codec;
 
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDesc;
 
 import java.util.Collections;
@@ -25,11 +26,55 @@ import java.util.stream.Stream;
 class PgRowDesc extends RowDesc {
 
   final PgColumnDesc[] columns;
+  // the kinds of the binary columns stored unboxed in the rows, null when all the values are boxed
+  final byte[] kinds;
+  // whether the JSON values are parsed when they are accessed
+  final boolean lazyJsonDecoding;
 
   PgRowDesc(PgColumnDesc[] columns) {
+    this(columns, false);
+  }
+
+  PgRowDesc(PgColumnDesc[] columns, boolean lazyJsonDecoding) {
     super(Collections.unmodifiableList(Stream.of(columns)
       .map(d -> d.name)
       .collect(Collectors.toList())));
     this.columns = columns;
+    this.kinds = kinds(columns);
+    this.lazyJsonDecoding = lazyJsonDecoding;
+  }
+
+  private static byte[] kinds(PgColumnDesc[] columns) {
+    byte[] kinds = new byte[columns.length];
+    boolean primitive = false;
+    for (int i = 0;i < columns.length;i++) {
+      PgColumnDesc column = columns[i];
+      byte kind = RowBase.BOXED;
+      if (column.dataFormat == DataFormat.BINARY) {
+        switch (column.dataType) {
+          case BOOL:
+            kind = RowBase.BOOLEAN;
+            break;
+          case INT2:
+            kind = RowBase.SHORT;
+            break;
+          case INT4:
+            kind = RowBase.INTEGER;
+            break;
+          case INT8:
+            kind = RowBase.LONG;
+            break;
+          case FLOAT4:
+            kind = RowBase.FLOAT;
+            break;
+          case FLOAT8:
+            kind = RowBase.DOUBLE;
+            break;
+        }
+      }
+      kinds[i] = kind;
+      primitive |= kind != RowBase.BOXED;
+    }
+    return primitive ? kinds : null;
   }
 }
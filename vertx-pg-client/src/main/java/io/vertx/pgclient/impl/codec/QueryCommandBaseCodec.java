@@ -16,6 +16,7 @@
  */
 package io.vertx.pgclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
@@ -30,6 +31,11 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends P
     super(cmd);
   }
 
+  @Override
+  void handleDataRow(int len, ByteBuf in) {
+    decoder.handleRow(len, in);
+  }
+
   @Override
   public void handleCommandComplete(int updated) {
     this.result = false;
@@ -52,6 +58,12 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends P
     cmd.resultHandler().handleResult(updated, size, desc, result, failure);
   }
 
+  @Override
+  void handleEmptyQueryResponse() {
+    // Sent in place of CommandComplete for an empty query string
+    handleCommandComplete(0);
+  }
+
   @Override
   public void handleErrorResponse(ErrorResponse errorResponse) {
     failure = errorResponse.toException();
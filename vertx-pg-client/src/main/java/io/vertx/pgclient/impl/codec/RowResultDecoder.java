@@ -17,9 +17,11 @@
 
 package io.vertx.pgclient.impl.codec;
 
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.Row;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.impl.RowBase;
 import io.vertx.sqlclient.impl.RowDecoder;
 
 import java.util.stream.Collector;
@@ -27,28 +29,65 @@ import java.util.stream.Collector;
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  private PgColumnCursor cursor;
 
   RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
     super(collector);
     this.desc = desc;
   }
 
+  @Override
+  protected ColumnCursor decodeCursor(int len, ByteBuf in) {
+    if (cursor == null) {
+      cursor = new PgColumnCursor(desc);
+    }
+    return cursor.reset(len, in);
+  }
+
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new RowImpl(desc);
+    byte[] kinds = desc.kinds;
+    RowImpl row = new RowImpl(desc, kinds);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
-      Object decoded = null;
-      if (length != -1) {
-        PgColumnDesc columnDesc = desc.columns[c];
-        if (columnDesc.dataFormat == DataFormat.BINARY) {
-          decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
-        } else {
-          decoded = DataTypeCodec.decodeText(columnDesc.dataType, in.readerIndex(), length, in);
-        }
-        in.skipBytes(length);
+      if (length == -1) {
+        row.addValue(null);
+        continue;
+      }
+      int index = in.readerIndex();
+      byte kind = kinds != null ? kinds[c] : RowBase.BOXED;
+      switch (kind) {
+        // fixed-width binary values are stored unboxed
+        case RowBase.BOOLEAN:
+          row.addBooleanValue(in.getBoolean(index));
+          break;
+        case RowBase.SHORT:
+          row.addLongValue(in.getShort(index));
+          break;
+        case RowBase.INTEGER:
+          row.addLongValue(in.getInt(index));
+          break;
+        case RowBase.LONG:
+          row.addLongValue(in.getLong(index));
+          break;
+        case RowBase.FLOAT:
+          row.addDoubleValue(in.getFloat(index));
+          break;
+        case RowBase.DOUBLE:
+          row.addDoubleValue(in.getDouble(index));
+          break;
+        default:
+          PgColumnDesc columnDesc = desc.columns[c];
+          if (desc.lazyJsonDecoding && (columnDesc.dataType == DataType.JSON || columnDesc.dataType == DataType.JSONB)) {
+            row.addValue(LazyJson.create(columnDesc.dataType, columnDesc.dataFormat, index, length, in));
+          } else if (columnDesc.dataFormat == DataFormat.BINARY) {
+            row.addValue(DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, in));
+          } else {
+            row.addValue(DataTypeCodec.decodeText(columnDesc.dataType, index, length, in));
+          }
+          break;
       }
-      row.addValue(decoded);
+      in.skipBytes(length);
     }
     return row;
   }
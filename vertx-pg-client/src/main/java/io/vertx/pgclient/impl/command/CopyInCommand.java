@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... FROM STDIN} statement, the result is the number of copied rows.
+ */
+public class CopyInCommand extends CommandBase<Integer> {
+
+  private final String sql;
+  private final ReadStream<Buffer> source;
+
+  /**
+   * @param sql the statement
+   * @param source the data sent to the server, it must be paused and is resumed when the server is ready
+   */
+  public CopyInCommand(String sql, ReadStream<Buffer> source) {
+    this.sql = sql;
+    this.source = source;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public ReadStream<Buffer> source() {
+    return source;
+  }
+}
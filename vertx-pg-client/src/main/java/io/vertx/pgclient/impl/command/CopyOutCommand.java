@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.netty.channel.Channel;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... TO STDOUT} statement, the result is the number of copied rows.
+ */
+public class CopyOutCommand extends CommandBase<Integer> {
+
+  private final String sql;
+  private final Handler<Buffer> dataHandler;
+
+  /**
+   * The channel of the connection, set before the first data is delivered, the reads of the channel can be suspended
+   * while the data cannot be consumed.
+   */
+  public volatile Channel channel;
+
+  /**
+   * @param sql the statement
+   * @param dataHandler the handler called with the data of each {@code CopyData} message
+   */
+  public CopyOutCommand(String sql, Handler<Buffer> dataHandler) {
+    this.sql = sql;
+    this.dataHandler = dataHandler;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Handler<Buffer> dataHandler() {
+    return dataHandler;
+  }
+}
@@ -17,13 +17,20 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -47,6 +54,159 @@ public class PgConnectionTest extends PgConnectionTestBase {
     }));
   }
 
+  private AsyncFile openFile(Buffer data) throws IOException {
+    File file = File.createTempFile("copy", ".data");
+    file.deleteOnExit();
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), data);
+    return vertx.fileSystem().openBlocking(file.getAbsolutePath(), new OpenOptions().setRead(true));
+  }
+
+  @Test
+  public void testCopyFrom(TestContext ctx) throws Exception {
+    Async async = ctx.async();
+    StringBuilder data = new StringBuilder();
+    for (int i = 0;i < 1000;i++) {
+      data.append(i).append("\tval-").append(i).append('\n');
+    }
+    AsyncFile file = openFile(Buffer.buffer(data.toString()));
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        conn.copyFrom("COPY Test (id, val) FROM STDIN", file, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(1000, count);
+          conn.query("SELECT val FROM Test WHERE id=999", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals("val-999", result.iterator().next().getString(0));
+            async.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromBinary(TestContext ctx) throws Exception {
+    Async async = ctx.async();
+    PgCopyBinaryEncoder encoder = PgCopyBinaryEncoder.create(Arrays.asList("int4", "varchar"));
+    Buffer data = Buffer.buffer().appendBuffer(encoder.header());
+    for (int i = 0;i < 10;i++) {
+      data.appendBuffer(encoder.encode(Tuple.of(i, i % 2 == 0 ? "val-" + i : null)));
+    }
+    data.appendBuffer(encoder.trailer());
+    AsyncFile file = openFile(data);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        conn.copyFrom("COPY Test (id, val) FROM STDIN (FORMAT binary)", file, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(10, count);
+          conn.query("SELECT COUNT(*) FROM Test WHERE val IS NULL", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(5L, result.iterator().next().getLong(0));
+            async.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromFailure(TestContext ctx) throws Exception {
+    Async async = ctx.async();
+    AsyncFile file = openFile(Buffer.buffer("not-a-number\tval\n"));
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.copyFrom("COPY Test (id, val) FROM STDIN", file, ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(ErrorCodes.invalid_text_representation, ((PgException) err).getCode());
+        // the connection can be used after the failure
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> async.complete()));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyFromNotCopyStatement(TestContext ctx) throws Exception {
+    Async async = ctx.async();
+    AsyncFile file = openFile(Buffer.buffer("0\tval\n"));
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.copyFrom("SELECT id, val FROM Test", file, ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals("Not a COPY FROM STDIN statement: SELECT id, val FROM Test", err.getMessage());
+        // the connection can be used after the failure
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> async.complete()));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyTo(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        insertIntoTestTable(ctx, conn, 10, () -> {
+          Buffer data = Buffer.buffer();
+          conn.copyTo("COPY (SELECT id, val FROM Test ORDER BY id) TO STDOUT")
+            .exceptionHandler(ctx::fail)
+            .endHandler(v -> {
+              String[] lines = data.toString().split("\n");
+              ctx.assertEquals(10, lines.length);
+              ctx.assertEquals("9\tWhatever-9", lines[9]);
+              async.complete();
+            })
+            .handler(data::appendBuffer);
+        });
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyToPaused(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      List<Buffer> lines = new ArrayList<>();
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT generate_series(1, 100)) TO STDOUT");
+      stream.pause();
+      stream
+        .endHandler(v -> {
+          ctx.assertEquals(100, lines.size());
+          async.complete();
+        })
+        .handler(line -> {
+          lines.add(line);
+          stream.pause();
+          vertx.runOnContext(v -> stream.fetch(1));
+        });
+      stream.fetch(1);
+    }));
+  }
+
+  @Test
+  public void testCopyToNotCopyStatement(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.copyTo("SELECT id, val FROM Test")
+        .endHandler(v -> ctx.fail())
+        .exceptionHandler(err -> {
+          ctx.assertEquals("Not a COPY TO STDOUT statement: SELECT id, val FROM Test", err.getMessage());
+          // the connection can be used after the failure
+          conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> async.complete()));
+        })
+        .handler(data -> ctx.fail());
+    }));
+  }
+
+  @Test
+  public void testCopyToFetchBeforeHandler(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      List<Buffer> lines = new ArrayList<>();
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT generate_series(1, 10)) TO STDOUT");
+      stream.pause();
+      stream.fetch(5);
+      stream.resume();
+      stream
+        .exceptionHandler(ctx::fail)
+        .endHandler(v -> {
+          ctx.assertEquals(10, lines.size());
+          async.complete();
+        })
+        .handler(lines::add);
+    }));
+  }
+
   @Test
   public void testBatchUpdate(TestContext ctx) {
     Async async = ctx.async();
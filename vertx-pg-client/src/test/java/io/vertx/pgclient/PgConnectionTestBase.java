@@ -428,4 +428,42 @@ public abstract class PgConnectionTestBase extends PgClientTestBase<SqlConnectio
       });
     }));
   }
+
+  @Test
+  public void testTransactionSingleStatement(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Transaction tx = conn.begin();
+        conn.query("INSERT INTO Test (id, val) VALUES (1, 'val-1') -- comment", ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals(1, res.rowCount());
+          ctx.assertNull(res.next());
+        }));
+        tx.commit(ctx.asyncAssertSuccess(v -> {
+          conn.query("SELECT id FROM Test WHERE id=1", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(1, result.size());
+            done.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testTransactionSingleStatementFailure(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Transaction tx = conn.begin();
+        conn.query("INSERT INTO Test (id, val) VALUES (1, 'val-1'), (1, 'val-2')", ctx.asyncAssertFailure());
+        tx.commit(ctx.asyncAssertFailure(err -> {
+          // the transaction is rolled back
+          conn.query("SELECT id FROM Test WHERE id=1", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(0, result.size());
+            done.complete();
+          }));
+        }));
+      });
+    }));
+  }
 }
@@ -150,4 +150,40 @@ public class PgPoolTest extends PgPoolTestBase {
       }));
     }
   }
+
+  @Test
+  public void testSharedPreparedStatementMetadata(TestContext ctx) {
+    testSharedPreparedStatementMetadata(ctx, false);
+  }
+
+  @Test
+  public void testSharedPreparedStatementMetadataWithCache(TestContext ctx) {
+    testSharedPreparedStatementMetadata(ctx, true);
+  }
+
+  // The second connection executes the statement with the metadata of the statement prepared by the first connection
+  private void testSharedPreparedStatementMetadata(TestContext ctx, boolean cachePreparedStatements) {
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(this.options).setCachePreparedStatements(cachePreparedStatements), new PoolOptions().setMaxSize(2));
+    Async async = ctx.async();
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+        conn1.preparedQuery("SELECT * FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertEquals(1, res1.size());
+          conn2.preparedQuery("SELECT * FROM Fortune WHERE id=$1", Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(1, res2.size());
+            Tuple row = res2.iterator().next();
+            ctx.assertEquals(2, row.getInteger(0));
+            ctx.assertEquals("A computer scientist is someone who fixes things that aren't broken.", row.getString(1));
+            conn2.preparedQuery("SELECT * FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(res3 -> {
+              ctx.assertEquals(1, res3.iterator().next().getInteger(0));
+              conn1.close();
+              conn2.close();
+              pool.close();
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
 }
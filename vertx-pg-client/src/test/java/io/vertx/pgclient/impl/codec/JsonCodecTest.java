@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class JsonCodecTest {
+
+  private static Object decodeText(String s) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeCharSequence("ab", StandardCharsets.UTF_8);
+    int index = buf.writerIndex();
+    int len = buf.writeCharSequence(s, StandardCharsets.UTF_8);
+    buf.writeCharSequence("cd", StandardCharsets.UTF_8);
+    return DataTypeCodec.decodeJson(index, len, buf);
+  }
+
+  @Test
+  public void testDecode() {
+    assertEquals(new JsonObject().put("a", 1).put("b", "é"), decodeText(" {\"a\":1,\"b\":\"é\"}"));
+    assertEquals(new JsonArray().add(1).add(true), decodeText("\n[1,true]"));
+    assertEquals("str", decodeText("\"str\""));
+    assertEquals(4, decodeText("4"));
+    assertEquals(Boolean.FALSE, decodeText("false"));
+    assertEquals(Tuple.JSON_NULL, decodeText("null"));
+    assertNull(decodeText("  "));
+  }
+
+  @Test
+  public void testLazyBinaryJsonb() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(1);
+    int len = 1 + buf.writeCharSequence("{\"a\":[1,2]}", StandardCharsets.UTF_8);
+    LazyJson lazy = LazyJson.create(DataType.JSONB, DataFormat.BINARY, 0, len, buf);
+    buf.setByte(2, 'b');
+    assertEquals(new JsonObject().put("a", new JsonArray().add(1).add(2)), lazy.decode());
+  }
+
+  @Test
+  public void testLazyText() {
+    ByteBuf buf = Unpooled.copiedBuffer("[\"x\"]", StandardCharsets.UTF_8);
+    LazyJson lazy = LazyJson.create(DataType.JSON, DataFormat.TEXT, 0, buf.readableBytes(), buf);
+    assertEquals(new JsonArray().add("x"), lazy.decode());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.data.Numeric;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+public class NumericBinaryCodecTest {
+
+  private static Object roundTrip(DataType type, Object value) {
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(type, value, buff);
+    return DataTypeCodec.decodeBinary(type, buff.readerIndex(), buff.readableBytes(), buff);
+  }
+
+  private static void assertRoundTrip(String expected, Number value) {
+    Object decoded = roundTrip(DataType.NUMERIC, value);
+    assertTrue(decoded instanceof Numeric);
+    assertEquals(expected, decoded.toString());
+  }
+
+  @Test
+  public void testWireFormat() {
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(DataType.NUMERIC, new BigDecimal("-12345.678"), buff);
+    assertEquals(3, buff.readShort());
+    assertEquals(1, buff.readShort());
+    assertEquals(0x4000, buff.readUnsignedShort());
+    assertEquals(3, buff.readShort());
+    assertEquals(1, buff.readShort());
+    assertEquals(2345, buff.readShort());
+    assertEquals(6780, buff.readShort());
+    assertFalse(buff.isReadable());
+  }
+
+  @Test
+  public void testTrailingZeroDigits() {
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(DataType.NUMERIC, new BigDecimal("100000000.00"), buff);
+    assertEquals(1, buff.readShort());
+    assertEquals(2, buff.readShort());
+    assertEquals(0, buff.readShort());
+    assertEquals(2, buff.readShort());
+    assertEquals(1, buff.readShort());
+  }
+
+  @Test
+  public void testRoundTrip() {
+    assertRoundTrip("0", 0);
+    assertRoundTrip("0.00", new BigDecimal("0.00"));
+    assertRoundTrip("1", 1);
+    assertRoundTrip("-1", -1L);
+    assertRoundTrip("0.5", new BigDecimal("0.5"));
+    assertRoundTrip("10000", 10000);
+    assertRoundTrip("12345.6789", new BigDecimal("12345.6789"));
+    assertRoundTrip("1E-20", new BigDecimal("0.00000000000000000001"));
+    assertRoundTrip("10000000000", new BigDecimal("1E+10"));
+    assertRoundTrip("1.5", 1.5D);
+    assertRoundTrip("9223372036854775807", Long.MAX_VALUE);
+    assertRoundTrip("-123456789012345678901234567890.123456789", new BigDecimal("-123456789012345678901234567890.123456789"));
+    assertRoundTrip("100000000000000000000000000000000", new BigInteger("100000000000000000000000000000000"));
+    assertRoundTrip("3.14", Numeric.create(new BigDecimal("3.14")));
+  }
+
+  @Test
+  public void testNaN() {
+    assertSame(Numeric.NaN, roundTrip(DataType.NUMERIC, Numeric.NaN));
+    assertSame(Numeric.NaN, roundTrip(DataType.NUMERIC, Double.NaN));
+  }
+
+  @Test
+  public void testArray() {
+    Object decoded = roundTrip(DataType.NUMERIC_ARRAY, new Number[] { 1, new BigDecimal("2.50"), null });
+    Numeric[] array = (Numeric[]) decoded;
+    assertEquals(3, array.length);
+    assertEquals("1", array[0].toString());
+    assertEquals("2.50", array[1].toString());
+    assertNull(array[2]);
+  }
+}
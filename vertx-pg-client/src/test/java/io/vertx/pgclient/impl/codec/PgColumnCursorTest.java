@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class PgColumnCursorTest {
+
+  private static PgColumnDesc column(String name, DataType dataType, DataFormat dataFormat) {
+    return new PgColumnDesc(name, 0, (short) 0, dataType, (short) 0, 0, dataFormat);
+  }
+
+  private static void writeText(ByteBuf buf, String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    buf.writeInt(bytes.length);
+    buf.writeBytes(bytes);
+  }
+
+  @Test
+  public void testReadRow() {
+    PgRowDesc desc = new PgRowDesc(new PgColumnDesc[] {
+      column("id", DataType.INT4, DataFormat.BINARY),
+      column("big", DataType.INT8, DataFormat.TEXT),
+      column("ratio", DataType.FLOAT8, DataFormat.BINARY),
+      column("flag", DataType.BOOL, DataFormat.BINARY),
+      column("message", DataType.VARCHAR, DataFormat.TEXT),
+      column("missing", DataType.INT4, DataFormat.BINARY)
+    });
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeInt(4).writeInt(42);
+    writeText(buf, "-9223372036854775807");
+    buf.writeInt(8).writeDouble(0.5D);
+    buf.writeInt(1).writeBoolean(true);
+    writeText(buf, "hello");
+    buf.writeInt(-1);
+    PgColumnCursor cursor = new PgColumnCursor(desc).reset(6, buf);
+    assertFalse(buf.isReadable());
+    assertEquals(6, cursor.size());
+    assertEquals("message", cursor.getColumnName(4));
+    assertEquals(42, cursor.getInt(0));
+    assertEquals(42L, cursor.getLong(0));
+    assertEquals(42D, cursor.getDouble(0), 0D);
+    assertEquals(-9223372036854775807L, cursor.getLong(1));
+    assertEquals(0.5D, cursor.getDouble(2), 0D);
+    assertTrue(cursor.getBoolean(3));
+    assertEquals("hello", cursor.getString(4));
+    assertTrue(cursor.isNull(5));
+    assertEquals(0, cursor.getInt(5));
+    assertNull(cursor.getValue(5));
+    assertEquals(42, cursor.getValue(0));
+  }
+
+  @Test
+  public void testReuse() {
+    PgRowDesc desc = new PgRowDesc(new PgColumnDesc[] {
+      column("id", DataType.INT4, DataFormat.TEXT)
+    });
+    PgColumnCursor cursor = new PgColumnCursor(desc);
+    ByteBuf buf = Unpooled.buffer();
+    writeText(buf, "1");
+    writeText(buf, "2");
+    assertEquals(1, cursor.reset(1, buf).getInt(0));
+    assertEquals(2, cursor.reset(1, buf).getInt(0));
+  }
+
+  @Test
+  public void testConversion() {
+    PgRowDesc desc = new PgRowDesc(new PgColumnDesc[] {
+      column("small", DataType.INT8, DataFormat.BINARY),
+      column("big", DataType.INT8, DataFormat.BINARY),
+      column("message", DataType.VARCHAR, DataFormat.TEXT)
+    });
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeInt(8).writeLong(Integer.MIN_VALUE);
+    buf.writeInt(8).writeLong(Integer.MAX_VALUE + 1L);
+    writeText(buf, "hello");
+    PgColumnCursor cursor = new PgColumnCursor(desc).reset(3, buf);
+    assertEquals(Integer.MIN_VALUE, cursor.getInt(0));
+    assertEquals(Integer.MAX_VALUE + 1L, cursor.getLong(1));
+    assertClassCast(() -> cursor.getInt(1));
+    assertClassCast(() -> cursor.getString(0));
+    assertClassCast(() -> cursor.getInt(2));
+    assertClassCast(() -> cursor.getDouble(2));
+    assertClassCast(() -> cursor.getBoolean(2));
+  }
+
+  private static void assertClassCast(Runnable getter) {
+    try {
+      getter.run();
+      fail();
+    } catch (ClassCastException ignore) {
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testInvalidPosition() {
+    PgRowDesc desc = new PgRowDesc(new PgColumnDesc[] {
+      column("id", DataType.INT4, DataFormat.BINARY)
+    });
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeInt(4).writeInt(1);
+    new PgColumnCursor(desc).reset(1, buf).getInt(1);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.PgCopyBinaryEncoder;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class PgCopyBinaryEncoderTest {
+
+  @Test
+  public void testHeaderAndTrailer() {
+    PgCopyBinaryEncoder encoder = PgCopyBinaryEncoder.create(Arrays.asList("int4"));
+    Buffer header = encoder.header();
+    assertEquals(19, header.length());
+    assertEquals("PGCOPY\n", header.getString(0, 7));
+    assertEquals((byte) 0xFF, header.getByte(7));
+    assertEquals(0, header.getInt(11));
+    assertEquals(0, header.getInt(15));
+    Buffer trailer = encoder.trailer();
+    assertEquals(2, trailer.length());
+    assertEquals(-1, trailer.getShort(0));
+  }
+
+  @Test
+  public void testEncode() {
+    PgCopyBinaryEncoder encoder = PgCopyBinaryEncoder.create(Arrays.asList("integer", "bigint", "varchar", "bool", "int4[]"));
+    Buffer row = encoder.encode(Tuple.of(4, 5L, "abc", null, new Integer[] { 1, 2 }));
+    int pos = 0;
+    assertEquals(5, row.getShort(pos));
+    pos += 2;
+    assertEquals(4, row.getInt(pos));
+    assertEquals(4, row.getInt(pos + 4));
+    pos += 8;
+    assertEquals(8, row.getInt(pos));
+    assertEquals(5L, row.getLong(pos + 4));
+    pos += 12;
+    assertEquals(3, row.getInt(pos));
+    assertEquals("abc", row.getString(pos + 4, pos + 7));
+    pos += 7;
+    assertEquals(-1, row.getInt(pos));
+    pos += 4;
+    // ndim, flags, element type, dimension, lower bound and the two elements
+    assertEquals(20 + 2 * 8, row.getInt(pos));
+    assertEquals(DataType.INT4.id, row.getInt(pos + 12));
+    assertEquals(2, row.getInt(pos + 36));
+    assertEquals(pos + 40, row.length());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRowSize() {
+    PgCopyBinaryEncoder.create(Arrays.asList("int4", "int4")).encode(Tuple.of(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownType() {
+    PgCopyBinaryEncoder.create(Arrays.asList("not_a_type"));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.db2client.impl.drda;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+
+/**
+ * A {@link Cursor} positioned on a single row, the column data is laid out as the DRDA query data
+ * (little endian numerics, length prefixed strings) so {@link Cursor#getObject(int)} decodes it without a server.
+ */
+public final class CursorFixture {
+
+  public static final String[] NAMES = { "id", "amount", "price", "name", "active" };
+
+  private static final int[] TYPES = { Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.BOOLEAN };
+
+  private CursorFixture() {
+  }
+
+  public static ColumnMetaData columnMetaData() {
+    ColumnMetaData metaData = new ColumnMetaData();
+    metaData.setColumnCount(NAMES.length);
+    System.arraycopy(NAMES, 0, metaData.sqlName_, 0, NAMES.length);
+    return metaData;
+  }
+
+  public static Cursor cursor() {
+    Charset charset = StandardCharsets.UTF_8;
+    Cursor cursor = new Cursor();
+    cursor.setNumberOfColumns(NAMES.length);
+    System.arraycopy(TYPES, 0, cursor.jdbcTypes_, 0, TYPES.length);
+    ByteBuf buf = Unpooled.buffer();
+    for (int c = 0;c < TYPES.length;c++) {
+      cursor.charset_[c] = charset;
+      cursor.columnDataPosition_[c] = buf.writerIndex();
+      switch (TYPES[c]) {
+        case Types.INTEGER:
+          buf.writeIntLE(1234);
+          break;
+        case Types.BIGINT:
+          buf.writeLongLE(9_876_543_210L);
+          break;
+        case Types.DOUBLE:
+          buf.writeDoubleLE(12.5d);
+          break;
+        case Types.VARCHAR:
+          byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(charset);
+          buf.writeShort(bytes.length);
+          buf.writeBytes(bytes);
+          break;
+        case Types.BOOLEAN:
+          buf.writeShortLE(1);
+          break;
+      }
+      cursor.columnDataComputedLength_[c] = buf.writerIndex() - cursor.columnDataPosition_[c];
+    }
+    cursor.dataBuffer_ = buf;
+    cursor.lastValidBytePosition_ = buf.writerIndex();
+    return cursor;
+  }
+}
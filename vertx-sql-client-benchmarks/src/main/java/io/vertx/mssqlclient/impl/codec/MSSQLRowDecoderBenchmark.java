@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.mssqlclient.impl.protocol.datatype.FixedLenDataType;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataType;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.datatype.TextWithCollationDataType;
+import io.vertx.sqlclient.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@code RowResultDecoder.decodeRow} on the body of a single TDS {@code ROW} token.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MSSQLRowDecoderBenchmark {
+
+  private static final ColumnData[] COLUMNS = {
+    column("id", FixedLenDataType.INT4TYPE),
+    column("amount", FixedLenDataType.INT8TYPE),
+    column("price", FixedLenDataType.FLT8TYPE),
+    column("name", new TextWithCollationDataType(MSSQLDataTypeId.BIGVARCHRTYPE_ID, String.class, null)),
+    column("created", FixedLenDataType.DATENTYPE)
+  };
+
+  private RowResultDecoder<?, List<Row>> decoder;
+  private ByteBuf row;
+
+  @Setup
+  public void setup() {
+    decoder = new RowResultDecoder<>(Collectors.toList(), new MSSQLRowDesc(COLUMNS));
+    row = rowTokenBody();
+  }
+
+  @TearDown
+  public void tearDown() {
+    row.release();
+  }
+
+  @Benchmark
+  public Row decodeRow() {
+    row.readerIndex(0);
+    return decoder.decodeRow(COLUMNS.length, row);
+  }
+
+  private static ColumnData column(String name, MSSQLDataType type) {
+    return new ColumnData(0, 0, type, name);
+  }
+
+  /**
+   * @return the column values of a {@code ROW} token, little endian as sent by the server
+   */
+  private static ByteBuf rowTokenBody() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeIntLE(1234);
+    buf.writeLongLE(9_876_543_210L);
+    buf.writeDoubleLE(12.5d);
+    byte[] name = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+    buf.writeShortLE(name.length);
+    buf.writeBytes(name);
+    buf.writeByte(3);
+    buf.writeMediumLE((int) ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, LocalDate.of(2020, 3, 1)));
+    return buf;
+  }
+}
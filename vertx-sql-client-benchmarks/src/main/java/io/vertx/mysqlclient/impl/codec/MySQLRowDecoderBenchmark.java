@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.mysqlclient.impl.MySQLCollation;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.datatype.DataType;
+import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@code RowResultDecoder.decodeRow} on a single binary protocol row, as sent in response
+ * to {@code COM_STMT_EXECUTE}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLRowDecoderBenchmark {
+
+  static final ColumnDefinition[] COLUMNS = {
+    column("id", DataType.INT4),
+    column("amount", DataType.INT8),
+    column("price", DataType.DOUBLE),
+    column("name", DataType.VARSTRING),
+    column("created", DataType.DATETIME),
+    column("total", DataType.NUMERIC)
+  };
+
+  static final Tuple VALUES = Tuple.of(
+    1234,
+    9_876_543_210L,
+    12.5d,
+    "The quick brown fox jumps over the lazy dog",
+    LocalDateTime.of(2020, 3, 1, 12, 30, 15),
+    Numeric.parse("12345.6789"));
+
+  private RowResultDecoder<?, List<Row>> decoder;
+  private ByteBuf row;
+
+  @Setup
+  public void setup() {
+    decoder = new RowResultDecoder<>(Collectors.toList(), new MySQLRowDesc(COLUMNS, DataFormat.BINARY));
+    row = binaryRow();
+  }
+
+  @TearDown
+  public void tearDown() {
+    row.release();
+  }
+
+  @Benchmark
+  public Row decodeRow() {
+    row.readerIndex(0);
+    return decoder.decodeRow(COLUMNS.length, row);
+  }
+
+  private static ColumnDefinition column(String name, DataType type) {
+    return new ColumnDefinition("def", "test", "items", "items", name, name,
+      MySQLCollation.utf8mb4_general_ci.collationId(), 0, type, 0, (byte) 0);
+  }
+
+  /**
+   * @return a binary protocol row without the packet header: {@code 0x00}, the null bitmap then the values
+   */
+  static ByteBuf binaryRow() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(0x00);
+    buf.writeZero((COLUMNS.length + 7 + 2) >> 3);
+    for (int c = 0;c < COLUMNS.length;c++) {
+      DataTypeCodec.encodeBinary(COLUMNS[c].getType(), VALUES.getValue(c), StandardCharsets.UTF_8, buf);
+    }
+    return buf;
+  }
+}
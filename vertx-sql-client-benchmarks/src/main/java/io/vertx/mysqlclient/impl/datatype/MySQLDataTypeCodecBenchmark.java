@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.datatype;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mysqlclient.impl.MySQLCollation;
+import io.vertx.sqlclient.data.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code DataTypeCodec.encodeBinary} and {@code DataTypeCodec.decodeBinary} for each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLDataTypeCodecBenchmark {
+
+  private static final Charset CHARSET = StandardCharsets.UTF_8;
+  private static final int COLLATION_ID = MySQLCollation.utf8mb4_general_ci.collationId();
+
+  @Param({
+    "INT1",
+    "INT2",
+    "INT4",
+    "INT8",
+    "FLOAT",
+    "DOUBLE",
+    "NUMERIC",
+    "VARSTRING",
+    "BLOB",
+    "DATE",
+    "TIME",
+    "DATETIME"
+  })
+  String type;
+
+  private DataType dataType;
+  private Object value;
+  private ByteBuf encodeBuffer;
+  private ByteBuf encoded;
+
+  @Setup
+  public void setup() {
+    dataType = DataType.valueOf(type);
+    value = sampleValue(dataType);
+    encodeBuffer = Unpooled.buffer(256);
+    encoded = Unpooled.buffer(256);
+    DataTypeCodec.encodeBinary(dataType, value, CHARSET, encoded);
+  }
+
+  @TearDown
+  public void tearDown() {
+    encodeBuffer.release();
+    encoded.release();
+  }
+
+  @Benchmark
+  public ByteBuf encodeBinary() {
+    encodeBuffer.clear();
+    DataTypeCodec.encodeBinary(dataType, value, CHARSET, encodeBuffer);
+    return encodeBuffer;
+  }
+
+  @Benchmark
+  public Object decodeBinary() {
+    encoded.readerIndex(0);
+    return DataTypeCodec.decodeBinary(dataType, COLLATION_ID, 0, encoded);
+  }
+
+  static Object sampleValue(DataType type) {
+    switch (type) {
+      case INT1:
+        return (byte) 42;
+      case INT2:
+        return (short) 4242;
+      case INT4:
+        return 1234;
+      case INT8:
+        return 9_876_543_210L;
+      case FLOAT:
+        return 3.25f;
+      case DOUBLE:
+        return 12.5d;
+      case NUMERIC:
+        return Numeric.parse("12345.6789");
+      case VARSTRING:
+        return "The quick brown fox jumps over the lazy dog";
+      case BLOB:
+        return Buffer.buffer(new byte[64]);
+      case DATE:
+        return LocalDate.of(2020, 3, 1);
+      case TIME:
+        return Duration.ofHours(12).plusMinutes(30).plusSeconds(15);
+      case DATETIME:
+        return LocalDateTime.of(2020, 3, 1, 12, 30, 15);
+      default:
+        throw new IllegalArgumentException("No sample value for " + type);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code DataTypeCodec.encodeBinary} and {@code DataTypeCodec.decodeBinary} for each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgDataTypeCodecBenchmark {
+
+  @Param({
+    "BOOL",
+    "INT2",
+    "INT4",
+    "INT8",
+    "FLOAT4",
+    "FLOAT8",
+    "VARCHAR",
+    "DATE",
+    "TIME",
+    "TIMESTAMP",
+    "TIMESTAMPTZ",
+    "UUID",
+    "BYTEA",
+    "JSONB",
+    "INT4_ARRAY"
+  })
+  String type;
+
+  private DataType dataType;
+  private Object value;
+  private ByteBuf encodeBuffer;
+  private ByteBuf encoded;
+
+  @Setup
+  public void setup() {
+    dataType = DataType.valueOf(type);
+    value = sampleValue(dataType);
+    encodeBuffer = Unpooled.buffer(256);
+    encoded = Unpooled.buffer(256);
+    DataTypeCodec.encodeBinary(dataType, value, encoded);
+  }
+
+  @TearDown
+  public void tearDown() {
+    encodeBuffer.release();
+    encoded.release();
+  }
+
+  @Benchmark
+  public ByteBuf encodeBinary() {
+    encodeBuffer.clear();
+    DataTypeCodec.encodeBinary(dataType, value, encodeBuffer);
+    return encodeBuffer;
+  }
+
+  @Benchmark
+  public Object decodeBinary() {
+    return DataTypeCodec.decodeBinary(dataType, 0, encoded.writerIndex(), encoded);
+  }
+
+  static Object sampleValue(DataType type) {
+    switch (type) {
+      case BOOL:
+        return true;
+      case INT2:
+        return (short) 42;
+      case INT4:
+        return 1234;
+      case INT8:
+        return 9_876_543_210L;
+      case FLOAT4:
+        return 3.25f;
+      case FLOAT8:
+        return 12.5d;
+      case VARCHAR:
+        return "The quick brown fox jumps over the lazy dog";
+      case DATE:
+        return LocalDate.of(2020, 3, 1);
+      case TIME:
+        return LocalTime.of(12, 30, 15);
+      case TIMESTAMP:
+        return LocalDateTime.of(2020, 3, 1, 12, 30, 15);
+      case TIMESTAMPTZ:
+        return OffsetDateTime.of(2020, 3, 1, 12, 30, 15, 0, ZoneOffset.ofHours(2));
+      case UUID:
+        return UUID.fromString("6f1b2e9c-2b7d-4c55-9a0e-4d1f0c3c8b21");
+      case BYTEA:
+        return Buffer.buffer(new byte[64]);
+      case JSONB:
+        return new JsonObject()
+          .put("id", 1234)
+          .put("name", "The quick brown fox")
+          .put("tags", new JsonArray().add("a").add("b").add("c"));
+      case INT4_ARRAY:
+        return new Integer[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+      default:
+        throw new IllegalArgumentException("No sample value for " + type);
+    }
+  }
+}
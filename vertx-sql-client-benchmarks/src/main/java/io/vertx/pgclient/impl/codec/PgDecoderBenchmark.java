@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Replays the response of an extended query through {@link PgCodec} installed in an {@link EmbeddedChannel}:
+ * each invocation writes the command (Bind/Execute/Sync) then feeds the captured response to
+ * {@code PgDecoder.channelRead}, which decodes every {@code DataRow} into a {@link Row}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgDecoderBenchmark {
+
+  @Param({"1", "100", "1000"})
+  int rows;
+
+  private EmbeddedChannel channel;
+  private ExtendedQueryCommand<List<Row>> cmd;
+  private ByteBuf response;
+  private List<Row> result;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(new PgCodec(false));
+    PgPreparedStatement ps = new PgPreparedStatement("SELECT * FROM items", 1, new PgParamDesc(new DataType[0]), PgWireFormat.rowDesc());
+    cmd = new ExtendedQueryCommand<>(ps, ArrayTuple.EMPTY, true, Collectors.toList(), new QueryResultHandler<List<Row>>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> res, Throwable failure) {
+        result = res;
+      }
+    });
+    response = PgWireFormat.queryResponse(rows);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+    response.release();
+  }
+
+  @Benchmark
+  public void channelRead(Blackhole bh) {
+    channel.write(cmd);
+    channel.flush();
+    channel.releaseOutbound();
+    channel.writeInbound(response.retainedDuplicate());
+    bh.consume(channel.readInbound());
+    bh.consume(result);
+  }
+}
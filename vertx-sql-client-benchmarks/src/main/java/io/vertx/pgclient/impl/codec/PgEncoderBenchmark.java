@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code PgEncoder.writeBind} for a mixed set of parameters, the encoded buffer is flushed
+ * to an {@link EmbeddedChannel} and released.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgEncoderBenchmark {
+
+  private EmbeddedChannel channel;
+  private PgEncoder encoder;
+  private Bind bind;
+
+  @Setup
+  public void setup() {
+    encoder = new PgEncoder(null, new ArrayDeque<>());
+    channel = new EmbeddedChannel(encoder);
+    DataType[] paramTypes = Arrays.stream(PgWireFormat.COLUMNS).map(c -> c.dataType).toArray(DataType[]::new);
+    bind = new Bind(1, paramTypes, PgWireFormat.COLUMNS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void writeBind() {
+    encoder.writeBind(bind, null, PgWireFormat.VALUES);
+    encoder.flush();
+    channel.releaseOutbound();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@code RowResultDecoder.decodeRow} on a single binary {@code DataRow}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgRowDecoderBenchmark {
+
+  private RowResultDecoder<?, List<Row>> decoder;
+  private ByteBuf row;
+  private int readerIndex;
+
+  @Setup
+  public void setup() {
+    decoder = new RowResultDecoder<>(Collectors.toList(), PgWireFormat.rowDesc());
+    row = PgWireFormat.dataRowBody();
+    readerIndex = row.readerIndex();
+  }
+
+  @TearDown
+  public void tearDown() {
+    row.release();
+  }
+
+  @Benchmark
+  public Row decodeRow() {
+    row.readerIndex(readerIndex);
+    return decoder.decodeRow(PgWireFormat.COLUMNS.length, row);
+  }
+}
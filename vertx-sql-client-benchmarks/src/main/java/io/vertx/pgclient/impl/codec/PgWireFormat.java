@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.Tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Backend messages laid out byte for byte as a PostgreSQL server sends them, so the benchmarks
+ * can replay a query response through the codec without a database.
+ */
+final class PgWireFormat {
+
+  static final PgColumnDesc[] COLUMNS = {
+    column("id", DataType.INT4),
+    column("amount", DataType.INT8),
+    column("price", DataType.FLOAT8),
+    column("name", DataType.VARCHAR),
+    column("created", DataType.TIMESTAMP),
+    column("active", DataType.BOOL),
+    column("uid", DataType.UUID)
+  };
+
+  static final Tuple VALUES = Tuple.of(
+    1234,
+    9_876_543_210L,
+    12.5d,
+    "The quick brown fox jumps over the lazy dog",
+    LocalDateTime.of(2020, 3, 1, 12, 30, 15),
+    true,
+    UUID.fromString("6f1b2e9c-2b7d-4c55-9a0e-4d1f0c3c8b21"));
+
+  private PgWireFormat() {
+  }
+
+  static PgColumnDesc column(String name, DataType type) {
+    return new PgColumnDesc(name, 0, (short) 0, type, (short) -1, -1, DataFormat.BINARY);
+  }
+
+  static PgRowDesc rowDesc() {
+    return new PgRowDesc(COLUMNS);
+  }
+
+  /**
+   * @return the body of a {@code DataRow} message positioned after the column count, as handed to the row decoder
+   */
+  static ByteBuf dataRowBody() {
+    ByteBuf buf = Unpooled.buffer();
+    writeDataRow(buf);
+    buf.skipBytes(1 + 4 + 2);
+    return buf;
+  }
+
+  /**
+   * @return the response to {@code Bind/Execute/Sync} returning {@code rows} rows
+   */
+  static ByteBuf queryResponse(int rows) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(PgProtocolConstants.MESSAGE_TYPE_BIND_COMPLETE);
+    buf.writeInt(4);
+    for (int i = 0;i < rows;i++) {
+      writeDataRow(buf);
+    }
+    writeCommandComplete(buf, "SELECT " + rows);
+    buf.writeByte(PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY);
+    buf.writeInt(5);
+    buf.writeByte('I');
+    return buf;
+  }
+
+  static void writeDataRow(ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+    out.writeInt(0);
+    out.writeShort(COLUMNS.length);
+    for (int c = 0;c < COLUMNS.length;c++) {
+      Object value = VALUES.getValue(c);
+      if (value == null) {
+        out.writeInt(-1);
+      } else {
+        int idx = out.writerIndex();
+        out.writeInt(0);
+        DataTypeCodec.encodeBinary(COLUMNS[c].dataType, value, out);
+        out.setInt(idx, out.writerIndex() - idx - 4);
+      }
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  private static void writeCommandComplete(ByteBuf out, String tag) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE);
+    out.writeInt(0);
+    out.writeCharSequence(tag, StandardCharsets.UTF_8);
+    out.writeByte(0);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+}
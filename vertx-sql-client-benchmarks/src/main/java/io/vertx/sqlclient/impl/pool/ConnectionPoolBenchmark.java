@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConnectionPool#acquire} followed by the release of the connection when several threads
+ * contend for a pool of connections that do not perform any I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConnectionPoolBenchmark {
+
+  @Param({"4", "16"})
+  int maxSize;
+
+  private Vertx vertx;
+  private Context context;
+  private ConnectionPool pool;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+    pool = new ConnectionPool(() -> Future.succeededFuture(new NoopConnection()), context, maxSize, PoolOptions.DEFAULT_MAX_WAIT_QUEUE_SIZE);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CompletableFuture<Void> closed = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      pool.close();
+      closed.complete(null);
+    });
+    closed.get(10, TimeUnit.SECONDS);
+    CompletableFuture<Void> vertxClosed = new CompletableFuture<>();
+    vertx.close(ar -> vertxClosed.complete(null));
+    vertxClosed.get(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Connection acquireRelease() throws Exception {
+    CompletableFuture<Connection> fut = new CompletableFuture<>();
+    pool.acquire(ar -> {
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        Connection.Holder holder = new NoopHolder();
+        conn.init(holder);
+        conn.close(holder);
+        fut.complete(conn);
+      } else {
+        fut.completeExceptionally(ar.cause());
+      }
+    });
+    return fut.get();
+  }
+
+  private static class NoopHolder implements Connection.Holder {
+    @Override
+    public void handleEvent(Object event) {
+    }
+    @Override
+    public void handleClosed() {
+    }
+    @Override
+    public void handleException(Throwable err) {
+    }
+  }
+
+  private static class NoopConnection implements Connection {
+    @Override
+    public void init(Holder holder) {
+    }
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+    @Override
+    public void close(Holder holder) {
+    }
+    @Override
+    public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
+      throw new UnsupportedOperationException();
+    }
+    @Override
+    public int getProcessId() {
+      return 0;
+    }
+    @Override
+    public int getSecretKey() {
+      return 0;
+    }
+  }
+}
@@ -15,6 +15,46 @@ public class PoolOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PoolOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "acquireTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setAcquireTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "acquireTimeoutUnit":
+          if (member.getValue() instanceof String) {
+            obj.setAcquireTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "cachePreparedStatements":
+          if (member.getValue() instanceof Boolean) {
+            obj.setCachePreparedStatements((Boolean)member.getValue());
+          }
+          break;
+        case "eventLoopSize":
+          if (member.getValue() instanceof Number) {
+            obj.setEventLoopSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "idleTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setIdleTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "idleTimeoutUnit":
+          if (member.getValue() instanceof String) {
+            obj.setIdleTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "maxLifetime":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLifetime(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxLifetimeUnit":
+          if (member.getValue() instanceof String) {
+            obj.setMaxLifetimeUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
         case "maxSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxSize(((Number)member.getValue()).intValue());
@@ -25,6 +65,31 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "poolCleanerPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setPoolCleanerPeriod(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "validationInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setValidationInterval(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "validationIntervalUnit":
+          if (member.getValue() instanceof String) {
+            obj.setValidationIntervalUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "waitQueueOrder":
+          if (member.getValue() instanceof String) {
+            obj.setWaitQueueOrder(io.vertx.sqlclient.WaitQueueOrder.valueOf((String)member.getValue()));
+          }
+          break;
       }
     }
   }
@@ -34,7 +99,30 @@ public class PoolOptionsConverter {
   }
 
   public static void toJson(PoolOptions obj, java.util.Map<String, Object> json) {
+    json.put("acquireTimeout", obj.getAcquireTimeout());
+    if (obj.getAcquireTimeoutUnit() != null) {
+      json.put("acquireTimeoutUnit", obj.getAcquireTimeoutUnit().name());
+    }
+    json.put("cachePreparedStatements", obj.getCachePreparedStatements());
+    json.put("eventLoopSize", obj.getEventLoopSize());
+    json.put("idleTimeout", obj.getIdleTimeout());
+    if (obj.getIdleTimeoutUnit() != null) {
+      json.put("idleTimeoutUnit", obj.getIdleTimeoutUnit().name());
+    }
+    json.put("maxLifetime", obj.getMaxLifetime());
+    if (obj.getMaxLifetimeUnit() != null) {
+      json.put("maxLifetimeUnit", obj.getMaxLifetimeUnit().name());
+    }
     json.put("maxSize", obj.getMaxSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    json.put("minIdle", obj.getMinIdle());
+    json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("validationInterval", obj.getValidationInterval());
+    if (obj.getValidationIntervalUnit() != null) {
+      json.put("validationIntervalUnit", obj.getValidationIntervalUnit().name());
+    }
+    if (obj.getWaitQueueOrder() != null) {
+      json.put("waitQueueOrder", obj.getWaitQueueOrder().name());
+    }
   }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A cursor over the columns of the current row of a result, the values are decoded on demand from the network buffer
+ * without materializing a {@link Row}.
+ * <p>
+ * The cursor is reused for all the rows of the result and is only valid during the visitor callback, it must not
+ * be retained after the callback returns.
+ * <p>
+ * The primitive getters do not box the values, they return {@code 0} or {@code false} when the value is {@code NULL},
+ * {@link #isNull(int)} tells whether a value is {@code NULL}. The getters throw a {@link ClassCastException} when the
+ * value cannot be converted to the requested type, a 64-bit integer value is never truncated to fit in an {@code int}.
+ */
+@VertxGen
+public interface ColumnCursor {
+
+  /**
+   * @return the number of columns of the row
+   */
+  int size();
+
+  /**
+   * Get a column name at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the column name or {@code null}
+   */
+  String getColumnName(int pos);
+
+  /**
+   * @param pos the column position
+   * @return whether the value at {@code pos} is {@code NULL}
+   */
+  boolean isNull(int pos);
+
+  /**
+   * Get a boolean value at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the value or {@code false}
+   */
+  boolean getBoolean(int pos);
+
+  /**
+   * Get an int value at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0}
+   */
+  int getInt(int pos);
+
+  /**
+   * Get a long value at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0}
+   */
+  long getLong(int pos);
+
+  /**
+   * Get a double value at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0}
+   */
+  double getDouble(int pos);
+
+  /**
+   * Get a string value at {@code pos}.
+   *
+   * @param pos the column position
+   * @return the value or {@code null}
+   */
+  String getString(int pos);
+
+  /**
+   * Get an object value at {@code pos}, the value is decoded like {@link Row#getValue(int)}.
+   *
+   * @param pos the column position
+   * @return the value or {@code null}
+   */
+  Object getValue(int pos);
+
+}
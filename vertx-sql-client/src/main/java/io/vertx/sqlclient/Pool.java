@@ -149,6 +149,25 @@ public interface Pool extends SqlClient {
   @GenIgnore
   <R> Pool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  /**
+   * Borrows a connection from the connection pool, the connection will be used to execute the given {@code sql} string using a prepared statement with parameters set in the {@code Tuple},
+   * the connection will be returned to the pool when the execution completes.
+   * <p>
+   * The {@code visitor} is called with a {@link ColumnCursor} for each row of the result, the cursor reads the column values from
+   * the network buffer instead of creating a {@link Row}. The cursor is positioned on the current row only during the {@code visitor}
+   * call: it must not be retained, the values must be read or copied before the call returns. The size of the result notified to
+   * the {@code handler} is the number of visited rows.
+   *
+   * @param sql the prepared query SQL
+   * @param arguments the list of arguments
+   * @param visitor the visitor called with each row
+   * @param handler the handler notified with the execution result
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @Override
+  Pool preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
   /**
    * Like {@link #preparedQuery(String, Tuple, Collector, Handler)} but returns a {@code Future} of the asynchronous result
    */
@@ -209,6 +228,20 @@ public interface Pool extends SqlClient {
    */
   Future<SqlConnection> getConnection();
 
+  /**
+   * Get a connection from the pool, the request fails when it does not get a connection before the {@code timeout},
+   * this overrides the {@link PoolOptions#getAcquireTimeout() acquire timeout} of the pool.
+   *
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param handler the handler that will get the connection result
+   */
+  void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler);
+
+  /**
+   * Like {@link #getConnection(long, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<SqlConnection> getConnection(long timeout);
+
   /**
    * Borrow a connection from the pool and begin a transaction, the underlying connection will be returned
    * to the pool when the transaction ends.
@@ -222,6 +255,19 @@ public interface Pool extends SqlClient {
    */
   Future<Transaction> begin();
 
+  /**
+   * Open connections in parallel until the pool holds the {@link PoolOptions#getMinIdle() min idle} connections, this
+   * avoids paying the connection establishment cost on the first requests served by the pool.
+   *
+   * @param handler the handler notified when the connections are established
+   */
+  void warmUp(Handler<AsyncResult<Void>> handler);
+
+  /**
+   * Like {@link #warmUp(Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Void> warmUp();
+
   /**
    * Close the pool and release the associated resources.
    */
@@ -20,6 +20,8 @@ package io.vertx.sqlclient;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.json.JsonObject;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The options for configuring a connection pool.
  *
@@ -38,8 +40,86 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_WAIT_QUEUE_SIZE = -1;
 
+  /**
+   * Default wait queue order = {@link WaitQueueOrder#FIFO}
+   */
+  public static final WaitQueueOrder DEFAULT_WAIT_QUEUE_ORDER = WaitQueueOrder.FIFO;
+
+  /**
+   * Default connection acquire timeout = 0 (no timeout)
+   */
+  public static final int DEFAULT_ACQUIRE_TIMEOUT = 0;
+
+  /**
+   * Default connection acquire timeout unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_ACQUIRE_TIMEOUT_TIME_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default minimum number of idle connections = 0 (connections are created on demand)
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default pool event loop size = 0 (reuse current event-loop)
+   */
+  public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
+
+  /**
+   * Default connection idle timeout = 0 (no timeout)
+   */
+  public static final int DEFAULT_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default connection idle timeout unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_IDLE_TIMEOUT_TIME_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default connection max lifetime = 0 (no limit)
+   */
+  public static final int DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default connection max lifetime unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_MAX_LIFETIME_TIME_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default connection validation interval = 0 (no validation)
+   */
+  public static final int DEFAULT_VALIDATION_INTERVAL = 0;
+
+  /**
+   * Default connection validation interval unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_VALIDATION_INTERVAL_TIME_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default pool cleaner period = 1000 ms (1 second)
+   */
+  public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
+
+  /**
+   * Default prepared statement caching of the pooled connections = true
+   */
+  public static final boolean DEFAULT_CACHE_PREPARED_STATEMENTS = true;
+
   private int maxSize = DEFAULT_MAX_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+  private WaitQueueOrder waitQueueOrder = DEFAULT_WAIT_QUEUE_ORDER;
+  private int acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+  private TimeUnit acquireTimeoutUnit = DEFAULT_ACQUIRE_TIMEOUT_TIME_UNIT;
+  private int minIdle = DEFAULT_MIN_IDLE;
+  private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
+  private int maxLifetime = DEFAULT_MAX_LIFETIME;
+  private TimeUnit maxLifetimeUnit = DEFAULT_MAX_LIFETIME_TIME_UNIT;
+  private int validationInterval = DEFAULT_VALIDATION_INTERVAL;
+  private TimeUnit validationIntervalUnit = DEFAULT_VALIDATION_INTERVAL_TIME_UNIT;
+  private int poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+  private boolean cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
 
   public PoolOptions() {
   }
@@ -51,6 +131,19 @@ public class PoolOptions {
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
     maxWaitQueueSize = other.maxWaitQueueSize;
+    waitQueueOrder = other.waitQueueOrder;
+    acquireTimeout = other.acquireTimeout;
+    acquireTimeoutUnit = other.acquireTimeoutUnit;
+    minIdle = other.minIdle;
+    eventLoopSize = other.eventLoopSize;
+    idleTimeout = other.idleTimeout;
+    idleTimeoutUnit = other.idleTimeoutUnit;
+    maxLifetime = other.maxLifetime;
+    maxLifetimeUnit = other.maxLifetimeUnit;
+    validationInterval = other.validationInterval;
+    validationIntervalUnit = other.validationIntervalUnit;
+    poolCleanerPeriod = other.poolCleanerPeriod;
+    cachePreparedStatements = other.cachePreparedStatements;
   }
 
   /**
@@ -93,6 +186,286 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the wait queue order
+   */
+  public WaitQueueOrder getWaitQueueOrder() {
+    return waitQueueOrder;
+  }
+
+  /**
+   * Set the order in which the requests waiting for a connection are served, when the wait queue is full
+   * the request that would be served last is rejected.
+   *
+   * @param waitQueueOrder the wait queue order
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWaitQueueOrder(WaitQueueOrder waitQueueOrder) {
+    if (waitQueueOrder == null) {
+      throw new IllegalArgumentException("Wait queue order cannot be null");
+    }
+    this.waitQueueOrder = waitQueueOrder;
+    return this;
+  }
+
+  /**
+   * @return the connection acquire timeout
+   */
+  public int getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  /**
+   * Establish a timeout for acquiring a connection from the pool, a request that does not get a connection
+   * before the timeout fails and leaves the wait queue. A value of zero disables the timeout.
+   *
+   * @param acquireTimeout the connection acquire timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAcquireTimeout(int acquireTimeout) {
+    if (acquireTimeout < 0) {
+      throw new IllegalArgumentException("Acquire timeout cannot be negative");
+    }
+    this.acquireTimeout = acquireTimeout;
+    return this;
+  }
+
+  /**
+   * @return the connection acquire timeout unit
+   */
+  public TimeUnit getAcquireTimeoutUnit() {
+    return acquireTimeoutUnit;
+  }
+
+  /**
+   * Establish a connection acquire timeout unit.
+   *
+   * @param acquireTimeoutUnit the connection acquire timeout unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAcquireTimeoutUnit(TimeUnit acquireTimeoutUnit) {
+    this.acquireTimeoutUnit = acquireTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of idle connections
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections the pool keeps, the pool opens connections in the background
+   * until it holds this number of idle connections, within the limit of the {@link #setMaxSize(int) max size}.
+   * A value of zero disables it.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("Min idle cannot be negative");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return the pool event loop size
+   */
+  public int getEventLoopSize() {
+    return eventLoopSize;
+  }
+
+  /**
+   * Set the number of event loops the pool uses.
+   *
+   * <ul>
+   *   <li>when the size is {@code 0} or {@code 1}, the pool uses a single event-loop determined at creation time</li>
+   *   <li>when the size is greater than {@code 1}, the pool keeps a shard of connections per event loop, a request
+   *   running on the event loop of a shard is served by this shard and an idle connection is borrowed from another shard
+   *   when its own shard is exhausted</li>
+   * </ul>
+   *
+   * The {@link #setMaxSize(int) max size} is split among the event loops.
+   *
+   * @param eventLoopSize the number of event loops
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setEventLoopSize(int eventLoopSize) {
+    if (eventLoopSize < 0) {
+      throw new IllegalArgumentException("Pool event loop size cannot be negative");
+    }
+    this.eventLoopSize = eventLoopSize;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection idle timeout
+   */
+  public int getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Establish an idle timeout for pooled connections, a connection that stays idle in the pool
+   * longer than the timeout is closed. A value of zero disables the timeout.
+   *
+   * @param idleTimeout the pooled connection idle timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeout(int idleTimeout) {
+    if (idleTimeout < 0) {
+      throw new IllegalArgumentException("Idle timeout cannot be negative");
+    }
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection idle timeout unit
+   */
+  public TimeUnit getIdleTimeoutUnit() {
+    return idleTimeoutUnit;
+  }
+
+  /**
+   * Establish an idle timeout unit for pooled connections.
+   *
+   * @param idleTimeoutUnit the pooled connection idle timeout unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeoutUnit(TimeUnit idleTimeoutUnit) {
+    this.idleTimeoutUnit = idleTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection max lifetime
+   */
+  public int getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Establish a max lifetime for pooled connections, a connection older than the max lifetime is closed
+   * instead of being returned to the pool. A value of zero disables the limit.
+   *
+   * @param maxLifetime the pooled connection max lifetime
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetime(int maxLifetime) {
+    if (maxLifetime < 0) {
+      throw new IllegalArgumentException("Max lifetime cannot be negative");
+    }
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection max lifetime unit
+   */
+  public TimeUnit getMaxLifetimeUnit() {
+    return maxLifetimeUnit;
+  }
+
+  /**
+   * Establish a max lifetime unit for pooled connections.
+   *
+   * @param maxLifetimeUnit the pooled connection max lifetime unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetimeUnit(TimeUnit maxLifetimeUnit) {
+    this.maxLifetimeUnit = maxLifetimeUnit;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection validation interval
+   */
+  public int getValidationInterval() {
+    return validationInterval;
+  }
+
+  /**
+   * Establish a validation interval for pooled connections, a connection that stays idle in the pool
+   * longer than the interval is validated with a lightweight round trip to the server and closed when the validation fails.
+   * A value of zero disables the validation.
+   *
+   * @param validationInterval the pooled connection validation interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setValidationInterval(int validationInterval) {
+    if (validationInterval < 0) {
+      throw new IllegalArgumentException("Validation interval cannot be negative");
+    }
+    this.validationInterval = validationInterval;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection validation interval unit
+   */
+  public TimeUnit getValidationIntervalUnit() {
+    return validationIntervalUnit;
+  }
+
+  /**
+   * Establish a validation interval unit for pooled connections.
+   *
+   * @param validationIntervalUnit the pooled connection validation interval unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setValidationIntervalUnit(TimeUnit validationIntervalUnit) {
+    this.validationIntervalUnit = validationIntervalUnit;
+    return this;
+  }
+
+  /**
+   * @return the pool cleaner period in ms
+   */
+  public int getPoolCleanerPeriod() {
+    return poolCleanerPeriod;
+  }
+
+  /**
+   * Set the period of the timer checking the acquire timeout, the idle timeout, the max lifetime, the validation
+   * of the pooled connections and the min idle connections, this is the resolution of these settings.
+   *
+   * @param poolCleanerPeriod the pool cleaner period in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setPoolCleanerPeriod(int poolCleanerPeriod) {
+    if (poolCleanerPeriod < 1) {
+      throw new IllegalArgumentException("Pool cleaner period must be > 0");
+    }
+    this.poolCleanerPeriod = poolCleanerPeriod;
+    return this;
+  }
+
+  /**
+   * @return whether the pooled connections cache their prepared statements
+   */
+  public boolean getCachePreparedStatements() {
+    return cachePreparedStatements;
+  }
+
+  /**
+   * Set whether the pooled connections cache their prepared statements, when enabled the connections cache
+   * their prepared statements regardless of {@link SqlConnectOptions#getCachePreparedStatements()} within the
+   * {@link SqlConnectOptions#getPreparedStatementCacheMaxSize() max size} and
+   * {@link SqlConnectOptions#getPreparedStatementCacheSqlLimit() SQL limit} of the connect options and a prepared
+   * query executed by the pool is preferably routed to an idle connection which has already prepared it.
+   *
+   * @param cachePreparedStatements true if the cache should be enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setCachePreparedStatements(boolean cachePreparedStatements) {
+    this.cachePreparedStatements = cachePreparedStatements;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -108,6 +481,20 @@ public class PoolOptions {
     PoolOptions that = (PoolOptions) o;
 
     if (maxSize != that.maxSize) return false;
+    if (maxWaitQueueSize != that.maxWaitQueueSize) return false;
+    if (waitQueueOrder != that.waitQueueOrder) return false;
+    if (acquireTimeout != that.acquireTimeout) return false;
+    if (acquireTimeoutUnit != that.acquireTimeoutUnit) return false;
+    if (minIdle != that.minIdle) return false;
+    if (eventLoopSize != that.eventLoopSize) return false;
+    if (idleTimeout != that.idleTimeout) return false;
+    if (idleTimeoutUnit != that.idleTimeoutUnit) return false;
+    if (maxLifetime != that.maxLifetime) return false;
+    if (maxLifetimeUnit != that.maxLifetimeUnit) return false;
+    if (validationInterval != that.validationInterval) return false;
+    if (validationIntervalUnit != that.validationIntervalUnit) return false;
+    if (poolCleanerPeriod != that.poolCleanerPeriod) return false;
+    if (cachePreparedStatements != that.cachePreparedStatements) return false;
 
     return true;
   }
@@ -116,6 +503,20 @@ public class PoolOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + maxSize;
+    result = 31 * result + maxWaitQueueSize;
+    result = 31 * result + (waitQueueOrder != null ? waitQueueOrder.hashCode() : 0);
+    result = 31 * result + acquireTimeout;
+    result = 31 * result + (acquireTimeoutUnit != null ? acquireTimeoutUnit.hashCode() : 0);
+    result = 31 * result + minIdle;
+    result = 31 * result + eventLoopSize;
+    result = 31 * result + idleTimeout;
+    result = 31 * result + (idleTimeoutUnit != null ? idleTimeoutUnit.hashCode() : 0);
+    result = 31 * result + maxLifetime;
+    result = 31 * result + (maxLifetimeUnit != null ? maxLifetimeUnit.hashCode() : 0);
+    result = 31 * result + validationInterval;
+    result = 31 * result + (validationIntervalUnit != null ? validationIntervalUnit.hashCode() : 0);
+    result = 31 * result + poolCleanerPeriod;
+    result = 31 * result + (cachePreparedStatements ? 1 : 0);
     return result;
   }
 }
@@ -87,6 +87,25 @@ public interface PreparedQuery {
   @GenIgnore
   <R> PreparedQuery execute(Tuple args, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  /**
+   * Execute the query with the provided {@code arguments}, each row of the result is visited with a {@link ColumnCursor}
+   * reading the values from the network buffer instead of creating a {@link Row}.
+   * <p>
+   * The cursor is only valid during the {@code visitor} call, the size of the result is the number of visited rows.
+   *
+   * @param args the list of arguments
+   * @param visitor the visitor called with each row
+   * @param handler the handler notified with the execution result
+   * @return the query
+   */
+  @Fluent
+  PreparedQuery scan(Tuple args, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
+  /**
+   * Like {@link #scan(Tuple, Handler, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<SqlResult<Void>> scan(Tuple args, Handler<ColumnCursor> visitor);
+
   /**
    * @return create a query cursor with a {@code fetch} size and empty arguments
    */
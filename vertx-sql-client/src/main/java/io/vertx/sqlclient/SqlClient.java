@@ -133,6 +133,26 @@ public interface SqlClient {
   @GenIgnore
   <R> Future<SqlResult<R>> preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector);
 
+  /**
+   * Execute the given {@code sql} string using a prepared statement with parameters set in the {@code Tuple}, each row of the result
+   * is visited with a {@link ColumnCursor} reading the values from the network buffer instead of creating a {@link Row}.
+   * <p>
+   * The cursor is only valid during the {@code visitor} call, the size of the result is the number of visited rows.
+   *
+   * @param sql the prepared query SQL
+   * @param arguments the list of arguments
+   * @param visitor the visitor called with each row
+   * @param handler the handler notified with the execution result
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SqlClient preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
+  /**
+   * Like {@link #preparedScan(String, Tuple, Handler, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<SqlResult<Void>> preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor);
+
   /**
    * Execute the given {@code sql} string using a prepared statement with a batch of parameters set in the {@code List}, the asynchronous result is represented as a {@link RowSet}.
    *
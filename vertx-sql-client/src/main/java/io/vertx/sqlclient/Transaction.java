@@ -48,6 +48,9 @@ public interface Transaction extends SqlClient {
 
   /**
    * Commit the current transaction.
+   * <p/>
+   * When the transaction has a single statement and is committed without waiting for its response, the driver
+   * can send the statement and the commit together.
    */
   Future<Void> commit();
 
@@ -74,6 +77,22 @@ public interface Transaction extends SqlClient {
   @Fluent
   Transaction abortHandler(Handler<Void> handler);
 
+  /**
+   * Set whether the statements of the transaction are pipelined, i.e. a statement is sent without waiting for the
+   * response of the previous statements. The transaction is rolled back when a statement fails and the statements
+   * sent after it are failed. The transaction is committed after the response of all its statements.
+   * <p/>
+   * Only the first statement is sent with the {@code BEGIN} of the transaction, the following statements are sent
+   * once the transaction has begun. When the {@code BEGIN} fails, the statements and the transaction fail with its
+   * failure.
+   * <p/>
+   * This is disabled by default, the pipelining also depends on the pipelining limit of the connection.
+   *
+   * @param pipelined whether the statements are pipelined
+   */
+  @Fluent
+  Transaction pipelined(boolean pipelined);
+
   @Override
   Transaction query(String sql, Handler<AsyncResult<RowSet<Row>>> handler);
 
@@ -95,6 +114,9 @@ public interface Transaction extends SqlClient {
   @GenIgnore
   <R> Transaction preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
 
+  @Override
+  Transaction preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler);
+
   @Override
   Transaction preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler);
 
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The order in which the requests waiting for a pooled connection are served.
+ */
+@VertxGen
+public enum WaitQueueOrder {
+
+  /**
+   * the oldest request is served first, when the wait queue is full the newest request is rejected.
+   */
+  FIFO,
+
+  /**
+   * the newest request is served first, when the wait queue is full the oldest request is rejected.
+   * Under overload this favors the requests that are the most likely to still be awaited by their caller.
+   */
+  LIFO
+
+}
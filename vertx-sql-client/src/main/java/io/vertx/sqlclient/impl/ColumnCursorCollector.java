@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.ColumnCursor;
+import io.vertx.sqlclient.Row;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A collector carrying a visitor of the rows of a result, a {@link RowDecoder} recognizes it and calls the visitor
+ * with a {@link ColumnCursor} reading the row from the network buffer instead of decoding a {@link Row}.
+ */
+class ColumnCursorCollector implements Collector<Row, Void, Void> {
+
+  final Handler<ColumnCursor> visitor;
+
+  ColumnCursorCollector(Handler<ColumnCursor> visitor) {
+    this.visitor = visitor;
+  }
+
+  @Override
+  public Supplier<Void> supplier() {
+    return () -> null;
+  }
+
+  @Override
+  public BiConsumer<Void, Row> accumulator() {
+    RowColumnCursor cursor = new RowColumnCursor();
+    return (v, row) -> {
+      cursor.row = row;
+      visitor.handle(cursor);
+    };
+  }
+
+  @Override
+  public BinaryOperator<Void> combiner() {
+    return (v1, v2) -> null;
+  }
+
+  @Override
+  public Function<Void, Void> finisher() {
+    return v -> null;
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return Collections.emptySet();
+  }
+}
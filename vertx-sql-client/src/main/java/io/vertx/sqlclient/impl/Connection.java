@@ -17,7 +17,13 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandScheduler;
+import io.vertx.sqlclient.impl.command.TxCommand;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 
 public interface Connection extends CommandScheduler  {
 
@@ -31,6 +37,36 @@ public interface Connection extends CommandScheduler  {
 
   int getSecretKey();
 
+  /**
+   * @return whether this connection has a cached prepared statement for the {@code sql}, this is a hint
+   *         and must be called from the connection context
+   */
+  default boolean isPrepared(String sql) {
+    return false;
+  }
+
+  /**
+   * Schedule the first command of a transaction with the {@code BEGIN} of the transaction, the implementation
+   * can send both in a single write.
+   *
+   * @param commit the handler of the {@code COMMIT} following the command or {@code null}, the implementation can
+   *               send the {@code COMMIT} with the command when the protocol rolls back the transaction on failure
+   * @return whether the {@code COMMIT} was scheduled and its outcome reported to {@code commit}, otherwise the
+   *         caller remains responsible for it
+   */
+  default <R> boolean scheduleWithBegin(CommandBase<R> cmd, Promise<Void> begin, Promise<R> handler, Handler<AsyncResult<Void>> commit) {
+    schedule(TxCommand.BEGIN, begin);
+    schedule(cmd, handler);
+    return false;
+  }
+
+  /**
+   * Report the commands of this connection and the bytes it reads and writes to the {@code metrics}, this must be
+   * called before the connection executes commands.
+   */
+  default void metrics(SqlClientMetrics<?> metrics) {
+  }
+
   interface Holder {
 
     void handleEvent(Object event);
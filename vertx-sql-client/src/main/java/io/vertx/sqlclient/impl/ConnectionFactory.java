@@ -17,6 +17,10 @@
 package io.vertx.sqlclient.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 
 public interface ConnectionFactory {
 
@@ -27,4 +31,23 @@ public interface ConnectionFactory {
    */
   Future<Connection> connect();
 
+  /**
+   * Connect to the database and returns a connection bound to the event loop of the given {@code context}.
+   *
+   * @param context the context of the connection
+   * @return a connection future
+   */
+  default Future<Connection> connect(ContextInternal context) {
+    return connect();
+  }
+
+  /**
+   * Create the command validating a pooled connection, by default an empty simple query.
+   *
+   * @return the validation command
+   */
+  default CommandBase<?> createValidationCommand() {
+    return new SimpleQueryCommand<>("", false, true, QueryCommandBase.NULL_COLLECTOR, QueryResultHandler.NOOP_HANDLER);
+  }
+
 }
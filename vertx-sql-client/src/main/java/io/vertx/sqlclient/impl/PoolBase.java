@@ -18,12 +18,20 @@
 package io.vertx.sqlclient.impl;
 
 import io.vertx.core.Promise;
+import io.vertx.core.ServiceHelper;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.impl.command.BiCommand;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetricsFactory;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -36,10 +44,33 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
 
   private final VertxInternal vertx;
   private final boolean closeVertx;
+  private final PreparedStatementMetadataCache psMetadataCache = new PreparedStatementMetadataCache();
+  private final SqlClientMetrics<?> metrics;
 
-  public PoolBase(VertxInternal vertx, boolean closeVertx) {
+  /**
+   * Create a pool measured by the {@link SqlClientMetricsFactory} found with the {@link java.util.ServiceLoader}.
+   */
+  public PoolBase(VertxInternal vertx, boolean closeVertx, SqlConnectOptions connectOptions, PoolOptions poolOptions) {
     this.vertx = vertx;
     this.closeVertx = closeVertx;
+    this.metrics = createMetrics(vertx, connectOptions, poolOptions);
+  }
+
+  private static SqlClientMetrics<?> createMetrics(VertxInternal vertx, SqlConnectOptions connectOptions, PoolOptions poolOptions) {
+    if (Metrics.METRICS_ENABLED) {
+      SqlClientMetricsFactory factory = ServiceHelper.loadFactoryOrNull(SqlClientMetricsFactory.class);
+      if (factory != null) {
+        return factory.create(vertx, connectOptions, poolOptions);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the metrics of the pool and of its connections or {@code null}
+   */
+  protected SqlClientMetrics<?> metrics() {
+    return metrics;
   }
 
   @Override
@@ -52,6 +83,13 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     return vertx.promise(handler);
   }
 
+  /**
+   * @return the cache of the prepared statement metadata shared by the connections of this pool
+   */
+  protected PreparedStatementMetadataCache preparedStatementMetadataCache() {
+    return psMetadataCache;
+  }
+
   /**
    * Create a connection and connect to the database server.
    *
@@ -61,6 +99,24 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
 
   public abstract void acquire(Handler<AsyncResult<Connection>> completionHandler);
 
+  /**
+   * Like {@link #acquire(Handler)} with a specific acquire {@code timeout} in milliseconds.
+   */
+  public abstract void acquire(Handler<AsyncResult<Connection>> completionHandler, long timeout);
+
+  /**
+   * Like {@link #acquire(Handler)} to execute the prepared statement of the {@code sql}, an idle connection
+   * which has already prepared it is preferred.
+   */
+  public abstract void acquire(Handler<AsyncResult<Connection>> completionHandler, String sql);
+
+  /**
+   * Open connections until the pool holds its min idle connections.
+   *
+   * @param completionHandler the handler completed when the connections are established
+   */
+  protected abstract void doWarmUp(Handler<AsyncResult<Void>> completionHandler);
+
   @Override
   public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
     Future<SqlConnection> fut = getConnection();
@@ -74,7 +130,27 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     ContextInternal current = vertx.getOrCreateContext();
     Promise<Connection> promise = current.promise();
     acquire(promise);
-    return promise.future().map(conn -> {
+    return wrapConnection(current, promise.future());
+  }
+
+  @Override
+  public void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler) {
+    Future<SqlConnection> fut = getConnection(timeout);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  @Override
+  public Future<SqlConnection> getConnection(long timeout) {
+    ContextInternal current = vertx.getOrCreateContext();
+    Promise<Connection> promise = current.promise();
+    acquire(promise, timeout);
+    return wrapConnection(current, promise.future());
+  }
+
+  private Future<SqlConnection> wrapConnection(ContextInternal current, Future<Connection> fut) {
+    return fut.map(conn -> {
       SqlConnectionImpl wrapper = wrap(current, conn);
       conn.init(wrapper);
       return wrapper;
@@ -98,9 +174,24 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     }
   }
 
+  @Override
+  public Future<Void> warmUp() {
+    Promise<Void> promise = vertx.getOrCreateContext().promise();
+    doWarmUp(promise);
+    return promise.future();
+  }
+
+  @Override
+  public void warmUp(Handler<AsyncResult<Void>> handler) {
+    Future<Void> fut = warmUp();
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
   @Override
   public <R> void schedule(CommandBase<R> cmd, Promise<R> promise) {
-    acquire(new CommandWaiter() {
+    CommandWaiter waiter = new CommandWaiter() {
       @Override
       protected void onSuccess(Connection conn) {
         conn.schedule(cmd, promise);
@@ -110,7 +201,14 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
       protected void onFailure(Throwable cause) {
         promise.fail(cause);
       }
-    });
+    };
+    if (cmd instanceof BiCommand && ((BiCommand<?, ?>) cmd).first instanceof PrepareStatementCommand) {
+      // Route the prepared query to a connection which has already prepared it
+      PrepareStatementCommand prepareCmd = (PrepareStatementCommand) ((BiCommand<?, ?>) cmd).first;
+      acquire(waiter, prepareCmd.sql());
+    } else {
+      acquire(waiter);
+    }
   }
 
   private abstract class CommandWaiter implements Connection.Holder, Handler<AsyncResult<Connection>> {
@@ -147,6 +245,9 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
   protected abstract SqlConnectionImpl wrap(ContextInternal context, Connection conn);
 
   protected void doClose() {
+    if (metrics != null) {
+      metrics.close();
+    }
     if (closeVertx) {
       vertx.close();
     }
@@ -22,6 +22,7 @@ import io.vertx.sqlclient.impl.command.CloseCursorCommand;
 import io.vertx.sqlclient.impl.command.CloseStatementCommand;
 import io.vertx.sqlclient.impl.command.ExtendedBatchQueryCommand;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.Cursor;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.SqlResult;
@@ -71,6 +72,18 @@ class PreparedQueryImpl implements PreparedQuery {
     return execute((TupleInternal)args, true, SqlResultImpl::new, collector, context.promise(handler));
   }
 
+  @Override
+  public PreparedQuery scan(Tuple args, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler) {
+    return execute((TupleInternal)args, true, SqlResultImpl::new, new ColumnCursorCollector(visitor), context.promise(handler));
+  }
+
+  @Override
+  public Future<SqlResult<Void>> scan(Tuple args, Handler<ColumnCursor> visitor) {
+    Promise<SqlResult<Void>> promise = context.promise();
+    execute((TupleInternal)args, true, SqlResultImpl::new, new ColumnCursorCollector(visitor), promise);
+    return promise.future();
+  }
+
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> PreparedQuery execute(
     TupleInternal args,
     boolean singleton,
@@ -11,60 +11,201 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
-import io.vertx.sqlclient.impl.SocketConnectionBase.CachedPreparedStatement;
 import io.vertx.sqlclient.impl.command.CloseStatementCommand;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 
 /**
- * A LRU replacement strategy cache based on {@link java.util.LinkedHashMap} for prepared statements.
+ * A LRU cache of prepared statements with constant time lookup, insertion and eviction.
+ * <p>
+ * The statements are indexed by SQL in a hash map and the statements ready to be evicted are linked in
+ * a recency ordered list. A statement being prepared is not linked in the list, so it cannot be evicted
+ * while its preparation is in flight, it is linked when its preparation succeeds and removed from the cache
+ * when its preparation fails. An evicted statement is closed on the connection.
+ * <p>
+ * The cache is not thread safe, it must be used from the connection context.
  */
-class PreparedStatementCache extends LinkedHashMap<String, CachedPreparedStatement> {
+class PreparedStatementCache {
+
   private final int capacity;
   private final Connection conn;
+  private final HashMap<String, CachedPreparedStatement> map;
+  private CachedPreparedStatement eldest;
+  private CachedPreparedStatement newest;
+  private long hits;
+  private long misses;
+  private long evictions;
 
   PreparedStatementCache(int capacity, Connection conn) {
-    super(capacity, 0.75f, true);
     this.capacity = capacity;
     this.conn = conn;
+    this.map = new HashMap<>();
+  }
+
+  /**
+   * Lookup the statement prepared for the {@code sql}, the statement becomes the most recently used.
+   *
+   * @return the statement or {@code null} when it is not cached
+   */
+  CachedPreparedStatement get(String sql) {
+    CachedPreparedStatement cached = map.get(sql);
+    if (cached == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    if (cached.linked) {
+      unlink(cached);
+      link(cached);
+    }
+    return cached;
   }
 
-  @Override
-  protected boolean removeEldestEntry(Map.Entry<String, CachedPreparedStatement> eldest) {
-    boolean needRemove = size() > capacity;
-    CachedPreparedStatement cachedPreparedStatementToRemove = eldest.getValue();
-
-    if (needRemove) {
-      if (cachedPreparedStatementToRemove.resp.succeeded()) {
-        // close the statement after it has been evicted from the cache
-        PreparedStatement statement = cachedPreparedStatementToRemove.resp.result();
-        CloseStatementCommand cmd = new CloseStatementCommand(statement);
-        conn.schedule(cmd, Promise.promise()); // Shall be empty ?
+  /**
+   * Create a statement to be prepared for the {@code sql}, when the cache is full the least recently used statement
+   * is evicted.
+   *
+   * @return the statement or {@code null} when the cache is full of statements being prepared
+   */
+  CachedPreparedStatement create(String sql) {
+    if (map.size() >= capacity) {
+      CachedPreparedStatement evicted = eldest;
+      if (evicted == null) {
+        return null;
       }
-      return true;
+      evict(evicted);
     }
-    return false;
+    CachedPreparedStatement cached = new CachedPreparedStatement(sql);
+    map.put(sql, cached);
+    return cached;
+  }
+
+  /**
+   * @return whether the cache holds a statement for the {@code sql}, the lookup is not counted and
+   *         does not change the recency of the statement
+   */
+  boolean contains(String sql) {
+    return map.containsKey(sql);
   }
 
-  public boolean isReady() {
-    Map.Entry<String, CachedPreparedStatement> entry = getEldestEntry();
-    if (entry == null) {
-      return true;
+  /**
+   * Evict the {@code statement} when it is cached, e.g its metadata is stale after a schema change.
+   */
+  void remove(PreparedStatement statement) {
+    CachedPreparedStatement cached = map.get(statement.sql());
+    if (cached != null && cached.linked && cached.resp.result() == statement) {
+      evict(cached);
+    }
+  }
+
+  private void evict(CachedPreparedStatement cached) {
+    unlink(cached);
+    map.remove(cached.sql);
+    evictions++;
+    // close the statement after it has been evicted from the cache
+    PreparedStatement statement = cached.resp.result();
+    CloseStatementCommand cmd = new CloseStatementCommand(statement);
+    conn.schedule(cmd, Promise.promise());
+  }
+
+  private void link(CachedPreparedStatement cached) {
+    cached.older = newest;
+    cached.newer = null;
+    if (newest != null) {
+      newest.newer = cached;
+    } else {
+      eldest = cached;
+    }
+    newest = cached;
+    cached.linked = true;
+  }
+
+  private void unlink(CachedPreparedStatement cached) {
+    if (cached.older != null) {
+      cached.older.newer = cached.newer;
+    } else {
+      eldest = cached.newer;
+    }
+    if (cached.newer != null) {
+      cached.newer.older = cached.older;
     } else {
-      return entry.getValue().resp != null;
+      newest = cached.older;
     }
+    cached.older = null;
+    cached.newer = null;
+    cached.linked = false;
+  }
+
+  int size() {
+    return map.size();
   }
 
   public int getCapacity() {
     return this.capacity;
   }
 
-  private Map.Entry<String, CachedPreparedStatement> getEldestEntry() {
-    if (size() == 0) {
-      return null;
+  /**
+   * @return the number of lookups that found a statement
+   */
+  long hits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of lookups that did not find a statement
+   */
+  long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the number of statements evicted from the cache
+   */
+  long evictions() {
+    return evictions;
+  }
+
+  class CachedPreparedStatement implements Handler<AsyncResult<PreparedStatement>> {
+
+    private final String sql;
+    private final Deque<Handler<AsyncResult<PreparedStatement>>> waiters = new ArrayDeque<>();
+    private CachedPreparedStatement older;
+    private CachedPreparedStatement newer;
+    private boolean linked;
+    AsyncResult<PreparedStatement> resp;
+
+    private CachedPreparedStatement(String sql) {
+      this.sql = sql;
+    }
+
+    void get(Handler<AsyncResult<PreparedStatement>> handler) {
+      if (resp != null) {
+        handler.handle(resp);
+      } else {
+        waiters.add(handler);
+      }
+    }
+
+    @Override
+    public void handle(AsyncResult<PreparedStatement> event) {
+      resp = event;
+      if (map.get(sql) == this) {
+        if (event.succeeded()) {
+          link(this);
+        } else {
+          // do not cache the failure, the next lookup prepares the statement again
+          map.remove(sql);
+        }
+      }
+      Handler<AsyncResult<PreparedStatement>> waiter;
+      while ((waiter = waiters.poll()) != null) {
+        waiter.handle(resp);
+      }
     }
-    return (Map.Entry<String, CachedPreparedStatement>) entrySet().toArray()[size() - 1];
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the metadata (parameter and row descriptions) of the statements prepared by the connections of a pool,
+ * shared by all the connections of the pool.
+ * <p>
+ * A connection that has never prepared a statement can reuse the metadata of a statement prepared by another connection
+ * to execute it without waiting for the server to describe it, see {@link SocketConnectionBase#adoptPreparedStatement}.
+ * <p>
+ * The cache is thread safe, when it is full an arbitrary statement is evicted.
+ */
+public class PreparedStatementMetadataCache {
+
+  /**
+   * The default maximum number of statements = 1024
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final int capacity;
+  private final ConcurrentHashMap<String, PreparedStatement> map = new ConcurrentHashMap<>();
+
+  public PreparedStatementMetadataCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public PreparedStatementMetadataCache(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the statement prepared for the {@code sql} or {@code null}
+   */
+  public PreparedStatement get(String sql) {
+    return map.get(sql);
+  }
+
+  /**
+   * Record the metadata of a {@code statement} prepared by a connection.
+   */
+  public void put(PreparedStatement statement) {
+    if (map.size() >= capacity) {
+      Iterator<String> it = map.keySet().iterator();
+      if (it.hasNext()) {
+        map.remove(it.next());
+      }
+    }
+    map.put(statement.sql(), statement);
+  }
+
+  /**
+   * Remove the metadata of the {@code statement} when it is stale, e.g the schema changed.
+   */
+  public void remove(PreparedStatement statement) {
+    map.remove(statement.sql(), statement);
+  }
+
+  public int size() {
+    return map.size();
+  }
+}
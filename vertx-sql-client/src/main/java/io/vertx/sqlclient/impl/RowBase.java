@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Base class of the rows decoded by the drivers.
+ * <p>
+ * The fixed-width columns described by the {@code kinds} of the row are stored unboxed in a {@code long[]} slab
+ * (floating point values as their raw bits) with a null bitmap, they are populated directly by the binary decoders
+ * with {@link #addLongValue(long)}, {@link #addDoubleValue(double)} and {@link #addBooleanValue(boolean)}. The
+ * values are only boxed when they are accessed, {@link #getValue(int)} returns the same boxed types than the
+ * codecs of the driver.
+ * <p>
+ * The {@code kinds} array is shared by all the rows of a result and must not be modified, any update of a stored
+ * value reverts the row to the boxed representation.
+ * <p>
+ * A boxed value can be a {@link LazyValue} decoded on the first access.
+ */
+public class RowBase extends ArrayTuple {
+
+  public static final byte BOXED = 0;
+  public static final byte BYTE = 1;
+  public static final byte SHORT = 2;
+  public static final byte INTEGER = 3;
+  public static final byte LONG = 4;
+  public static final byte FLOAT = 5;
+  public static final byte DOUBLE = 6;
+  public static final byte BOOLEAN = 7;
+
+  private byte[] kinds;
+  private long[] slab;
+  private long[] nulls;
+
+  public RowBase(int len, byte[] kinds) {
+    super(len);
+    this.kinds = kinds;
+  }
+
+  public RowBase(Tuple tuple) {
+    super(tuple);
+  }
+
+  private byte kind(int pos) {
+    return kinds != null && pos >= 0 && pos < size() && pos < kinds.length ? kinds[pos] : BOXED;
+  }
+
+  private boolean isNull(int pos) {
+    return nulls != null && (nulls[pos >> 6] & (1L << pos)) != 0;
+  }
+
+  private void addPrimitive(long bits) {
+    if (slab == null) {
+      slab = new long[kinds.length];
+    }
+    slab[size()] = bits;
+    super.addValue(null);
+  }
+
+  /**
+   * Add the value of a {@link #BYTE}, {@link #SHORT}, {@link #INTEGER} or {@link #LONG} column.
+   */
+  public void addLongValue(long value) {
+    addPrimitive(value);
+  }
+
+  /**
+   * Add the value of a {@link #FLOAT} or {@link #DOUBLE} column.
+   */
+  public void addDoubleValue(double value) {
+    addPrimitive(Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Add the value of a {@link #BOOLEAN} column.
+   */
+  public void addBooleanValue(boolean value) {
+    addPrimitive(value ? 1L : 0L);
+  }
+
+  @Override
+  public Tuple addValue(Object value) {
+    int pos = size();
+    if (kinds != null && pos < kinds.length && kinds[pos] != BOXED) {
+      if (value == null) {
+        if (nulls == null) {
+          nulls = new long[(kinds.length + 63) >> 6];
+        }
+        nulls[pos >> 6] |= 1L << pos;
+      } else {
+        box();
+      }
+    }
+    return super.addValue(value);
+  }
+
+  @Override
+  public void setValue(int pos, Object value) {
+    box();
+    super.setValue(pos, value);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    kinds = null;
+    slab = null;
+    nulls = null;
+  }
+
+  /**
+   * Move the unboxed values to the boxed representation.
+   */
+  private void box() {
+    if (kinds != null) {
+      int size = size();
+      Object[] boxed = new Object[size];
+      for (int i = 0;i < size;i++) {
+        boxed[i] = getValue(i);
+      }
+      kinds = null;
+      slab = null;
+      nulls = null;
+      for (int i = 0;i < size;i++) {
+        super.setValue(i, boxed[i]);
+      }
+    }
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED || isNull(pos)) {
+      Object value = super.getValue(pos);
+      if (value instanceof LazyValue) {
+        value = ((LazyValue) value).decode();
+        super.setValue(pos, value);
+      }
+      return value;
+    }
+    long bits = slab[pos];
+    switch (kind) {
+      case BYTE:
+        return (byte) bits;
+      case SHORT:
+        return (short) bits;
+      case INTEGER:
+        return (int) bits;
+      case LONG:
+        return bits;
+      case FLOAT:
+        return (float) Double.longBitsToDouble(bits);
+      case DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        return bits != 0L;
+    }
+  }
+
+  @Override
+  public Boolean getBoolean(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getBoolean(pos);
+    }
+    return kind == BOOLEAN && !isNull(pos) ? slab[pos] != 0L : null;
+  }
+
+  @Override
+  public Short getShort(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getShort(pos);
+    }
+    return isNumber(kind, pos) ? (short) intValue(kind, pos) : null;
+  }
+
+  @Override
+  public Integer getInteger(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getInteger(pos);
+    }
+    return isNumber(kind, pos) ? intValue(kind, pos) : null;
+  }
+
+  @Override
+  public Long getLong(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getLong(pos);
+    }
+    return isNumber(kind, pos) ? longValue(kind, pos) : null;
+  }
+
+  @Override
+  public Float getFloat(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getFloat(pos);
+    }
+    return isNumber(kind, pos) ? floatValue(kind, pos) : null;
+  }
+
+  @Override
+  public Double getDouble(int pos) {
+    byte kind = kind(pos);
+    if (kind == BOXED) {
+      return super.getDouble(pos);
+    }
+    return isNumber(kind, pos) ? doubleValue(kind, pos) : null;
+  }
+
+  private boolean isNumber(byte kind, int pos) {
+    return kind != BOOLEAN && !isNull(pos);
+  }
+
+  private int intValue(byte kind, int pos) {
+    long bits = slab[pos];
+    switch (kind) {
+      case FLOAT:
+      case DOUBLE:
+        return (int) Double.longBitsToDouble(bits);
+      default:
+        return (int) bits;
+    }
+  }
+
+  private long longValue(byte kind, int pos) {
+    long bits = slab[pos];
+    switch (kind) {
+      case FLOAT:
+      case DOUBLE:
+        return (long) Double.longBitsToDouble(bits);
+      default:
+        return bits;
+    }
+  }
+
+  private float floatValue(byte kind, int pos) {
+    long bits = slab[pos];
+    switch (kind) {
+      case FLOAT:
+      case DOUBLE:
+        return (float) Double.longBitsToDouble(bits);
+      default:
+        return (float) bits;
+    }
+  }
+
+  private double doubleValue(byte kind, int pos) {
+    long bits = slab[pos];
+    switch (kind) {
+      case FLOAT:
+      case DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        return bits;
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("[");
+    for (int i = 0; i < size(); i++) {
+      sb.append(getValue(i));
+      if (i + 1 < size())
+        sb.append(",");
+    }
+    sb.append("]");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.ColumnCursor;
+import io.vertx.sqlclient.Row;
+
+/**
+ * A {@link ColumnCursor} over a decoded {@link Row}, used by the decoders that cannot read
+ * the columns from the network buffer.
+ */
+class RowColumnCursor implements ColumnCursor {
+
+  Row row;
+
+  @Override
+  public int size() {
+    return row.size();
+  }
+
+  @Override
+  public String getColumnName(int pos) {
+    return row.getColumnName(pos);
+  }
+
+  @Override
+  public boolean isNull(int pos) {
+    return row.getValue(pos) == null;
+  }
+
+  @Override
+  public boolean getBoolean(int pos) {
+    Boolean val = row.getBoolean(pos);
+    if (val == null) {
+      return checkNull(pos, "boolean", false);
+    }
+    return val;
+  }
+
+  @Override
+  public int getInt(int pos) {
+    Long val = row.getLong(pos);
+    if (val == null) {
+      return checkNull(pos, "int", 0);
+    }
+    if (val != val.intValue()) {
+      throw new ClassCastException("Value " + val + " at column " + pos + " does not fit in an int");
+    }
+    return val.intValue();
+  }
+
+  @Override
+  public long getLong(int pos) {
+    Long val = row.getLong(pos);
+    if (val == null) {
+      return checkNull(pos, "long", 0L);
+    }
+    return val;
+  }
+
+  @Override
+  public double getDouble(int pos) {
+    Double val = row.getDouble(pos);
+    if (val == null) {
+      return checkNull(pos, "double", 0D);
+    }
+    return val;
+  }
+
+  @Override
+  public String getString(int pos) {
+    String val = row.getString(pos);
+    if (val == null) {
+      return checkNull(pos, "String", null);
+    }
+    return val;
+  }
+
+  /**
+   * @return the {@code defaultValue} when the value at {@code pos} is {@code NULL}
+   * @throws ClassCastException when the value cannot be converted to the {@code type}
+   */
+  private <T> T checkNull(int pos, String type, T defaultValue) {
+    Object val = row.getValue(pos);
+    if (val != null) {
+      throw new ClassCastException("Cannot convert " + val.getClass().getName() + " value at column " + pos + " to " + type);
+    }
+    return defaultValue;
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    return row.getValue(pos);
+  }
+}
@@ -18,6 +18,8 @@
 package io.vertx.sqlclient.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.Row;
 
 import java.util.function.BiConsumer;
@@ -26,6 +28,7 @@ import java.util.stream.Collector;
 public abstract class RowDecoder<C, R> {
 
   private final Collector<Row, C, R> collector;
+  private final Handler<ColumnCursor> visitor;
   private BiConsumer<C, Row> accumulator;
 
   private int size;
@@ -35,6 +38,7 @@ public abstract class RowDecoder<C, R> {
 
   protected RowDecoder(Collector<Row, C, R> collector) {
     this.collector = collector;
+    this.visitor = collector instanceof ColumnCursorCollector ? ((ColumnCursorCollector) collector).visitor : null;
 
     reset();
   }
@@ -45,10 +49,33 @@ public abstract class RowDecoder<C, R> {
 
   protected abstract Row decodeRow(int len, ByteBuf in);
 
+  /**
+   * Position a cursor on the row in the buffer without decoding its values, the cursor is only valid until
+   * the next row.
+   *
+   * @return the cursor or {@code null} when the row must be decoded with {@link #decodeRow(int, ByteBuf)}
+   */
+  protected ColumnCursor decodeCursor(int len, ByteBuf in) {
+    return null;
+  }
+
   public void handleRow(int len, ByteBuf in) {
     if (failure != null) {
       return;
     }
+    if (visitor != null) {
+      ColumnCursor cursor = decodeCursor(len, in);
+      if (cursor != null) {
+        try {
+          visitor.handle(cursor);
+        } catch (Exception e) {
+          failure = e;
+          return;
+        }
+        size++;
+        return;
+      }
+    }
     Row row = decodeRow(len, in);
     if (accumulator == null) {
       try {
@@ -17,7 +17,10 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
@@ -30,10 +33,11 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.impl.command.*;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 
 import java.util.ArrayDeque;
-import java.util.Deque;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -50,12 +54,19 @@ public abstract class SocketConnectionBase implements Connection {
 
   protected final PreparedStatementCache psCache;
   private final int preparedStatementCacheSqlLimit;
+  private PreparedStatementMetadataCache psMetadataCache;
   private final StringLongSequence psSeq = new StringLongSequence();
   private final ArrayDeque<CommandBase<?>> pending = new ArrayDeque<>();
   private final ContextInternal context;
   private int inflight;
   private Holder holder;
   private final int pipeliningLimit;
+  private boolean exclusive;
+  // the written commands are flushed by the caller
+  private boolean corked;
+  private SqlClientMetrics<?> metrics;
+  // end the metric of the commands in flight, in the order of their response
+  private final ArrayDeque<Handler<Boolean>> commandMetrics = new ArrayDeque<>();
 
   protected final NetSocketInternal socket;
   protected Status status = Status.CONNECTED;
@@ -77,6 +88,58 @@ public abstract class SocketConnectionBase implements Connection {
     return context;
   }
 
+  /**
+   * Set the cache of prepared statement metadata shared by the connections of a pool.
+   */
+  public void setPreparedStatementMetadataCache(PreparedStatementMetadataCache psMetadataCache) {
+    this.psMetadataCache = psMetadataCache;
+  }
+
+  /**
+   * Create a statement for this connection from the metadata of a statement prepared by another connection,
+   * the statement is then parsed on the server by the first command executing it.
+   *
+   * @param template the statement prepared by another connection
+   * @param cache the cache the {@code template} comes from, the template is removed from it when it is stale
+   * @param statement the statement id allocated by this connection, {@code 0} for an unnamed statement
+   * @return the statement or {@code null} when the protocol requires a prepare round trip
+   */
+  protected PreparedStatement adoptPreparedStatement(PreparedStatement template, PreparedStatementMetadataCache cache, long statement) {
+    return null;
+  }
+
+  /**
+   * @return the number of prepared statement cache lookups that found a statement on this connection
+   */
+  public long preparedStatementCacheHits() {
+    return psCache != null ? psCache.hits() : 0L;
+  }
+
+  /**
+   * @return the number of prepared statement cache lookups that did not find a statement on this connection
+   */
+  public long preparedStatementCacheMisses() {
+    return psCache != null ? psCache.misses() : 0L;
+  }
+
+  /**
+   * @return the number of prepared statements evicted from the cache of this connection
+   */
+  public long preparedStatementCacheEvictions() {
+    return psCache != null ? psCache.evictions() : 0L;
+  }
+
+  @Override
+  public void metrics(SqlClientMetrics<?> metrics) {
+    this.metrics = metrics;
+    socket.channelHandlerContext().pipeline().addFirst("metrics", new MetricsHandler(metrics));
+  }
+
+  @Override
+  public boolean isPrepared(String sql) {
+    return psCache != null && psCache.contains(sql);
+  }
+
   public void init() {
     socket.closeHandler(this::handleClosed);
     socket.exceptionHandler(this::handleException);
@@ -131,6 +194,26 @@ public abstract class SocketConnectionBase implements Connection {
     context.dispatch(null, v -> doSchedule(cmd, promise));
   }
 
+  @Override
+  public <R> boolean scheduleWithBegin(CommandBase<R> cmd, Promise<Void> begin, Promise<R> promise, Handler<AsyncResult<Void>> commit) {
+    context.dispatch(null, v -> doScheduleWithBegin(cmd, begin, promise));
+    return false;
+  }
+
+  /**
+   * Schedule the {@code BEGIN} of a transaction and its first command, both are written before a single flush.
+   */
+  private <R> void doScheduleWithBegin(CommandBase<R> cmd, Handler<AsyncResult<Void>> begin, Handler<AsyncResult<R>> handler) {
+    corked = true;
+    try {
+      doSchedule(TxCommand.BEGIN, begin);
+      doSchedule(cmd, handler);
+    } finally {
+      corked = false;
+      socket.channelHandlerContext().flush();
+    }
+  }
+
   private <R, T> void doSchedule(BiCommand<T, R> cmd, Handler<AsyncResult<R>> handler) {
     doSchedule(cmd.first, cr -> {
       if (cr.succeeded()) {
@@ -162,36 +245,61 @@ public abstract class SocketConnectionBase implements Connection {
     }
 
     // Special handling for cache
-    PreparedStatementCache psCache = this.psCache;
-    if (psCache != null && cmd instanceof PrepareStatementCommand) {
-      PrepareStatementCommand psCmd = (PrepareStatementCommand) cmd;
-      if (psCmd.sql().length() > preparedStatementCacheSqlLimit) {
-        // do not cache the statements
-        return;
-      }
-      CachedPreparedStatement cached = psCache.get(psCmd.sql());
-      Handler<AsyncResult<PreparedStatement>> orig = (Handler) handler;
-      if (cached != null) {
-        psCmd.handler = orig;
-        cached.get(psCmd::complete);
-        return;
-      } else {
-        if (psCache.size() >= psCache.getCapacity() && !psCache.isReady()) {
-          // only if the prepared statement is ready then it can be evicted
-        } else {
-          cached = new CachedPreparedStatement();
+    if (cmd instanceof PrepareStatementCommand) {
+      // the result of a prepare command is a prepared statement
+      @SuppressWarnings("unchecked")
+      Handler<AsyncResult<PreparedStatement>> psHandler = (Handler<AsyncResult<PreparedStatement>>) (Handler<?>) handler;
+      schedulePrepare((PrepareStatementCommand) cmd, psHandler);
+      return;
+    }
+
+    enqueue(cmd, handler);
+  }
+
+  private void schedulePrepare(PrepareStatementCommand psCmd, Handler<AsyncResult<PreparedStatement>> handler) {
+    // do not cache the statements exceeding the SQL limit
+    if (psCmd.sql().length() <= preparedStatementCacheSqlLimit) {
+      PreparedStatementCache psCache = this.psCache;
+      if (psCache != null) {
+        PreparedStatementCache.CachedPreparedStatement cached = psCache.get(psCmd.sql());
+        if (cached != null) {
+          psCmd.handler = handler;
+          cached.get(psCmd::complete);
+          return;
+        }
+        // only a prepared statement that is ready can be evicted
+        cached = psCache.create(psCmd.sql());
+        if (cached != null) {
           psCmd.statement = psSeq.next();
-          cached.get(orig);
-          psCache.put(psCmd.sql(), cached);
-          handler = (Handler) cached;
+          cached.get(handler);
+          handler = cached;
         }
       }
+      PreparedStatementMetadataCache psMetadataCache = this.psMetadataCache;
+      if (psMetadataCache != null) {
+        Handler<AsyncResult<PreparedStatement>> psHandler = handler;
+        PreparedStatement template = psMetadataCache.get(psCmd.sql());
+        if (template != null) {
+          PreparedStatement ps = adoptPreparedStatement(template, psMetadataCache, psCmd.statement);
+          if (ps != null) {
+            // skip the prepare round trip
+            psHandler.handle(Future.succeededFuture(ps));
+            return;
+          }
+        }
+        handler = ar -> {
+          if (ar.succeeded()) {
+            psMetadataCache.put(ar.result());
+          }
+          psHandler.handle(ar);
+        };
+      }
     }
+    enqueue(psCmd, handler);
+  }
 
-    //
+  private <R> void enqueue(CommandBase<R> cmd, Handler<AsyncResult<R>> handler) {
     cmd.handler = handler;
-
-    //
     if (status == Status.CONNECTED) {
       pending.add(cmd);
       checkPending();
@@ -200,47 +308,83 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
-  static class CachedPreparedStatement implements Handler<AsyncResult<PreparedStatement>> {
-
-    private final Deque<Handler<AsyncResult<PreparedStatement>>> waiters = new ArrayDeque<>();
-    AsyncResult<PreparedStatement> resp;
-
-    void get(Handler<AsyncResult<PreparedStatement>> handler) {
-      if (resp != null) {
-        handler.handle(resp);
-      } else {
-        waiters.add(handler);
-      }
-    }
-
-    @Override
-    public void handle(AsyncResult<PreparedStatement> event) {
-      resp = event;
-      Handler<AsyncResult<PreparedStatement>> waiter;
-      while ((waiter = waiters.poll()) != null) {
-        waiter.handle(resp);
-      }
-    }
+  /**
+   * Whether the command can be written while other commands are in flight, a command that is not pipelinable
+   * is written after the responses of the in flight commands and nothing else is written until its response.
+   */
+  protected boolean isPipelinable(CommandBase<?> cmd) {
+    return true;
   }
 
   private void checkPending() {
     ChannelHandlerContext ctx = socket.channelHandlerContext();
-    if (inflight < pipeliningLimit) {
+    if (inflight < pipeliningLimit && !exclusive) {
       CommandBase<?> cmd;
-      while (inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
+      while (inflight < pipeliningLimit && !exclusive && (cmd = pending.peek()) != null) {
+        if (pipeliningLimit > 1 && !isPipelinable(cmd)) {
+          if (inflight > 0) {
+            break;
+          }
+          exclusive = true;
+        }
+        pending.poll();
         inflight++;
+        if (metrics != null) {
+          commandBegin(metrics, cmd);
+        }
         ctx.write(cmd);
       }
-      ctx.flush();
+      if (!corked) {
+        ctx.flush();
+      }
+    }
+  }
+
+  private <M> void commandBegin(SqlClientMetrics<M> metrics, CommandBase<?> cmd) {
+    M metric = metrics.commandBegin(inflight);
+    commandMetrics.add(succeeded -> metrics.commandEnd(metric, succeeded));
+    if (cmd instanceof QueryCommandBase<?>) {
+      countRows((QueryCommandBase<?>) cmd);
+    }
+  }
+
+  private <T> void countRows(QueryCommandBase<T> cmd) {
+    SqlClientMetrics<?> metrics = this.metrics;
+    cmd.decorateResultHandler(handler -> new QueryResultHandler<T>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+        handler.addProperty(property, value);
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, T result, Throwable failure) {
+        metrics.rowsDecoded(size);
+        handler.handleResult(updatedCount, size, desc, result, failure);
+      }
+    });
+  }
+
+  private void commandEnd(boolean succeeded) {
+    Handler<Boolean> end = commandMetrics.poll();
+    if (end != null) {
+      end.handle(succeeded);
     }
   }
 
   protected void handleMessage(Object msg) {
     if (msg instanceof CommandResponse) {
+      if (metrics != null) {
+        commandEnd(((CommandResponse<?>) msg).toAsyncResult().succeeded());
+      }
       inflight--;
+      // a non pipelinable command is the only command in flight
+      exclusive = false;
       checkPending();
       CommandResponse resp =(CommandResponse) msg;
       resp.fire();
+    } else if (msg instanceof StalePreparedStatement) {
+      if (psCache != null) {
+        psCache.remove(((StalePreparedStatement) msg).statement);
+      }
     }
   }
 
@@ -272,6 +416,11 @@ public abstract class SocketConnectionBase implements Connection {
           }
         }
       }
+      if (metrics != null) {
+        while (commandMetrics.size() > 0) {
+          commandEnd(false);
+        }
+      }
       Throwable cause = t == null ? new VertxException("closed") : t;
       CommandBase<?> cmd;
       while ((cmd = pending.poll()) != null) {
@@ -283,4 +432,32 @@ public abstract class SocketConnectionBase implements Connection {
       }
     }
   }
+
+  /**
+   * Count the bytes read and written by the connection.
+   */
+  private static class MetricsHandler extends ChannelDuplexHandler {
+
+    private final SqlClientMetrics<?> metrics;
+
+    MetricsHandler(SqlClientMetrics<?> metrics) {
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (msg instanceof ByteBuf) {
+        metrics.bytesRead(((ByteBuf) msg).readableBytes());
+      }
+      ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      if (msg instanceof ByteBuf) {
+        metrics.bytesWritten(((ByteBuf) msg).readableBytes());
+      }
+      ctx.write(msg, promise);
+    }
+  }
 }
@@ -24,6 +24,7 @@ import io.vertx.sqlclient.impl.command.ExtendedBatchQueryCommand;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import io.vertx.sqlclient.ColumnCursor;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Row;
@@ -102,6 +103,18 @@ public abstract class SqlClientBase<C extends SqlClient> implements SqlClient, C
     return promise.future();
   }
 
+  @Override
+  public C preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor, Handler<AsyncResult<SqlResult<Void>>> handler) {
+    return preparedQuery(sql, (TupleInternal)arguments, SqlResultImpl::new, new ColumnCursorCollector(visitor), promise(handler));
+  }
+
+  @Override
+  public Future<SqlResult<Void>> preparedScan(String sql, Tuple arguments, Handler<ColumnCursor> visitor) {
+    Promise<SqlResult<Void>> promise = promise();
+    preparedQuery(sql, (TupleInternal)arguments, SqlResultImpl::new, new ColumnCursorCollector(visitor), promise);
+    return promise.future();
+  }
+
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> C preparedQuery(
     String sql,
     TupleInternal arguments,
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+/**
+ * Sent by a codec when the metadata of a {@code statement} does not match the description of the server anymore,
+ * e.g the schema changed, the statement is evicted from the prepared statement cache of the connection.
+ */
+public class StalePreparedStatement {
+
+  public final PreparedStatement statement;
+
+  public StalePreparedStatement(PreparedStatement statement) {
+    this.statement = statement;
+  }
+}
@@ -41,12 +41,21 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   private Deque<ScheduledCommand<?>> pending = new ArrayDeque<>();
   private Handler<Void> failedHandler;
   private int status = ST_BEGIN;
+  private boolean pipelined;
+  // number of statements sent whose response has not been received
+  private int inflight;
+  // a statement has failed, the transaction is rolled back
+  private boolean aborted;
+  // the failure of the BEGIN, the transaction has not begun
+  private Throwable beginFailure;
+  private boolean disposed;
+  // the BEGIN is sent with the first statement at the end of the task scheduling it
+  private boolean beginScheduled;
+  private boolean started;
 
   TransactionImpl(ContextInternal context, Connection conn, Handler<Void> disposeHandler) {
     super(context, conn);
     this.disposeHandler = disposeHandler;
-    ScheduledCommand<Void> b = doQuery(TxCommand.BEGIN, context.promise(this::afterBegin));
-    doSchedule(b.cmd, b.handler);
   }
 
   static class ScheduledCommand<R> {
@@ -74,47 +83,87 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
 
   private synchronized void afterBegin(AsyncResult<?> ar) {
     if (ar.succeeded()) {
-      status = ST_PENDING;
+      if (status == ST_BEGIN) {
+        status = inflight > 0 ? ST_PROCESSING : ST_PENDING;
+      }
     } else {
+      // the transaction has not begun, the statements fail with the failure of the BEGIN, including the statement
+      // sent with it which has been executed outside of a transaction
       status = ST_COMPLETED;
+      aborted = true;
+      beginFailure = ar.cause();
+      ScheduledCommand<?> cmd;
+      while ((cmd = pending.poll()) != null) {
+        cmd.handler.handle(Future.failedFuture(beginFailure));
+      }
+      Handler<Void> h = failedHandler;
+      if (h != null) {
+        context.runOnContext(h);
+      }
+      dispose();
     }
     checkPending();
   }
 
+  private void dispose() {
+    synchronized (this) {
+      if (disposed) {
+        return;
+      }
+      disposed = true;
+    }
+    disposeHandler.handle(null);
+  }
+
   private boolean isComplete(CommandBase<?> cmd) {
     if (cmd instanceof QueryCommandBase<?>) {
-      String sql = ((QueryCommandBase) cmd).sql().trim();
+      String sql = ((QueryCommandBase<?>) cmd).sql().trim();
       return sql.equalsIgnoreCase("COMMIT") || sql.equalsIgnoreCase("ROLLBACK");
     }
     return false;
   }
 
+  /**
+   * @return whether the command must be sent after the response of the statements in flight
+   */
+  private boolean isBarrier(CommandBase<?> cmd) {
+    // the transaction can only be committed when none of its statements has failed
+    return cmd instanceof TxCommand || isComplete(cmd);
+  }
+
   private synchronized void checkPending() {
     switch (status) {
       case ST_BEGIN:
+        // the following statements are sent after the response of the BEGIN, they would not be part
+        // of the transaction if the BEGIN failed
+        if (!started && !beginScheduled && pending.size() > 0) {
+          beginScheduled = true;
+          // defer the BEGIN to the end of the current task, a COMMIT scheduled meanwhile can be sent with it
+          context.runOnContext(v -> begin());
+        }
         break;
       case ST_PENDING: {
+        if (pipelined) {
+          sendPipelined();
+          break;
+        }
         ScheduledCommand<?> cmd = pending.poll();
         if (cmd != null) {
-          Handler h = cmd.handler;
-          if (isComplete(cmd.cmd)) {
-            status = ST_COMPLETED;
-          } else {
-            h = wrap(h);
-            status = ST_PROCESSING;
-          }
-          doSchedule(cmd.cmd, h);
+          send(cmd);
         }
         break;
       }
       case ST_PROCESSING:
+        if (pipelined) {
+          sendPipelined();
+        }
         break;
       case ST_COMPLETED: {
         if (pending.size() > 0) {
           VertxException err = new VertxException("Transaction already completed");
           ScheduledCommand<?> cmd;
           while ((cmd = pending.poll()) != null) {
-            cmd.cmd.fail(err);
+            cmd.handler.handle(Future.failedFuture(err));
           }
         }
         break;
@@ -122,6 +171,62 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     }
   }
 
+  private synchronized void begin() {
+    ScheduledCommand<?> first = pending.poll();
+    if (first == null) {
+      // the transaction was completed meanwhile
+      return;
+    }
+    started = true;
+    Promise<Void> begin = context.promise(this::afterBegin);
+    ScheduledCommand<?> next = pending.peek();
+    Handler<AsyncResult<Void>> commit = null;
+    if (next != null && next.cmd == TxCommand.COMMIT && first.cmd instanceof QueryCommandBase<?> && !isComplete(first.cmd)) {
+      commit = ar -> next.handler.handle(ar.mapEmpty());
+    }
+    if (send(first, begin, commit)) {
+      pending.poll();
+      status = ST_COMPLETED;
+    }
+    checkPending();
+  }
+
+  private void sendPipelined() {
+    ScheduledCommand<?> cmd;
+    while ((cmd = pending.peek()) != null && !(inflight > 0 && isBarrier(cmd.cmd))) {
+      pending.poll();
+      send(cmd);
+    }
+  }
+
+  private <R> void send(ScheduledCommand<R> cmd) {
+    send(cmd, null, null);
+  }
+
+  /**
+   * Send a command, the first command of the transaction is sent with the {@code begin} and possibly with the
+   * {@code commit} of the transaction.
+   *
+   * @return whether the {@code commit} was sent with the command
+   */
+  private <R> boolean send(ScheduledCommand<R> cmd, Promise<Void> begin, Handler<AsyncResult<Void>> commit) {
+    Handler<AsyncResult<R>> h = cmd.handler;
+    if (isComplete(cmd.cmd)) {
+      status = ST_COMPLETED;
+    } else {
+      h = wrap(h);
+      inflight++;
+      if (status != ST_BEGIN) {
+        status = ST_PROCESSING;
+      }
+    }
+    if (begin != null) {
+      return conn.scheduleWithBegin(cmd.cmd, begin, context.promise(h), commit);
+    }
+    doSchedule(cmd.cmd, h);
+    return false;
+  }
+
   @Override
   public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
     schedule__(cmd, handler);
@@ -141,8 +246,21 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   private <T> Handler<AsyncResult<T>> wrap(Handler<AsyncResult<T>> handler) {
     return ar -> {
       synchronized (TransactionImpl.this) {
-        status = ST_PENDING;
+        if (--inflight == 0 && status == ST_PROCESSING) {
+          status = ST_PENDING;
+        }
+        if (aborted) {
+          if (beginFailure != null) {
+            handler.handle(Future.failedFuture(beginFailure));
+          } else {
+            // a statement sent before the failure of a previous statement is rolled back
+            handler.handle(Future.failedFuture("Rollback exception"));
+          }
+          checkPending();
+          return;
+        }
         if (ar.failed()) {
+          aborted = true;
           // We won't recover from this so rollback
           ScheduledCommand<?> c;
           while ((c = pending.poll()) != null) {
@@ -152,10 +270,16 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
           if (h != null) {
             context.runOnContext(h);
           }
-          schedule__(doQuery(TxCommand.ROLLBACK, context.promise(ar2 -> {
-            disposeHandler.handle(null);
+          ScheduledCommand<Void> rollback = doQuery(TxCommand.ROLLBACK, context.promise(ar2 -> {
+            dispose();
             handler.handle(ar);
-          })));
+          }));
+          if (status == ST_COMPLETED) {
+            // the COMMIT was sent with the statement, the transaction is aborted
+            doSchedule(rollback.cmd, rollback.handler);
+          } else {
+            schedule__(rollback);
+          }
         } else {
           handler.handle(ar);
           checkPending();
@@ -166,6 +290,14 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
 
   @Override
   public Future<Void> commit() {
+    synchronized (this) {
+      if (!beginScheduled && status != ST_COMPLETED) {
+        // nothing to commit
+        status = ST_COMPLETED;
+        dispose();
+        return context.succeededFuture();
+      }
+    }
     switch (status) {
       case ST_BEGIN:
       case ST_PENDING:
@@ -173,7 +305,7 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
         Promise<Void> promise = context.promise();
         schedule__(doQuery(TxCommand.COMMIT, promise));
         Future<Void> fut = promise.future();
-        fut.onComplete(ar -> disposeHandler.handle(null));
+        fut.onComplete(ar -> dispose());
         return fut.mapEmpty();
       case ST_COMPLETED:
         return context.failedFuture("Transaction already completed");
@@ -191,13 +323,21 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
 
   @Override
   public Future<Void> rollback() {
+    synchronized (this) {
+      if (!beginScheduled && status != ST_COMPLETED) {
+        // nothing to rollback
+        status = ST_COMPLETED;
+        dispose();
+        return context.succeededFuture();
+      }
+    }
     if (status == ST_COMPLETED) {
       return context.failedFuture("Transaction already completed");
     } else {
       Promise<Void> promise = context.promise();
       schedule__(doQuery(TxCommand.ROLLBACK, promise));
       Future<Void> fut = promise.future().mapEmpty();
-      fut.onComplete(ar -> disposeHandler.handle(null));
+      fut.onComplete(ar -> dispose());
       return fut;
     }
   }
@@ -220,6 +360,12 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     return this;
   }
 
+  @Override
+  public synchronized io.vertx.sqlclient.Transaction pipelined(boolean pipelined) {
+    this.pipelined = pipelined;
+    return this;
+  }
+
   private ScheduledCommand<Void> doQuery(TxCommand cmd, Promise<Void> handler) {
     return new ScheduledCommand<>(cmd, handler);
   }
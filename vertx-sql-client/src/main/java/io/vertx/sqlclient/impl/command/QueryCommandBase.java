@@ -21,6 +21,7 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collector;
 
 /**
@@ -31,7 +32,7 @@ public abstract class QueryCommandBase<T> extends CommandBase<Boolean> {
 
   public static final Collector<Row, Void, Void> NULL_COLLECTOR = Collector.of(() -> null, (v,row) -> {}, (v1, v2) -> null, Function.identity());
 
-  private final QueryResultHandler<T> resultHandler;
+  private QueryResultHandler<T> resultHandler;
   private final Collector<Row, ?, T> collector;
   private final boolean autoCommit;
 
@@ -44,6 +45,13 @@ public abstract class QueryCommandBase<T> extends CommandBase<Boolean> {
   public QueryResultHandler<T> resultHandler() {
     return resultHandler;
   }
+
+  /**
+   * Decorate the result handler of this command, this must be called before the command is encoded.
+   */
+  public void decorateResultHandler(UnaryOperator<QueryResultHandler<T>> decorator) {
+    resultHandler = decorator.apply(resultHandler);
+  }
   
   public boolean autoCommit() {
     return autoCommit;
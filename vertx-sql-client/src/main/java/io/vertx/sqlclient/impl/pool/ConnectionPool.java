@@ -19,21 +19,38 @@ package io.vertx.sqlclient.impl.pool;
 
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.WaitQueueOrder;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 import io.vertx.core.*;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.LongSupplier;
 
 /**
+ * Idle connections are evicted after the idle timeout or the max lifetime and validated after the validation interval,
+ * the deadlines of the idle connections are tracked by a single {@link TimerWheel} advanced by a periodic timer.
+ * The same timer opens connections in the background until the pool holds the min idle connections
+ * and fails the waiters whose acquire timeout is reached.
+ *
+ * Waiters are served in {@link WaitQueueOrder FIFO or LIFO} order, when the wait queue is full
+ * the waiter that would be served last is rejected.
+ *
+ * A waiter acquiring a connection to execute a prepared statement is preferably served an idle connection
+ * which has already prepared it, see {@link Connection#isPrepared(String)}.
+ *
+ * The wait queue, the connections and their commands are reported to the {@link SqlClientMetrics} of the pool.
+ *
  * Todo :
  *
- * - handle timeout when acquiring a connection
  * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -42,12 +59,28 @@ public class ConnectionPool {
 
   private final ConnectionFactory connector;
   private final ContextInternal context;
+  private final SqlClientMetrics<?> metrics;
   private final int maxSize;
-  private final ArrayDeque<Handler<AsyncResult<Connection>>> waiters = new ArrayDeque<>();
+  private final WaitQueue<Waiter> waiters = new WaitQueue<>();
   private final Set<PooledConnection> all = new HashSet<>();
   private final ArrayDeque<PooledConnection> available = new ArrayDeque<>();
-  private int size;
+  private volatile int idle;
+  private volatile int size;
   private final int maxWaitQueueSize;
+  private final boolean lifo;
+  private final long acquireTimeout;
+  private final int minIdle;
+  private final List<Future<Connection>> warming = new ArrayList<>();
+  private boolean warmingFailed;
+  private final long idleTimeout;
+  private final long maxLifetime;
+  private final long validationInterval;
+  private final LongSupplier clock;
+  private final boolean evicting;
+  private final int cleanerPeriod;
+  private final TimerWheel cleaner;
+  private boolean cleanerStarted;
+  private long cleanerTimerId = -1;
   private boolean checkInProgress;
   private boolean closed;
 
@@ -60,44 +93,306 @@ public class ConnectionPool {
   }
 
   public ConnectionPool(ConnectionFactory connector, Context context, int maxSize, int maxWaitQueueSize) {
+    this(connector, context, new PoolOptions().setMaxSize(Math.max(0, maxSize)).setMaxWaitQueueSize(maxWaitQueueSize));
+  }
+
+  public ConnectionPool(ConnectionFactory connector, Context context, PoolOptions options) {
+    this(connector, context, options, (SqlClientMetrics<?>) null);
+  }
+
+  public ConnectionPool(ConnectionFactory connector, Context context, PoolOptions options, SqlClientMetrics<?> metrics) {
+    this(connector, context, options, metrics, monotonicClock());
+  }
+
+  ConnectionPool(ConnectionFactory connector, Context context, PoolOptions options, LongSupplier clock) {
+    this(connector, context, options, null, clock);
+  }
+
+  ConnectionPool(ConnectionFactory connector, Context context, PoolOptions options, SqlClientMetrics<?> metrics, LongSupplier clock) {
     Objects.requireNonNull(connector, "No null connector");
-    if (maxSize < 1) {
+    if (options.getMaxSize() < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
-    this.maxSize = maxSize;
+    this.maxSize = options.getMaxSize();
     this.context = (ContextInternal) context;
-    this.maxWaitQueueSize = maxWaitQueueSize;
+    this.maxWaitQueueSize = options.getMaxWaitQueueSize();
+    this.lifo = options.getWaitQueueOrder() == WaitQueueOrder.LIFO;
+    this.acquireTimeout = options.getAcquireTimeoutUnit().toMillis(options.getAcquireTimeout());
+    this.minIdle = options.getMinIdle();
     this.connector = connector;
+    this.metrics = metrics;
+    this.idleTimeout = options.getIdleTimeoutUnit().toMillis(options.getIdleTimeout());
+    this.maxLifetime = options.getMaxLifetimeUnit().toMillis(options.getMaxLifetime());
+    this.validationInterval = options.getValidationIntervalUnit().toMillis(options.getValidationInterval());
+    this.clock = clock;
+    this.evicting = idleTimeout > 0 || maxLifetime > 0 || validationInterval > 0;
+    this.cleanerPeriod = options.getPoolCleanerPeriod();
+    this.cleaner = new TimerWheel(cleanerPeriod, 512, clock.getAsLong());
+    if (evicting || minIdle > 0 || acquireTimeout > 0) {
+      startCleaner();
+    }
+  }
+
+  private static LongSupplier monotonicClock() {
+    long origin = System.nanoTime();
+    return () -> (System.nanoTime() - origin) / 1_000_000;
+  }
+
+  private void startCleaner() {
+    if (context == null || cleanerStarted) {
+      return;
+    }
+    cleanerStarted = true;
+    context.runOnContext(v -> {
+      if (!closed) {
+        cleanerTimerId = context.owner().setPeriodic(cleanerPeriod, id -> runCleaner());
+        fillIdle();
+      }
+    });
+  }
+
+  /**
+   * Fail the waiters whose acquire timeout is reached, evict or validate the idle connections whose deadline is reached
+   * and top up the min idle connections, this is called periodically by the pool cleaner timer.
+   */
+  void runCleaner() {
+    if (closed) {
+      return;
+    }
+    cleaner.advance(clock.getAsLong());
+    // Retry after a connection failure of the previous period
+    warmingFailed = false;
+    fillIdle();
+  }
+
+  /**
+   * Open connections in parallel until the pool holds the min idle connections.
+   *
+   * @return a future completed when the connections being opened for the min idle connections are established,
+   *         it fails when one of them cannot be established
+   */
+  public Future<Void> warmUp() {
+    Promise<Void> promise = context != null ? context.promise() : Promise.promise();
+    if (context != null) {
+      context.dispatch(promise, this::doWarmUp);
+    } else {
+      doWarmUp(promise);
+    }
+    return promise.future();
+  }
+
+  private void doWarmUp(Promise<Void> promise) {
+    if (closed) {
+      promise.fail(new IllegalStateException("Connection pool closed"));
+      return;
+    }
+    warmingFailed = false;
+    fillIdle();
+    CompositeFuture.all(new ArrayList<>(warming)).<Void>mapEmpty().onComplete(promise);
+  }
+
+  private void fillIdle() {
+    if (closed || warmingFailed) {
+      return;
+    }
+    int num = Math.min(minIdle - available.size() - warming.size(), maxSize - size);
+    while (num-- > 0) {
+      size++;
+      Future<Connection> fut = connect();
+      warming.add(fut);
+      fut.onComplete(ar -> {
+        warming.remove(fut);
+        if (ar.succeeded()) {
+          Connection conn = ar.result();
+          PooledConnection proxy = new PooledConnection(conn, clock.getAsLong());
+          all.add(proxy);
+          conn.init(proxy);
+          if (closed) {
+            proxy.close();
+          } else {
+            release(proxy);
+          }
+        } else {
+          size--;
+          // Do not retry before the next cleaner period
+          warmingFailed = true;
+          check();
+        }
+      });
+    }
+  }
+
+  private Future<Connection> connect() {
+    Future<Connection> fut = context != null ? connector.connect(context) : connector.connect();
+    if (metrics != null) {
+      long start = System.nanoTime();
+      // called before the connection is handed to the pool
+      fut.onComplete(ar -> {
+        metrics.connectionCreated(System.nanoTime() - start, ar.succeeded());
+        if (ar.succeeded()) {
+          ar.result().metrics(metrics);
+        }
+      });
+    }
+    return fut;
   }
 
   public int available() {
     return available.size();
   }
 
+  /**
+   * @return whether the pool had an idle connection the last time it was checked, this can be called from any thread
+   */
+  boolean hasIdle() {
+    return idle > 0;
+  }
+
+  /**
+   * @return whether the pool can serve a request without waiting, this can be called from any thread
+   */
+  boolean hasCapacity() {
+    return idle > 0 || size < maxSize;
+  }
+
   public int size() {
     return size;
   }
 
+  /**
+   * @return the acquire timeout of the pool in milliseconds
+   */
+  long acquireTimeout() {
+    return acquireTimeout;
+  }
+
   public void acquire(Handler<AsyncResult<Connection>> waiter) {
+    acquire(waiter, acquireTimeout);
+  }
+
+  /**
+   * Acquire a connection, the {@code waiter} fails when it does not get a connection before the {@code timeout},
+   * the resolution of the timeout is the pool cleaner period.
+   *
+   * @param waiter the waiter
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   */
+  public void acquire(Handler<AsyncResult<Connection>> waiter, long timeout) {
+    acquire(waiter, timeout, null);
+  }
+
+  /**
+   * Like {@link #acquire(Handler, long)} to execute the prepared statement of the {@code sql}.
+   *
+   * @param waiter the waiter
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param sql the SQL of the statement, an idle connection which has already prepared it is preferred
+   */
+  public void acquire(Handler<AsyncResult<Connection>> waiter, long timeout, String sql) {
     if (context != null) {
-      context.dispatch(waiter, this::doAcquire);
+      context.dispatch(waiter, w -> doAcquire(w, timeout, sql));
+    } else {
+      doAcquire(waiter, timeout, sql);
+    }
+  }
+
+  /**
+   * Take an idle connection from this pool, when none is available the {@code waiter} acquires
+   * a connection from the {@code fallback} pool instead.
+   *
+   * @param waiter the waiter
+   * @param fallback the pool to acquire from when this pool has no idle connection
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param sql the SQL of the prepared statement to execute or {@code null}
+   */
+  void steal(Handler<AsyncResult<Connection>> waiter, ConnectionPool fallback, long timeout, String sql) {
+    if (context != null) {
+      context.dispatch(waiter, w -> doSteal(w, fallback, timeout, sql));
+    } else {
+      doSteal(waiter, fallback, timeout, sql);
+    }
+  }
+
+  private void doSteal(Handler<AsyncResult<Connection>> waiter, ConnectionPool fallback, long timeout, String sql) {
+    PooledConnection proxy = closed ? null : pollAvailable(sql);
+    if (proxy != null) {
+      waiter.handle(Future.succeededFuture(proxy));
     } else {
-      doAcquire(waiter);
+      fallback.acquire(waiter, timeout, sql);
     }
   }
 
-  private void doAcquire(Handler<AsyncResult<Connection>> waiter) {
+  private void doAcquire(Handler<AsyncResult<Connection>> handler, long timeout, String sql) {
     if (closed) {
       IllegalStateException err = new IllegalStateException("Connection pool closed");
       if (context != null) {
-        waiter.handle(context.failedFuture(err));
+        handler.handle(context.failedFuture(err));
       } else {
-        waiter.handle(Future.failedFuture(err));
+        handler.handle(Future.failedFuture(err));
       }
       return;
     }
+    Waiter waiter = new Waiter(handler, sql);
     waiters.add(waiter);
+    if (metrics != null) {
+      metrics.waiterEnqueued();
+    }
     check();
+    // The deadline is only tracked when the waiter is not served immediately
+    if (timeout > 0 && !waiter.done) {
+      startCleaner();
+      cleaner.schedule(waiter, clock.getAsLong() + timeout);
+    }
+  }
+
+  /**
+   * A request waiting for a connection, it stays scheduled in the cleaner until it gets a connection
+   * which includes the time spent connecting a new connection for it.
+   */
+  private class Waiter extends WaitQueue.Node {
+
+    private final Handler<AsyncResult<Connection>> handler;
+    private final String sql;
+    private final long enqueuedAt;
+    private boolean done;
+
+    Waiter(Handler<AsyncResult<Connection>> handler, String sql) {
+      this.handler = handler;
+      this.sql = sql;
+      this.enqueuedAt = metrics != null ? System.nanoTime() : 0L;
+    }
+
+    private void dequeued(boolean acquired) {
+      if (metrics != null) {
+        metrics.waiterDequeued(System.nanoTime() - enqueuedAt, acquired);
+      }
+    }
+
+    /**
+     * Complete the waiter unless it has already timed out.
+     *
+     * @return whether the waiter was completed
+     */
+    boolean complete(AsyncResult<Connection> result) {
+      if (done) {
+        return false;
+      }
+      done = true;
+      cleaner.cancel(this);
+      dequeued(result.succeeded());
+      handler.handle(result);
+      return true;
+    }
+
+    @Override
+    protected void expire(long now) {
+      waiters.remove(this);
+      if (!done) {
+        done = true;
+        dequeued(false);
+        handler.handle(Future.failedFuture("Timeout while waiting for a connection"));
+      }
+    }
   }
 
   public void close() {
@@ -105,25 +400,89 @@ public class ConnectionPool {
       throw new IllegalStateException("Connection pool already closed");
     }
     closed = true;
+    if (cleanerTimerId >= 0) {
+      context.owner().cancelTimer(cleanerTimerId);
+    }
     for (PooledConnection pooled : new ArrayList<>(all)) {
       pooled.close();
     }
     Future<Connection> failure = Future.failedFuture("Connection pool closed");
-    for (Handler<AsyncResult<Connection>> pending : waiters) {
+    Waiter pending;
+    while ((pending = waiters.pollOldest()) != null) {
       try {
-        pending.handle(failure);
+        pending.complete(failure);
       } catch (Exception ignore) {
       }
     }
   }
 
-  private class PooledConnection implements Connection, Connection.Holder  {
+  private class PooledConnection extends TimerWheel.Timeout implements Connection, Connection.Holder  {
 
     private final Connection conn;
+    private final long createdAt;
+    private long idleSince;
+    private long validatedAt;
     private Holder holder;
+    // reported to the metrics as in use
+    private boolean inUse;
 
-    PooledConnection(Connection conn) {
+    PooledConnection(Connection conn, long now) {
       this.conn = conn;
+      this.createdAt = now;
+      this.validatedAt = now;
+    }
+
+    private boolean isLifetimeExpired(long now) {
+      return maxLifetime > 0 && now - createdAt >= maxLifetime;
+    }
+
+    private boolean isIdleExpired(long now) {
+      return idleTimeout > 0 && now - idleSince >= idleTimeout;
+    }
+
+    private boolean isValidationDue(long now) {
+      return validationInterval > 0 && now - Math.max(idleSince, validatedAt) >= validationInterval;
+    }
+
+    private long nextDeadline(long now) {
+      long deadline = Long.MAX_VALUE;
+      if (idleTimeout > 0) {
+        long idleDeadline = idleSince + idleTimeout;
+        // Check again later a connection kept for the min idle connections
+        deadline = Math.min(deadline, idleDeadline > now ? idleDeadline : now + idleTimeout);
+      }
+      if (maxLifetime > 0) {
+        deadline = Math.min(deadline, createdAt + maxLifetime);
+      }
+      if (validationInterval > 0) {
+        deadline = Math.min(deadline, Math.max(idleSince, validatedAt) + validationInterval);
+      }
+      return deadline;
+    }
+
+    @Override
+    protected void expire(long now) {
+      if (isLifetimeExpired(now) || (isIdleExpired(now) && available.size() > minIdle)) {
+        removeAvailable(this);
+        close();
+      } else if (isValidationDue(now)) {
+        removeAvailable(this);
+        validate(connector.createValidationCommand());
+      } else {
+        cleaner.schedule(this, nextDeadline(now));
+      }
+    }
+
+    private <R> void validate(CommandBase<R> cmd) {
+      Promise<R> promise = Promise.promise();
+      promise.future().onComplete(ar -> {
+        if (ar.succeeded()) {
+          validated(this);
+        } else if (all.contains(this)) {
+          close();
+        }
+      });
+      conn.schedule(cmd, promise);
     }
 
     @Override
@@ -136,6 +495,11 @@ public class ConnectionPool {
       conn.schedule(cmd, handler);
     }
 
+    @Override
+    public <R> boolean scheduleWithBegin(CommandBase<R> cmd, Promise<Void> begin, Promise<R> handler, Handler<AsyncResult<Void>> commit) {
+      return conn.scheduleWithBegin(cmd, begin, handler, commit);
+    }
+
     /**
      * Close the underlying connection
      */
@@ -149,6 +513,17 @@ public class ConnectionPool {
         throw new IllegalStateException();
       }
       this.holder = holder;
+      if (metrics != null) {
+        inUse = true;
+        metrics.connectionAcquired();
+      }
+    }
+
+    private void released() {
+      if (inUse) {
+        inUse = false;
+        metrics.connectionReleased();
+      }
     }
 
     @Override
@@ -157,15 +532,24 @@ public class ConnectionPool {
         throw new IllegalStateException();
       }
       this.holder = null;
-      release(this);
+      released();
+      if (context != null) {
+        context.dispatch(this, ConnectionPool.this::release);
+      } else {
+        release(this);
+      }
     }
 
     @Override
     public void handleClosed() {
       if (all.remove(this)) {
         size--;
+        if (metrics != null) {
+          metrics.connectionClosed();
+          released();
+        }
         if (holder == null) {
-          available.remove(this);
+          removeAvailable(this);
         } else {
           holder.handleClosed();
         }
@@ -198,15 +582,90 @@ public class ConnectionPool {
     public int getSecretKey() {
       return conn.getSecretKey();
     }
+
+    @Override
+    public boolean isPrepared(String sql) {
+      return conn.isPrepared(sql);
+    }
+
+    @Override
+    public void metrics(SqlClientMetrics<?> metrics) {
+      conn.metrics(metrics);
+    }
   }
 
   private void release(PooledConnection proxy) {
     if (all.contains(proxy)) {
-      available.add(proxy);
+      long now = clock.getAsLong();
+      if (proxy.isLifetimeExpired(now)) {
+        proxy.close();
+      } else {
+        proxy.idleSince = now;
+        addAvailable(proxy);
+        check();
+      }
+    }
+  }
+
+  private void validated(PooledConnection proxy) {
+    if (all.contains(proxy)) {
+      proxy.validatedAt = clock.getAsLong();
+      addAvailable(proxy);
       check();
     }
   }
 
+  private void addAvailable(PooledConnection proxy) {
+    available.add(proxy);
+    idle = available.size();
+    if (evicting) {
+      cleaner.schedule(proxy, proxy.nextDeadline(clock.getAsLong()));
+    }
+  }
+
+  private PooledConnection pollAvailable() {
+    PooledConnection proxy = available.poll();
+    if (proxy != null) {
+      idle = available.size();
+      if (evicting) {
+        cleaner.cancel(proxy);
+      }
+    }
+    return proxy;
+  }
+
+  /**
+   * Poll an idle connection which has already prepared the {@code sql}, otherwise the least recently released one.
+   */
+  private PooledConnection pollAvailable(String sql) {
+    if (sql != null) {
+      for (Iterator<PooledConnection> it = available.iterator();it.hasNext();) {
+        PooledConnection proxy = it.next();
+        if (proxy.isPrepared(sql)) {
+          it.remove();
+          idle = available.size();
+          if (evicting) {
+            cleaner.cancel(proxy);
+          }
+          return proxy;
+        }
+      }
+    }
+    return pollAvailable();
+  }
+
+  private void removeAvailable(PooledConnection proxy) {
+    available.remove(proxy);
+    idle = available.size();
+    if (evicting) {
+      cleaner.cancel(proxy);
+    }
+  }
+
+  private Waiter pollWaiter() {
+    return lifo ? waiters.pollNewest() : waiters.pollOldest();
+  }
+
   private void check() {
     if (closed) {
       return;
@@ -216,23 +675,31 @@ public class ConnectionPool {
       try {
         while (waiters.size() > 0) {
           if (available.size() > 0) {
-            PooledConnection proxy = available.poll();
-            Handler<AsyncResult<Connection>> waiter = waiters.poll();
-            waiter.handle(Future.succeededFuture(proxy));
+            Waiter waiter = pollWaiter();
+            PooledConnection proxy = pollAvailable(waiter.sql);
+            waiter.complete(Future.succeededFuture(proxy));
           } else {
             if (size < maxSize) {
-              Handler<AsyncResult<Connection>> waiter = waiters.poll();
+              Waiter waiter = pollWaiter();
               size++;
-              connector.connect().onComplete(ar -> {
+              Future<Connection> fut = connect();
+              fut.onComplete(ar -> {
                 if (ar.succeeded()) {
                   Connection conn = ar.result();
-                  PooledConnection proxy = new PooledConnection(conn);
+                  PooledConnection proxy = new PooledConnection(conn, clock.getAsLong());
                   all.add(proxy);
                   conn.init(proxy);
-                  waiter.handle(Future.succeededFuture(proxy));
+                  if (!waiter.complete(Future.succeededFuture(proxy))) {
+                    // The waiter timed out in the meantime
+                    if (closed) {
+                      proxy.close();
+                    } else {
+                      release(proxy);
+                    }
+                  }
                 } else {
                   size--;
-                  waiter.handle(Future.failedFuture(ar.cause()));
+                  waiter.complete(Future.failedFuture(ar.cause()));
                   check();
                 }
               });
@@ -241,14 +708,16 @@ public class ConnectionPool {
                 int numInProgress = size - all.size();
                 int numToFail = waiters.size() - (maxWaitQueueSize + numInProgress);
                 while (numToFail-- > 0) {
-                  Handler<AsyncResult<Connection>> waiter = waiters.pollLast();
-                  waiter.handle(Future.failedFuture("Max waiter size reached"));
+                  // Reject the waiter that would be served last
+                  Waiter waiter = lifo ? waiters.pollOldest() : waiters.pollNewest();
+                  waiter.complete(Future.failedFuture("Max waiter size reached"));
                 }
               }
               break;
             }
           }
         }
+        fillIdle();
       } finally {
         checkInProgress = false;
       }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.ConnectionFactory;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A connection pool made of one {@link ConnectionPool} shard per event loop.
+ * <p>
+ * Each shard is confined to its event loop, a caller running on the event loop of a shard acquires its connection
+ * from this shard without a thread hop. When the shard of the caller cannot serve the request immediately, an idle
+ * connection is stolen from a sibling shard, otherwise the request waits in the shard of the caller.
+ * <p>
+ * The pool has a single shard bound to the creation context unless {@link PoolOptions#getEventLoopSize()} is
+ * positive, the {@link PoolOptions#getMaxSize() max size} and {@link PoolOptions#getMaxWaitQueueSize() max wait queue size}
+ * and {@link PoolOptions#getMinIdle() min idle} are split among the shards.
+ */
+public class ShardedConnectionPool {
+
+  private final ContextInternal[] contexts;
+  private final ConnectionPool[] shards;
+  private volatile Map<EventLoop, ConnectionPool> shardsByEventLoop;
+  private final AtomicInteger roundRobin = new AtomicInteger();
+
+  public ShardedConnectionPool(ConnectionFactory connector, ContextInternal context, PoolOptions options) {
+    this(connector, context, options, null);
+  }
+
+  /**
+   * Create a pool whose shards report to the {@code metrics}, the shards report concurrently from their event loop.
+   */
+  public ShardedConnectionPool(ConnectionFactory connector, ContextInternal context, PoolOptions options, SqlClientMetrics<?> metrics) {
+    contexts = shardContexts(context, options.getEventLoopSize(), options.getMaxSize());
+    int num = contexts.length;
+    shards = new ConnectionPool[num];
+    Map<EventLoop, ConnectionPool> shardsByEventLoop = new HashMap<>();
+    for (int i = 0;i < num;i++) {
+      ContextInternal shardContext = contexts[i];
+      PoolOptions shardOptions = new PoolOptions(options)
+        .setMaxSize(split(options.getMaxSize(), i, num))
+        .setMaxWaitQueueSize(split(options.getMaxWaitQueueSize(), i, num))
+        .setMinIdle(split(options.getMinIdle(), i, num));
+      ConnectionPool shard = new ConnectionPool(connector, shardContext, shardOptions, metrics);
+      shards[i] = shard;
+      shardsByEventLoop.put(shardContext.nettyEventLoop(), shard);
+    }
+    this.shardsByEventLoop = shardsByEventLoop;
+  }
+
+  private static ContextInternal[] shardContexts(ContextInternal context, int eventLoopSize, int maxSize) {
+    List<ContextInternal> contexts = new ArrayList<>();
+    contexts.add(context);
+    if (eventLoopSize > 1) {
+      VertxInternal vertx = context.owner();
+      int num = Math.min(eventLoopSize, maxSize);
+      List<EventLoop> eventLoops = new ArrayList<>();
+      eventLoops.add(context.nettyEventLoop());
+      // The event loop group is iterated in round robin, stop when it cycles
+      for (int i = 0;i < num * 2 && eventLoops.size() < num;i++) {
+        EventLoop eventLoop = vertx.getEventLoopGroup().next();
+        if (!eventLoops.contains(eventLoop)) {
+          eventLoops.add(eventLoop);
+          contexts.add(vertx.createEventLoopContext(eventLoop, null, Thread.currentThread().getContextClassLoader()));
+        }
+      }
+    }
+    return contexts.toArray(new ContextInternal[0]);
+  }
+
+  private static int split(int value, int index, int num) {
+    if (value < 0) {
+      return value;
+    }
+    return value / num + (index < value % num ? 1 : 0);
+  }
+
+  public int size() {
+    int size = 0;
+    for (ConnectionPool shard : shards) {
+      size += shard.size();
+    }
+    return size;
+  }
+
+  public int available() {
+    int available = 0;
+    for (ConnectionPool shard : shards) {
+      available += shard.available();
+    }
+    return available;
+  }
+
+  public void acquire(Handler<AsyncResult<Connection>> waiter) {
+    acquire(waiter, shards[0].acquireTimeout());
+  }
+
+  /**
+   * Acquire a connection to execute the prepared statement of the {@code sql}.
+   */
+  public void acquire(Handler<AsyncResult<Connection>> waiter, String sql) {
+    acquire(waiter, shards[0].acquireTimeout(), sql);
+  }
+
+  /**
+   * Acquire a connection with a specific acquire {@code timeout}.
+   *
+   * @param waiter the waiter
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   */
+  public void acquire(Handler<AsyncResult<Connection>> waiter, long timeout) {
+    acquire(waiter, timeout, null);
+  }
+
+  /**
+   * Acquire a connection to execute the prepared statement of the {@code sql}, within a shard
+   * an idle connection which has already prepared it is preferred.
+   *
+   * @param waiter the waiter
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param sql the SQL of the statement or {@code null}
+   */
+  public void acquire(Handler<AsyncResult<Connection>> waiter, long timeout, String sql) {
+    ConnectionPool local = localShard();
+    if (shards.length > 1 && !local.hasCapacity()) {
+      for (ConnectionPool shard : shards) {
+        if (shard != local && shard.hasIdle()) {
+          shard.steal(waiter, local, timeout, sql);
+          return;
+        }
+      }
+    }
+    local.acquire(waiter, timeout, sql);
+  }
+
+  /**
+   * Open connections in parallel in all the shards until each shard holds its min idle connections.
+   *
+   * @return a future completed when all the shards are warmed up
+   */
+  public Future<Void> warmUp() {
+    List<Future<Void>> futures = new ArrayList<>(shards.length);
+    for (ConnectionPool shard : shards) {
+      futures.add(shard.warmUp());
+    }
+    return CompositeFuture.all(new ArrayList<>(futures)).mapEmpty();
+  }
+
+  private ConnectionPool localShard() {
+    if (shards.length == 1) {
+      return shards[0];
+    }
+    ContextInternal current = (ContextInternal) Vertx.currentContext();
+    if (current != null) {
+      ConnectionPool shard = shardsByEventLoop.get(current.nettyEventLoop());
+      if (shard != null) {
+        return shard;
+      }
+    }
+    return shards[Math.floorMod(roundRobin.getAndIncrement(), shards.length)];
+  }
+
+  /**
+   * Close the shards, each shard is closed on its own event loop. The pool stops routing callers to the shards
+   * and releases the event loop contexts it created for them.
+   *
+   * @return a future completed when all the shards are closed
+   */
+  public Future<Void> close() {
+    shardsByEventLoop = Collections.emptyMap();
+    shards[0].close();
+    List<Future<Void>> futures = new ArrayList<>(shards.length - 1);
+    for (int i = 1;i < shards.length;i++) {
+      ConnectionPool shard = shards[i];
+      ContextInternal shardContext = contexts[i];
+      contexts[i] = null;
+      Promise<Void> promise = Promise.promise();
+      shardContext.runOnContext(v -> {
+        shard.close();
+        promise.complete();
+      });
+      futures.add(promise.future());
+    }
+    return CompositeFuture.all(new ArrayList<>(futures)).mapEmpty();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timer wheel, timeouts are hashed by deadline tick into a fixed number of slots so scheduling
+ * and cancelling a timeout are constant time operations and a single periodic timer drives all the timeouts.
+ * <p>
+ * The wheel is not thread safe, it must be used from the thread that owns it.
+ */
+class TimerWheel {
+
+  /**
+   * A timeout linked into a slot of the wheel, subclasses are embedded in the object they time out.
+   */
+  static abstract class Timeout {
+
+    private long tick;
+    private int slot = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    /**
+     * @return whether this timeout is scheduled in a wheel
+     */
+    boolean isScheduled() {
+      return slot >= 0;
+    }
+
+    /**
+     * Called when the timeout expires, it is not scheduled anymore and can be rescheduled.
+     *
+     * @param now the current time in milliseconds
+     */
+    protected abstract void expire(long now);
+  }
+
+  private final long tickMillis;
+  private final Timeout[] slots;
+  private final int mask;
+  private long currentTick;
+
+  /**
+   * @param tickMillis the duration of a tick in milliseconds
+   * @param size the number of slots, rounded up to a power of two
+   * @param now the current time in milliseconds
+   */
+  TimerWheel(long tickMillis, int size, long now) {
+    if (tickMillis < 1) {
+      throw new IllegalArgumentException("Tick duration must be > 0");
+    }
+    int n = 1;
+    while (n < size) {
+      n <<= 1;
+    }
+    this.tickMillis = tickMillis;
+    this.slots = new Timeout[n];
+    this.mask = n - 1;
+    this.currentTick = now / tickMillis;
+  }
+
+  /**
+   * Schedule the {@code timeout} at the given {@code deadline}, it is rescheduled when it is already scheduled.
+   * A timeout expires on the first {@link #advance} reaching the tick of its deadline.
+   *
+   * @param timeout the timeout
+   * @param deadline the deadline in milliseconds
+   */
+  void schedule(Timeout timeout, long deadline) {
+    cancel(timeout);
+    long tick = Math.max((deadline + tickMillis - 1) / tickMillis, currentTick + 1);
+    int slot = (int) (tick & mask);
+    Timeout head = slots[slot];
+    timeout.tick = tick;
+    timeout.slot = slot;
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    slots[slot] = timeout;
+  }
+
+  /**
+   * Cancel the {@code timeout}, nothing happens when it is not scheduled.
+   */
+  void cancel(Timeout timeout) {
+    if (timeout.slot < 0) {
+      return;
+    }
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      slots[timeout.slot] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.slot = -1;
+    timeout.prev = null;
+    timeout.next = null;
+  }
+
+  /**
+   * Advance the wheel to {@code now} and expire the timeouts whose deadline is reached.
+   *
+   * @param now the current time in milliseconds
+   */
+  void advance(long now) {
+    long nowTick = now / tickMillis;
+    if (nowTick <= currentTick) {
+      return;
+    }
+    // Each slot is visited at most once, even when the wheel is late by more than a revolution
+    long num = Math.min(nowTick - currentTick, slots.length);
+    List<Timeout> expired = null;
+    for (long i = 1;i <= num;i++) {
+      int slot = (int) ((currentTick + i) & mask);
+      Timeout timeout = slots[slot];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.tick <= nowTick) {
+          cancel(timeout);
+          if (expired == null) {
+            expired = new ArrayList<>();
+          }
+          expired.add(timeout);
+        }
+        timeout = next;
+      }
+    }
+    currentTick = nowTick;
+    if (expired != null) {
+      for (Timeout timeout : expired) {
+        timeout.expire(now);
+      }
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+/**
+ * An intrusive doubly linked queue of waiters ordered by arrival, a waiter can be polled from both ends
+ * and removed from the middle of the queue in constant time, e.g when its acquisition times out.
+ * <p>
+ * The queue is not thread safe, it must be used from the thread that owns it.
+ */
+class WaitQueue<N extends WaitQueue.Node> {
+
+  /**
+   * A node of the queue, it is also a timeout so the acquisition deadline of a waiter can be
+   * tracked by a {@link TimerWheel} without any extra allocation.
+   */
+  static abstract class Node extends TimerWheel.Timeout {
+
+    private Node older;
+    private Node newer;
+    private boolean queued;
+
+    /**
+     * @return whether this node is in a queue
+     */
+    boolean isQueued() {
+      return queued;
+    }
+  }
+
+  private Node oldest;
+  private Node newest;
+  private int size;
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Add {@code n} at the newest end of the queue.
+   */
+  void add(N n) {
+    Node node = n;
+    if (node.queued) {
+      throw new IllegalStateException();
+    }
+    node.queued = true;
+    node.older = newest;
+    node.newer = null;
+    if (newest != null) {
+      newest.newer = node;
+    } else {
+      oldest = node;
+    }
+    newest = node;
+    size++;
+  }
+
+  /**
+   * @return the oldest node removed from the queue or {@code null} when the queue is empty
+   */
+  N pollOldest() {
+    Node node = oldest;
+    if (node != null) {
+      remove(node);
+    }
+    return cast(node);
+  }
+
+  /**
+   * @return the newest node removed from the queue or {@code null} when the queue is empty
+   */
+  N pollNewest() {
+    Node node = newest;
+    if (node != null) {
+      remove(node);
+    }
+    return cast(node);
+  }
+
+  /**
+   * Remove the {@code node} from the queue, nothing happens when it is not queued.
+   */
+  void remove(Node node) {
+    if (!node.queued) {
+      return;
+    }
+    if (node.older != null) {
+      node.older.newer = node.newer;
+    } else {
+      oldest = node.newer;
+    }
+    if (node.newer != null) {
+      node.newer.older = node.older;
+    } else {
+      newest = node.older;
+    }
+    node.queued = false;
+    node.older = null;
+    node.newer = null;
+    size--;
+  }
+
+  @SuppressWarnings("unchecked")
+  private N cast(Node node) {
+    return (N) node;
+  }
+}
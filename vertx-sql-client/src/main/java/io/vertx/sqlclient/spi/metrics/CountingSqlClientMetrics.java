@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SqlClientMetrics} maintaining counters and gauges, the counters are monotonic and the times are in
+ * nanoseconds so they can be bound to a meter registry, e.g. with Micrometer:
+ *
+ * <pre>
+ * FunctionTimer.builder("sql.commands", metrics, CountingSqlClientMetrics::commandCount,
+ *   CountingSqlClientMetrics::commandTimeTotal, TimeUnit.NANOSECONDS).register(registry);
+ * Gauge.builder("sql.pool.in.use", metrics, CountingSqlClientMetrics::inUse).register(registry);
+ * FunctionCounter.builder("sql.rows", metrics, CountingSqlClientMetrics::rows).register(registry);
+ * </pre>
+ */
+public class CountingSqlClientMetrics implements SqlClientMetrics<Long> {
+
+  private final AtomicInteger waitQueueSize = new AtomicInteger();
+  private final LongAdder waitCount = new LongAdder();
+  private final LongAdder waitTimeTotal = new LongAdder();
+  private final LongAdder waitFailures = new LongAdder();
+  private final AtomicInteger inUse = new AtomicInteger();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final LongAdder connectionCreationCount = new LongAdder();
+  private final LongAdder connectionCreationTimeTotal = new LongAdder();
+  private final LongAdder connectionCreationFailures = new LongAdder();
+  private final AtomicInteger inflight = new AtomicInteger();
+  private final LongAccumulator maxInflight = new LongAccumulator(Math::max, 0);
+  private final LongAdder commandCount = new LongAdder();
+  private final LongAdder commandTimeTotal = new LongAdder();
+  private final LongAdder commandFailures = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder bytesRead = new LongAdder();
+  private final LongAdder bytesWritten = new LongAdder();
+
+  @Override
+  public void waiterEnqueued() {
+    waitQueueSize.incrementAndGet();
+  }
+
+  @Override
+  public void waiterDequeued(long waitTimeNanos, boolean acquired) {
+    waitQueueSize.decrementAndGet();
+    waitCount.increment();
+    waitTimeTotal.add(waitTimeNanos);
+    if (!acquired) {
+      waitFailures.increment();
+    }
+  }
+
+  @Override
+  public void connectionAcquired() {
+    inUse.incrementAndGet();
+  }
+
+  @Override
+  public void connectionReleased() {
+    inUse.decrementAndGet();
+  }
+
+  @Override
+  public void connectionCreated(long durationNanos, boolean succeeded) {
+    connectionCreationCount.increment();
+    connectionCreationTimeTotal.add(durationNanos);
+    if (succeeded) {
+      connections.incrementAndGet();
+    } else {
+      connectionCreationFailures.increment();
+    }
+  }
+
+  @Override
+  public void connectionClosed() {
+    connections.decrementAndGet();
+  }
+
+  @Override
+  public Long commandBegin(int inflight) {
+    this.inflight.incrementAndGet();
+    maxInflight.accumulate(inflight);
+    return System.nanoTime();
+  }
+
+  @Override
+  public void commandEnd(Long command, boolean succeeded) {
+    inflight.decrementAndGet();
+    commandCount.increment();
+    commandTimeTotal.add(System.nanoTime() - command);
+    if (!succeeded) {
+      commandFailures.increment();
+    }
+  }
+
+  @Override
+  public void rowsDecoded(int rows) {
+    this.rows.add(rows);
+  }
+
+  @Override
+  public void bytesRead(long numberOfBytes) {
+    bytesRead.add(numberOfBytes);
+  }
+
+  @Override
+  public void bytesWritten(long numberOfBytes) {
+    bytesWritten.add(numberOfBytes);
+  }
+
+  /**
+   * @return the number of requests waiting for a connection
+   */
+  public int waitQueueSize() {
+    return waitQueueSize.get();
+  }
+
+  /**
+   * @return the number of requests that left the wait queue
+   */
+  public long waitCount() {
+    return waitCount.sum();
+  }
+
+  /**
+   * @return the total time spent by the requests in the wait queue in nanoseconds
+   */
+  public long waitTimeTotal() {
+    return waitTimeTotal.sum();
+  }
+
+  /**
+   * @return the number of requests that did not get a connection
+   */
+  public long waitFailures() {
+    return waitFailures.sum();
+  }
+
+  /**
+   * @return the number of connections acquired from the pool
+   */
+  public int inUse() {
+    return inUse.get();
+  }
+
+  /**
+   * @return the number of connections held by the pool
+   */
+  public int connections() {
+    return connections.get();
+  }
+
+  /**
+   * @return the number of connection attempts
+   */
+  public long connectionCreationCount() {
+    return connectionCreationCount.sum();
+  }
+
+  /**
+   * @return the total time spent connecting in nanoseconds
+   */
+  public long connectionCreationTimeTotal() {
+    return connectionCreationTimeTotal.sum();
+  }
+
+  /**
+   * @return the number of failed connection attempts
+   */
+  public long connectionCreationFailures() {
+    return connectionCreationFailures.sum();
+  }
+
+  /**
+   * @return the number of commands in flight on all the connections
+   */
+  public int inflight() {
+    return inflight.get();
+  }
+
+  /**
+   * @return the maximum number of commands in flight observed on a connection
+   */
+  public long maxInflight() {
+    return maxInflight.get();
+  }
+
+  /**
+   * @return the number of completed commands
+   */
+  public long commandCount() {
+    return commandCount.sum();
+  }
+
+  /**
+   * @return the total time between the write of the commands and their response in nanoseconds
+   */
+  public long commandTimeTotal() {
+    return commandTimeTotal.sum();
+  }
+
+  /**
+   * @return the number of failed commands
+   */
+  public long commandFailures() {
+    return commandFailures.sum();
+  }
+
+  /**
+   * @return the number of decoded rows
+   */
+  public long rows() {
+    return rows.sum();
+  }
+
+  /**
+   * @return the number of bytes read
+   */
+  public long bytesRead() {
+    return bytesRead.sum();
+  }
+
+  /**
+   * @return the number of bytes written
+   */
+  public long bytesWritten() {
+    return bytesWritten.sum();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.spi.metrics.Metrics;
+
+/**
+ * The metrics of a pool and of its connections.
+ * <p>
+ * The pool methods are called on the event loops of the pool and the connection methods on the event loops of the
+ * connections, an implementation can be called concurrently when the pool uses several event loops.
+ *
+ * @param <C> the type of the command metric
+ */
+public interface SqlClientMetrics<C> extends Metrics {
+
+  /**
+   * Called when a request for a connection is added to the wait queue of the pool.
+   */
+  default void waiterEnqueued() {
+  }
+
+  /**
+   * Called when a request for a connection leaves the wait queue of the pool.
+   *
+   * @param waitTimeNanos the time spent in the wait queue in nanoseconds
+   * @param acquired whether the request acquired a connection, otherwise it timed out or was rejected
+   */
+  default void waiterDequeued(long waitTimeNanos, boolean acquired) {
+  }
+
+  /**
+   * Called when a connection of the pool is acquired.
+   */
+  default void connectionAcquired() {
+  }
+
+  /**
+   * Called when a connection acquired from the pool is released or closed.
+   */
+  default void connectionReleased() {
+  }
+
+  /**
+   * Called when the pool has created a connection.
+   *
+   * @param durationNanos the time spent to connect and authenticate in nanoseconds
+   * @param succeeded whether the connection was established
+   */
+  default void connectionCreated(long durationNanos, boolean succeeded) {
+  }
+
+  /**
+   * Called when a connection of the pool is closed.
+   */
+  default void connectionClosed() {
+  }
+
+  /**
+   * Called when a command is written to the server.
+   *
+   * @param inflight the number of commands in flight on the connection including this command
+   * @return the command metric
+   */
+  default C commandBegin(int inflight) {
+    return null;
+  }
+
+  /**
+   * Called when the response of a command has been received.
+   *
+   * @param command the command metric returned by {@link #commandBegin(int)}
+   * @param succeeded whether the command succeeded
+   */
+  default void commandEnd(C command, boolean succeeded) {
+  }
+
+  /**
+   * Called when the rows of a result have been decoded.
+   *
+   * @param rows the number of rows
+   */
+  default void rowsDecoded(int rows) {
+  }
+
+  /**
+   * Called when bytes have been read from a connection.
+   *
+   * @param numberOfBytes the number of bytes
+   */
+  default void bytesRead(long numberOfBytes) {
+  }
+
+  /**
+   * Called when bytes have been written to a connection.
+   *
+   * @param numberOfBytes the number of bytes
+   */
+  default void bytesWritten(long numberOfBytes) {
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * Create the {@link SqlClientMetrics} of the pools, the factory is loaded with the {@link java.util.ServiceLoader}
+ * when a pool is created.
+ */
+public interface SqlClientMetricsFactory {
+
+  /**
+   * Create the metrics of a pool.
+   *
+   * @param vertx the Vert.x instance of the pool
+   * @param connectOptions the options of the connections
+   * @param poolOptions the options of the pool
+   * @return the metrics or {@code null} when the pool is not measured
+   */
+  SqlClientMetrics<?> create(Vertx vertx, SqlConnectOptions connectOptions, PoolOptions poolOptions);
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PreparedStatementCacheTest {
+
+  private List<CommandBase<?>> scheduled;
+  private PreparedStatementCache cache;
+
+  @Before
+  public void setUp() {
+    scheduled = new ArrayList<>();
+    Connection conn = new Connection() {
+      @Override
+      public void init(Holder holder) {
+      }
+      @Override
+      public boolean isSsl() {
+        return false;
+      }
+      @Override
+      public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
+        scheduled.add(cmd);
+      }
+      @Override
+      public void close(Holder holder) {
+      }
+      @Override
+      public int getProcessId() {
+        return 0;
+      }
+      @Override
+      public int getSecretKey() {
+        return 0;
+      }
+    };
+    cache = new PreparedStatementCache(2, conn);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    prepare("a");
+    prepare("b");
+    assertNotNull(cache.get("a"));
+    prepare("c");
+    assertEquals(2, cache.size());
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("a"));
+    assertNotNull(cache.get("c"));
+    assertEquals(1, cache.evictions());
+    assertEquals(1, scheduled.size());
+    assertEquals("b", ((CloseStatementCommand) scheduled.get(0)).statement().sql());
+  }
+
+  @Test
+  public void testDoNotEvictInFlightStatement() {
+    PreparedStatementCache.CachedPreparedStatement a = cache.create("a");
+    PreparedStatementCache.CachedPreparedStatement b = cache.create("b");
+    assertNull(cache.create("c"));
+    a.handle(Future.succeededFuture(statement("a")));
+    assertNotNull(cache.create("c"));
+    assertEquals(1, cache.evictions());
+    assertSame(b, cache.get("b"));
+    assertNull(cache.get("a"));
+  }
+
+  @Test
+  public void testDoNotCacheFailure() {
+    PreparedStatementCache.CachedPreparedStatement a = cache.create("a");
+    Throwable[] failure = new Throwable[1];
+    a.get(ar -> failure[0] = ar.cause());
+    Exception cause = new Exception();
+    a.handle(Future.failedFuture(cause));
+    assertSame(cause, failure[0]);
+    assertEquals(0, cache.size());
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.evictions());
+  }
+
+  @Test
+  public void testRemoveStaleStatement() {
+    prepare("a");
+    prepare("b");
+    PreparedStatement a = cache.get("a").resp.result();
+    cache.remove(statement("a"));
+    assertEquals(2, cache.size());
+    assertTrue(scheduled.isEmpty());
+    cache.remove(a);
+    assertEquals(1, cache.size());
+    assertFalse(cache.contains("a"));
+    assertEquals(1, scheduled.size());
+    assertSame(a, ((CloseStatementCommand) scheduled.get(0)).statement());
+    prepare("c");
+    assertEquals(2, cache.size());
+    assertEquals(1, scheduled.size());
+  }
+
+  @Test
+  public void testCounters() {
+    assertNull(cache.get("a"));
+    prepare("a");
+    assertNotNull(cache.get("a"));
+    assertNotNull(cache.get("a"));
+    assertEquals(2, cache.hits());
+    assertEquals(1, cache.misses());
+  }
+
+  private void prepare(String sql) {
+    cache.create(sql).handle(Future.succeededFuture(statement(sql)));
+  }
+
+  private static PreparedStatement statement(String sql) {
+    return new PreparedStatement() {
+      @Override
+      public ParamDesc paramDesc() {
+        return null;
+      }
+      @Override
+      public RowDesc rowDesc() {
+        return null;
+      }
+      @Override
+      public String sql() {
+        return sql;
+      }
+      @Override
+      public String prepare(TupleInternal values) {
+        return null;
+      }
+    };
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RowBaseTest {
+
+  private static final byte[] KINDS = {
+    RowBase.BYTE, RowBase.SHORT, RowBase.INTEGER, RowBase.LONG,
+    RowBase.FLOAT, RowBase.DOUBLE, RowBase.BOOLEAN, RowBase.BOXED, RowBase.INTEGER
+  };
+
+  private static RowBase row() {
+    RowBase row = new RowBase(KINDS.length, KINDS);
+    row.addLongValue(-3);
+    row.addLongValue(300);
+    row.addLongValue(70000);
+    row.addLongValue(Long.MAX_VALUE);
+    row.addDoubleValue(1.5F);
+    row.addDoubleValue(2.25D);
+    row.addBooleanValue(true);
+    row.addValue("text");
+    row.addValue(null);
+    return row;
+  }
+
+  @Test
+  public void testGetValue() {
+    RowBase row = row();
+    assertEquals(KINDS.length, row.size());
+    assertEquals((byte) -3, row.getValue(0));
+    assertEquals((short) 300, row.getValue(1));
+    assertEquals(70000, row.getValue(2));
+    assertEquals(Long.MAX_VALUE, row.getValue(3));
+    assertEquals(1.5F, row.getValue(4));
+    assertEquals(2.25D, row.getValue(5));
+    assertEquals(true, row.getValue(6));
+    assertEquals("text", row.getValue(7));
+    assertNull(row.getValue(8));
+    assertNull(row.getValue(9));
+    assertEquals("[-3,300,70000,9223372036854775807,1.5,2.25,true,text,null]", row.toString());
+  }
+
+  @Test
+  public void testTypedGetters() {
+    RowBase row = row();
+    assertEquals(Short.valueOf((short) -3), row.getShort(0));
+    assertEquals(Integer.valueOf(300), row.getInteger(1));
+    assertEquals(Long.valueOf(70000), row.getLong(2));
+    assertEquals(Integer.valueOf(-1), row.getInteger(3));
+    assertEquals(Double.valueOf(1.5D), row.getDouble(4));
+    assertEquals(Integer.valueOf(2), row.getInteger(5));
+    assertEquals(Float.valueOf(2.25F), row.getFloat(5));
+    assertEquals(Boolean.TRUE, row.getBoolean(6));
+    assertNull(row.getInteger(6));
+    assertNull(row.getBoolean(2));
+    assertNull(row.getInteger(7));
+    assertNull(row.getInteger(8));
+    assertNull(row.getBoolean(8));
+  }
+
+  @Test
+  public void testSetValue() {
+    RowBase row = row();
+    row.setValue(2, "changed");
+    assertEquals("changed", row.getValue(2));
+    assertEquals(Long.MAX_VALUE, row.getValue(3));
+    assertEquals(true, row.getValue(6));
+    assertNull(row.getValue(8));
+  }
+
+  @Test
+  public void testAddBoxedValue() {
+    RowBase row = new RowBase(2, new byte[] { RowBase.INTEGER, RowBase.LONG });
+    row.addLongValue(4);
+    row.addValue(5L);
+    assertEquals(4, row.getValue(0));
+    assertEquals(5L, row.getValue(1));
+  }
+
+  @Test
+  public void testLazyValue() {
+    int[] count = new int[1];
+    RowBase row = new RowBase(1, new byte[] { RowBase.BOXED });
+    row.addValue((LazyValue) () -> {
+      count[0]++;
+      return "decoded";
+    });
+    assertEquals(0, count[0]);
+    assertEquals("decoded", row.getValue(0));
+    assertEquals("decoded", row.getString(0));
+    assertEquals(1, count[0]);
+  }
+}
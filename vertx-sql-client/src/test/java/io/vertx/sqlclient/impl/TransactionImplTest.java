@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import io.vertx.sqlclient.impl.command.TxCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class TransactionImplTest {
+
+  private Vertx vertx;
+  private ContextInternal context;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private static class RecordingConnection implements Connection {
+
+    final List<CommandBase<?>> commands = new ArrayList<>();
+    final List<Promise<?>> promises = new ArrayList<>();
+    boolean commitWithBegin;
+
+    @Override
+    public <R> boolean scheduleWithBegin(CommandBase<R> cmd, Promise<Void> begin, Promise<R> handler, Handler<AsyncResult<Void>> commit) {
+      if (commit != null && commitWithBegin) {
+        schedule(TxCommand.BEGIN, begin);
+        schedule(cmd, handler);
+        Promise<Void> promise = Promise.promise();
+        promise.future().onComplete(commit);
+        schedule(TxCommand.COMMIT, promise);
+        return true;
+      }
+      return Connection.super.scheduleWithBegin(cmd, begin, handler, commit);
+    }
+
+    @Override
+    public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
+      commands.add(cmd);
+      promises.add(handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> void complete(int index, R result) {
+      ((Promise<R>) promises.get(index)).complete(result);
+    }
+
+    void fail(int index, Throwable err) {
+      promises.get(index).fail(err);
+    }
+
+    @Override
+    public void init(Holder holder) {
+    }
+
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+
+    @Override
+    public void close(Holder holder) {
+    }
+
+    @Override
+    public int getProcessId() {
+      return 0;
+    }
+
+    @Override
+    public int getSecretKey() {
+      return 0;
+    }
+  }
+
+  private static SimpleQueryCommand<Void> statement(String sql) {
+    return new SimpleQueryCommand<>(sql, false, false, QueryCommandBase.NULL_COLLECTOR, QueryResultHandler.NOOP_HANDLER);
+  }
+
+  private void runOnContext(Runnable test) throws Exception {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      try {
+        test.run();
+        done.complete(null);
+      } catch (Throwable t) {
+        done.completeExceptionally(t);
+      }
+    });
+    done.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testSequential() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> {});
+      tx.schedule(statement("s1"), Promise.promise());
+      tx.schedule(statement("s2"), Promise.promise());
+      assertEquals(0, conn.commands.size());
+    });
+    runOnContext(() -> {
+      // the BEGIN is sent with the first statement
+      assertEquals(2, conn.commands.size());
+      assertSame(TxCommand.BEGIN, conn.commands.get(0));
+      conn.complete(0, null);
+      assertEquals(2, conn.commands.size());
+      conn.complete(1, true);
+      assertEquals(3, conn.commands.size());
+    });
+  }
+
+  @Test
+  public void testCommitWithoutStatement() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    runOnContext(() -> {
+      int[] disposed = new int[1];
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> disposed[0]++);
+      assertTrue(tx.commit().succeeded());
+      assertEquals(1, disposed[0]);
+      assertTrue(tx.commit().failed());
+      assertEquals(0, conn.commands.size());
+    });
+  }
+
+  @Test
+  public void testCommitWithStatement() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    conn.commitWithBegin = true;
+    Promise<Boolean> s1 = Promise.promise();
+    Promise<Boolean> s2 = Promise.promise();
+    AtomicReference<Future<Void>> commit = new AtomicReference<>();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> {});
+      tx.schedule(statement("s1"), s1);
+      commit.set(tx.commit());
+      tx.schedule(statement("s2"), s2);
+    });
+    runOnContext(() -> {
+      assertEquals(3, conn.commands.size());
+      assertSame(TxCommand.COMMIT, conn.commands.get(2));
+      assertTrue(s2.future().failed());
+      conn.complete(0, null);
+      conn.complete(1, true);
+      conn.complete(2, null);
+      assertTrue(s1.future().succeeded());
+      assertTrue(commit.get().succeeded());
+    });
+  }
+
+  @Test
+  public void testCommitWithStatementFailure() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    conn.commitWithBegin = true;
+    Promise<Boolean> s1 = Promise.promise();
+    AtomicReference<Future<Void>> commit = new AtomicReference<>();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> {});
+      tx.schedule(statement("s1"), s1);
+      commit.set(tx.commit());
+    });
+    runOnContext(() -> {
+      conn.complete(0, null);
+      Exception failure = new Exception();
+      conn.fail(1, failure);
+      conn.fail(2, failure);
+      assertTrue(commit.get().failed());
+      // the aborted transaction is rolled back
+      assertEquals(4, conn.commands.size());
+      assertSame(TxCommand.ROLLBACK, conn.commands.get(3));
+      conn.complete(3, null);
+      assertSame(failure, s1.future().cause());
+    });
+  }
+
+  @Test
+  public void testPipelined() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    int[] disposed = new int[1];
+    Promise<Boolean> s1 = Promise.promise();
+    Promise<Boolean> s2 = Promise.promise();
+    AtomicReference<Future<Void>> commit = new AtomicReference<>();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> disposed[0]++);
+      tx.pipelined(true);
+      tx.schedule(statement("s1"), s1);
+      tx.schedule(statement("s2"), s2);
+      commit.set(tx.commit());
+    });
+    runOnContext(() -> {
+      // the statements are sent after the response of the BEGIN, the COMMIT waits for their response
+      assertEquals(2, conn.commands.size());
+      conn.complete(0, null);
+      assertEquals(3, conn.commands.size());
+      conn.complete(1, true);
+      assertTrue(s1.future().succeeded());
+      assertEquals(3, conn.commands.size());
+      conn.complete(2, true);
+      assertTrue(s2.future().succeeded());
+      assertEquals(4, conn.commands.size());
+      assertSame(TxCommand.COMMIT, conn.commands.get(3));
+      conn.complete(3, null);
+      assertTrue(commit.get().succeeded());
+      assertEquals(1, disposed[0]);
+    });
+  }
+
+  @Test
+  public void testPipelinedFailure() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    Promise<Boolean> s1 = Promise.promise();
+    Promise<Boolean> s2 = Promise.promise();
+    Promise<Boolean> s3 = Promise.promise();
+    AtomicReference<Future<Void>> commit = new AtomicReference<>();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> {});
+      tx.pipelined(true);
+      tx.schedule(statement("s1"), s1);
+      tx.schedule(statement("s2"), s2);
+      tx.schedule(statement("s3"), s3);
+      commit.set(tx.commit());
+    });
+    runOnContext(() -> {
+      assertEquals(2, conn.commands.size());
+      conn.complete(0, null);
+      assertEquals(4, conn.commands.size());
+      conn.complete(1, true);
+      Exception failure = new Exception();
+      conn.fail(2, failure);
+      assertTrue(commit.get().failed());
+      // the ROLLBACK is sent after the response of the statement in flight
+      assertEquals(4, conn.commands.size());
+      conn.complete(3, true);
+      assertTrue(s3.future().failed());
+      assertEquals(5, conn.commands.size());
+      assertSame(TxCommand.ROLLBACK, conn.commands.get(4));
+      assertFalse(s2.future().isComplete());
+      conn.complete(4, null);
+      assertSame(failure, s2.future().cause());
+      assertTrue(s1.future().succeeded());
+    });
+  }
+
+  @Test
+  public void testPipelinedBeginFailure() throws Exception {
+    RecordingConnection conn = new RecordingConnection();
+    int[] disposed = new int[1];
+    int[] aborted = new int[1];
+    Promise<Boolean> s1 = Promise.promise();
+    Promise<Boolean> s2 = Promise.promise();
+    AtomicReference<Future<Void>> commit = new AtomicReference<>();
+    runOnContext(() -> {
+      TransactionImpl tx = new TransactionImpl(context, conn, v -> disposed[0]++);
+      tx.abortHandler(v -> aborted[0]++);
+      tx.pipelined(true);
+      tx.schedule(statement("s1"), s1);
+      tx.schedule(statement("s2"), s2);
+      commit.set(tx.commit());
+    });
+    runOnContext(() -> {
+      assertEquals(2, conn.commands.size());
+      Exception failure = new Exception();
+      conn.fail(0, failure);
+      // the following statements are not executed outside of the transaction
+      assertEquals(2, conn.commands.size());
+      assertSame(failure, s2.future().cause());
+      assertSame(failure, commit.get().cause());
+      assertEquals(1, disposed[0]);
+      // the statement sent with the BEGIN fails as well
+      conn.complete(1, true);
+      assertSame(failure, s1.future().cause());
+      assertEquals(2, conn.commands.size());
+    });
+    runOnContext(() -> {
+      assertEquals(1, aborted[0]);
+      assertEquals(1, disposed[0]);
+    });
+  }
+}
@@ -21,8 +21,13 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.WaitQueueOrder;
+import io.vertx.sqlclient.spi.metrics.CountingSqlClientMetrics;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
 
 public class ConnectionPoolTest {
@@ -267,4 +272,414 @@ public class ConnectionPoolTest {
     pool.acquire(holder1);
     assertEquals(1, queue.size());
   }
+
+  @Test
+  public void testIdleTimeout() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setIdleTimeout(10)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    now[0] = 5;
+    holder.close();
+    now[0] = 14;
+    pool.runCleaner();
+    assertEquals(1, pool.available());
+    assertEquals(0, conn.closed);
+    now[0] = 15;
+    pool.runCleaner();
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testIdleTimeoutRestartsOnRelease() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setIdleTimeout(10)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    holder1.close();
+    now[0] = 8;
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertTrue(holder2.isConnected());
+    holder2.init();
+    now[0] = 12;
+    pool.runCleaner();
+    holder2.close();
+    now[0] = 20;
+    pool.runCleaner();
+    assertEquals(1, pool.available());
+    assertEquals(0, conn.closed);
+  }
+
+  @Test
+  public void testMaxLifetime() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setMaxLifetime(10)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    holder1.close();
+    now[0] = 10;
+    pool.runCleaner();
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testMaxLifetimeOnRelease() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setMaxLifetime(10)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    now[0] = 10;
+    holder.close();
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testValidation() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setValidationInterval(10)
+      .setValidationIntervalUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    holder1.close();
+    now[0] = 10;
+    pool.runCleaner();
+    assertEquals(1, conn.scheduled.size());
+    assertEquals(0, pool.available());
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertFalse(holder2.isComplete());
+    conn.scheduled.poll().complete(null);
+    assertTrue(holder2.isConnected());
+    holder2.init();
+    holder2.close();
+    now[0] = 20;
+    pool.runCleaner();
+    assertEquals(1, conn.scheduled.size());
+    conn.scheduled.poll().fail(new Exception());
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testWarmUp() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(4)
+      .setMinIdle(2));
+    Future<Void> fut = pool.warmUp();
+    assertEquals(2, queue.size());
+    assertEquals(2, pool.size());
+    queue.connect(new SimpleConnection());
+    assertFalse(fut.isComplete());
+    queue.connect(new SimpleConnection());
+    assertTrue(fut.succeeded());
+    assertEquals(2, pool.available());
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertTrue(holder.isConnected());
+    // The idle floor is topped up
+    assertEquals(1, queue.size());
+    assertEquals(3, pool.size());
+  }
+
+  @Test
+  public void testWarmUpFailure() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(4)
+      .setMinIdle(2));
+    Future<Void> fut = pool.warmUp();
+    queue.connect(new SimpleConnection());
+    Exception cause = new Exception();
+    queue.fail(cause);
+    assertSame(cause, fut.cause());
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.available());
+    // Retried on the next cleaner period
+    pool.acquire(new SimpleHolder());
+    assertEquals(0, queue.size());
+    pool.runCleaner();
+    assertEquals(2, queue.size());
+  }
+
+  @Test
+  public void testMinIdleBoundedByMaxSize() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(2)
+      .setMinIdle(4));
+    pool.warmUp();
+    assertEquals(2, queue.size());
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testMinIdleTopUpOnClose() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(2)
+      .setMinIdle(1));
+    pool.warmUp();
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    assertEquals(1, pool.available());
+    conn.close();
+    assertEquals(0, pool.available());
+    assertEquals(1, queue.size());
+    queue.connect(new SimpleConnection());
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testIdleTimeoutKeepsMinIdle() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(2)
+      .setMinIdle(1)
+      .setIdleTimeout(10)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder1);
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn1);
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    assertEquals(2, pool.available());
+    now[0] = 10;
+    pool.runCleaner();
+    assertEquals(1, pool.available());
+    assertEquals(1, conn1.closed + conn2.closed);
+    now[0] = 30;
+    pool.runCleaner();
+    assertEquals(1, pool.available());
+    assertEquals(1, conn1.closed + conn2.closed);
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testAcquireTimeout() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setAcquireTimeout(10)
+      .setAcquireTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder2);
+    now[0] = 5;
+    pool.acquire(holder3);
+    now[0] = 10;
+    pool.runCleaner();
+    assertTrue(holder2.isFailed());
+    assertFalse(holder3.isComplete());
+    holder1.close();
+    assertTrue(holder3.isConnected());
+  }
+
+  @Test
+  public void testAcquireTimeoutWhileConnecting() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setAcquireTimeout(10)
+      .setAcquireTimeoutUnit(TimeUnit.MILLISECONDS)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    now[0] = 10;
+    pool.runCleaner();
+    assertTrue(holder.isFailed());
+    // The late connection is pooled
+    queue.connect(new SimpleConnection());
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testAcquireTimeoutPerRequest() {
+    long[] now = { 0 };
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setPoolCleanerPeriod(1), () -> now[0]);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    queue.connect(new SimpleConnection());
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder2);
+    pool.acquire(holder3, 10);
+    now[0] = 100;
+    pool.runCleaner();
+    assertFalse(holder2.isComplete());
+    assertTrue(holder3.isFailed());
+  }
+
+  @Test
+  public void testLifoOrder() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setWaitQueueOrder(WaitQueueOrder.LIFO));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    queue.connect(new SimpleConnection());
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder2);
+    pool.acquire(holder3);
+    holder1.close();
+    assertFalse(holder2.isComplete());
+    assertTrue(holder3.isConnected());
+  }
+
+  @Test
+  public void testLifoRejectsOldest() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions()
+      .setMaxSize(1)
+      .setMaxWaitQueueSize(1)
+      .setWaitQueueOrder(WaitQueueOrder.LIFO));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    queue.connect(new SimpleConnection());
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertFalse(holder2.isComplete());
+    pool.acquire(holder3);
+    assertTrue(holder2.isFailed());
+    assertFalse(holder3.isComplete());
+  }
+
+  @Test
+  public void testAcquirePreparedConnection() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 2);
+    SimpleHolder holder1 = new SimpleHolder();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder1);
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    SimpleConnection conn2 = new SimpleConnection();
+    conn2.prepared.add("SELECT 1");
+    queue.connect(conn1);
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    assertEquals(2, pool.available());
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3, 0, "SELECT 1");
+    assertTrue(holder3.isConnected());
+    assertTrue(holder3.connection().isPrepared("SELECT 1"));
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4, 0, "SELECT 2");
+    assertTrue(holder4.isConnected());
+    assertFalse(holder4.connection().isPrepared("SELECT 1"));
+  }
+
+  @Test
+  public void testMetrics() {
+    CountingSqlClientMetrics metrics = new CountingSqlClientMetrics();
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, new PoolOptions().setMaxSize(1), metrics);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    assertEquals(1, metrics.waitQueueSize());
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    assertSame(metrics, conn.metrics);
+    assertEquals(1, metrics.connections());
+    assertEquals(1, metrics.connectionCreationCount());
+    assertEquals(0, metrics.waitQueueSize());
+    assertEquals(1, metrics.waitCount());
+    holder1.init();
+    assertEquals(1, metrics.inUse());
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertEquals(1, metrics.waitQueueSize());
+    holder1.close();
+    assertTrue(holder2.isConnected());
+    assertEquals(0, metrics.inUse());
+    assertEquals(0, metrics.waitQueueSize());
+    assertEquals(2, metrics.waitCount());
+    holder2.init();
+    assertEquals(1, metrics.inUse());
+    conn.close();
+    holder2.close();
+    assertEquals(0, metrics.connections());
+    assertEquals(0, metrics.inUse());
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    queue.fail(new Exception());
+    assertTrue(holder3.isFailed());
+    assertEquals(2, metrics.connectionCreationCount());
+    assertEquals(1, metrics.connectionCreationFailures());
+    assertEquals(1, metrics.waitFailures());
+    assertEquals(0, metrics.waitQueueSize());
+  }
 }
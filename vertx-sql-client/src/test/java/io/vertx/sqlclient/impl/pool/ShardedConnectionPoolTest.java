@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.ConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RunWith(VertxUnitRunner.class)
+public class ShardedConnectionPoolTest {
+
+  private VertxInternal vertx;
+  private Map<SimpleConnection, Thread> connectionThreads;
+  private ConnectionFactory factory;
+
+  @Before
+  public void setUp() {
+    vertx = (VertxInternal) Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+    connectionThreads = new ConcurrentHashMap<>();
+    factory = new ConnectionFactory() {
+      @Override
+      public Future<Connection> connect() {
+        throw new AssertionError();
+      }
+      @Override
+      public Future<Connection> connect(ContextInternal context) {
+        SimpleConnection conn = new SimpleConnection();
+        connectionThreads.put(conn, Thread.currentThread());
+        return context.succeededFuture(conn);
+      }
+    };
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testAcquireOnLocalEventLoop(TestContext ctx) {
+    ContextInternal context = newContext();
+    ShardedConnectionPool pool = new ShardedConnectionPool(factory, context, new PoolOptions().setMaxSize(2).setEventLoopSize(2));
+    Context other = otherEventLoopContext(context);
+    Async async = ctx.async();
+    other.runOnContext(v1 -> {
+      Thread thread = Thread.currentThread();
+      pool.acquire(ctx.asyncAssertSuccess(conn -> {
+        // Served synchronously by the shard of the caller event loop
+        ctx.assertEquals(thread, Thread.currentThread());
+        ctx.assertEquals(thread, connectionThreads.get(connectionOf(conn)));
+        async.complete();
+      }));
+    });
+  }
+
+  @Test
+  public void testStealIdleConnection(TestContext ctx) {
+    ContextInternal context = newContext();
+    ShardedConnectionPool pool = new ShardedConnectionPool(factory, context, new PoolOptions().setMaxSize(2).setEventLoopSize(2));
+    Context other = otherEventLoopContext(context);
+    Async async = ctx.async();
+    other.runOnContext(v1 -> {
+      // Create a connection in the other shard and release it
+      pool.acquire(ctx.asyncAssertSuccess(conn1 -> {
+        SimpleHolder holder1 = new SimpleHolder();
+        conn1.init(holder1);
+        conn1.close(holder1);
+        Thread otherThread = connectionThreads.get(connectionOf(conn1));
+        context.runOnContext(v2 -> {
+          pool.acquire(ctx.asyncAssertSuccess(conn2 -> {
+            // Keep the single connection of this shard busy
+            conn2.init(new SimpleHolder());
+            ctx.assertNotEquals(otherThread, connectionThreads.get(connectionOf(conn2)));
+            pool.acquire(ctx.asyncAssertSuccess(conn3 -> {
+              ctx.assertEquals(otherThread, connectionThreads.get(connectionOf(conn3)));
+              ctx.assertEquals(2, pool.size());
+              async.complete();
+            }));
+          }));
+        });
+      }));
+    });
+  }
+
+  @Test
+  public void testSingleShardByDefault(TestContext ctx) {
+    ContextInternal context = newContext();
+    ShardedConnectionPool pool = new ShardedConnectionPool(factory, context, new PoolOptions().setMaxSize(2));
+    Context other = otherEventLoopContext(context);
+    Async async = ctx.async();
+    other.runOnContext(v1 -> {
+      Thread thread = Thread.currentThread();
+      pool.acquire(ctx.asyncAssertSuccess(conn -> {
+        ctx.assertNotEquals(thread, connectionThreads.get(connectionOf(conn)));
+        async.complete();
+      }));
+    });
+  }
+
+  @Test
+  public void testWarmUpShards(TestContext ctx) {
+    ContextInternal context = newContext();
+    ShardedConnectionPool pool = new ShardedConnectionPool(factory, context, new PoolOptions().setMaxSize(4).setMinIdle(2).setEventLoopSize(2));
+    pool.warmUp().onComplete(ctx.asyncAssertSuccess(v -> {
+      ctx.assertEquals(2, pool.size());
+      ctx.assertEquals(2, pool.available());
+      // One connection per event loop
+      ctx.assertEquals(2, new HashSet<>(connectionThreads.values()).size());
+    }));
+  }
+
+  @Test
+  public void testCloseShards(TestContext ctx) {
+    ContextInternal context = newContext();
+    ShardedConnectionPool pool = new ShardedConnectionPool(factory, context, new PoolOptions().setMaxSize(2).setMinIdle(2).setEventLoopSize(2));
+    pool.warmUp().onComplete(ctx.asyncAssertSuccess(v1 -> {
+      ctx.assertEquals(2, connectionThreads.size());
+      pool.close().onComplete(ctx.asyncAssertSuccess(v2 -> {
+        for (SimpleConnection conn : connectionThreads.keySet()) {
+          ctx.assertEquals(1, conn.closed);
+        }
+        pool.acquire(ctx.asyncAssertFailure());
+      }));
+    }));
+  }
+
+  private ContextInternal newContext() {
+    EventLoop eventLoop = (EventLoop) vertx.getEventLoopGroup().next();
+    return vertx.createEventLoopContext(eventLoop, null, Thread.currentThread().getContextClassLoader());
+  }
+
+  private Context otherEventLoopContext(ContextInternal context) {
+    ContextInternal other;
+    do {
+      other = newContext();
+    } while (other.nettyEventLoop() == context.nettyEventLoop());
+    return other;
+  }
+
+  private SimpleConnection connectionOf(Connection conn) {
+    for (SimpleConnection simple : connectionThreads.keySet()) {
+      if (simple.holder == conn) {
+        return simple;
+      }
+    }
+    throw new AssertionError();
+  }
+}
@@ -23,13 +23,20 @@ import io.vertx.core.Promise;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.spi.metrics.SqlClientMetrics;
 
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 class SimpleConnection implements Connection {
 
   Holder holder;
   int closed;
+  final ArrayDeque<Promise<?>> scheduled = new ArrayDeque<>();
+  final Set<String> prepared = new HashSet<>();
+  SqlClientMetrics<?> metrics;
 
   @Override
   public void init(Holder holder) {
@@ -52,7 +59,17 @@ class SimpleConnection implements Connection {
 
   @Override
   public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
-    throw new UnsupportedOperationException();
+    scheduled.add(handler);
+  }
+
+  @Override
+  public boolean isPrepared(String sql) {
+    return prepared.contains(sql);
+  }
+
+  @Override
+  public void metrics(SqlClientMetrics<?> metrics) {
+    this.metrics = metrics;
   }
 
   @Override
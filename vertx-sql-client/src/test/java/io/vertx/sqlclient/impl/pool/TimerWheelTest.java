@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TimerWheelTest {
+
+  private final List<String> expired = new ArrayList<>();
+
+  private class Named extends TimerWheel.Timeout {
+    final String name;
+    Named(String name) {
+      this.name = name;
+    }
+    @Override
+    protected void expire(long now) {
+      expired.add(name);
+    }
+  }
+
+  @Test
+  public void testExpire() {
+    TimerWheel wheel = new TimerWheel(10, 8, 0);
+    Named a = new Named("a");
+    Named b = new Named("b");
+    wheel.schedule(a, 25);
+    wheel.schedule(b, 40);
+    assertTrue(a.isScheduled());
+    wheel.advance(29);
+    assertEquals(0, expired.size());
+    wheel.advance(30);
+    assertEquals(1, expired.size());
+    assertEquals("a", expired.get(0));
+    assertFalse(a.isScheduled());
+    assertTrue(b.isScheduled());
+    wheel.advance(40);
+    assertEquals(2, expired.size());
+    assertEquals("b", expired.get(1));
+  }
+
+  @Test
+  public void testCancel() {
+    TimerWheel wheel = new TimerWheel(10, 8, 0);
+    Named a = new Named("a");
+    Named b = new Named("b");
+    Named c = new Named("c");
+    wheel.schedule(a, 10);
+    wheel.schedule(b, 10);
+    wheel.schedule(c, 10);
+    wheel.cancel(b);
+    assertFalse(b.isScheduled());
+    wheel.cancel(b);
+    wheel.advance(10);
+    assertEquals(2, expired.size());
+    assertFalse(expired.contains("b"));
+  }
+
+  @Test
+  public void testReschedule() {
+    TimerWheel wheel = new TimerWheel(10, 8, 0);
+    Named a = new Named("a");
+    wheel.schedule(a, 10);
+    wheel.schedule(a, 50);
+    wheel.advance(40);
+    assertEquals(0, expired.size());
+    wheel.advance(50);
+    assertEquals(1, expired.size());
+  }
+
+  @Test
+  public void testDeadlineBeyondRevolution() {
+    TimerWheel wheel = new TimerWheel(10, 8, 0);
+    Named a = new Named("a");
+    // 8 slots of 10 ms, the deadline falls in the same slot than tick 2 after two revolutions
+    wheel.schedule(a, 180);
+    wheel.advance(20);
+    wheel.advance(100);
+    assertEquals(0, expired.size());
+    wheel.advance(170);
+    assertEquals(0, expired.size());
+    wheel.advance(180);
+    assertEquals(1, expired.size());
+  }
+
+  @Test
+  public void testLateAdvance() {
+    TimerWheel wheel = new TimerWheel(10, 8, 0);
+    Named a = new Named("a");
+    Named b = new Named("b");
+    wheel.schedule(a, 30);
+    wheel.schedule(b, 1000);
+    wheel.advance(500);
+    assertEquals(1, expired.size());
+    wheel.advance(1000);
+    assertEquals(2, expired.size());
+  }
+
+  @Test
+  public void testPastDeadline() {
+    TimerWheel wheel = new TimerWheel(10, 8, 100);
+    Named a = new Named("a");
+    wheel.schedule(a, 50);
+    wheel.advance(105);
+    assertEquals(0, expired.size());
+    wheel.advance(110);
+    assertEquals(1, expired.size());
+  }
+}
@@ -107,6 +107,54 @@ public abstract class PreparedQueryTestBase {
     }));
   }
 
+  @Test
+  public void testPreparedScan(TestContext ctx) {
+    AtomicInteger visited = new AtomicInteger();
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedScan(statement("SELECT * FROM immutable WHERE id=", ""), Tuple.of(1), cursor -> {
+        visited.incrementAndGet();
+        ctx.assertEquals(2, cursor.size());
+        ctx.assertEquals("id", cursor.getColumnName(0).toLowerCase());
+        ctx.assertFalse(cursor.isNull(0));
+        ctx.assertEquals(1, cursor.getInt(0));
+        ctx.assertEquals(1L, cursor.getLong(0));
+        ctx.assertEquals(1D, cursor.getDouble(0));
+        ctx.assertEquals("fortune: No such file or directory", cursor.getString(1));
+      }, ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(1, result.size());
+        ctx.assertEquals(1, visited.get());
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedScanAllRows(TestContext ctx) {
+    AtomicInteger sum = new AtomicInteger();
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedScan("SELECT id FROM immutable", Tuple.tuple(), cursor -> {
+        sum.addAndGet(cursor.getInt(0));
+      }, ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(12, result.size());
+        ctx.assertEquals(78, sum.get());
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedScanVisitorFailure(TestContext ctx) {
+    RuntimeException cause = new RuntimeException();
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedScan("SELECT id FROM immutable", Tuple.tuple(), cursor -> {
+        throw cause;
+      }, ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(cause, err);
+        conn.close();
+      }));
+    }));
+  }
+
   @Test
   public void testPreparedQueryWithWrappedParams(TestContext ctx) {
     connect(ctx.asyncAssertSuccess(conn -> {